@@ -20,6 +20,9 @@ package org.apache.maven.shared.release;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author Edwin Punzalan
@@ -40,6 +43,8 @@ public class ReleaseResult {
 
     private long endTime;
 
+    private final Map<String, Long> metrics = new LinkedHashMap<>();
+
     private static final String LS = System.getProperty("line.separator");
 
     /**
@@ -149,6 +154,38 @@ public class ReleaseResult {
         this.endTime = endTime;
     }
 
+    /**
+     * Record a metric of the release, like the number of milliseconds spent waiting for the SCM server. A previous
+     * value of the same name is replaced.
+     *
+     * @param name the name of the metric
+     * @param value the value of the metric
+     * @since 3.4
+     */
+    public void addMetric(String name, long value) {
+        metrics.put(name, value);
+    }
+
+    /**
+     * Record the metrics of another result, typically the one of a single phase.
+     *
+     * @param metrics the metrics to add
+     * @since 3.4
+     */
+    public void addMetrics(Map<String, Long> metrics) {
+        this.metrics.putAll(metrics);
+    }
+
+    /**
+     * Get the metrics recorded during the release, in the order they were first recorded.
+     *
+     * @return the metrics by name
+     * @since 3.4
+     */
+    public Map<String, Long> getMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
     private String getStackTrace(Exception e) {
         ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
 
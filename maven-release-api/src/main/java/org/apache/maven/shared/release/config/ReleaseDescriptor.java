@@ -139,6 +139,41 @@ public interface ReleaseDescriptor {
      */
     boolean isPushChanges();
 
+    /**
+     * Get whether pushing is deferred to the end of the release: the commits and the tag or the branch are only created
+     * locally, and are pushed all at once (atomically) by the last phase. Only relevant if pushChanges is true.
+     *
+     * @return boolean
+     * @since 3.4
+     */
+    boolean isDeferPush();
+
+    /**
+     * Get whether the tag is created on the server from the revision of the working copy plus the POMs rewritten for
+     * the release, in a single commit, without committing the release POMs first. Only implemented for Subversion.
+     *
+     * @return boolean
+     * @since 3.4
+     */
+    boolean isRemoteTaggingWithModifications();
+
+    /**
+     * Get whether the reactor spans several SCM roots, which are then checked, committed, tagged and branched
+     * separately.
+     *
+     * @return boolean
+     * @since 3.4
+     */
+    boolean isMultipleScmRoots();
+
+    /**
+     * Get the maximum number of SCM roots worked on concurrently. Only relevant if multipleScmRoots is true.
+     *
+     * @return int
+     * @since 3.4
+     */
+    int getScmRootThreads();
+
     /**
      * Get default version to use for new working copy.
      *
@@ -165,6 +200,23 @@ public interface ReleaseDescriptor {
      */
     String getScmRelativePathProjectDirectory();
 
+    /**
+     * Get the revision the project was checked out at to perform the release.
+     *
+     * @return the checkout revision, or {@code null} if not recorded
+     * @since 3.4
+     */
+    String getScmCheckoutRevision();
+
+    /**
+     * Get whether an existing checkout of the release label is reused, provided it is still at the recorded revision
+     * and has no local modifications.
+     *
+     * @return boolean
+     * @since 3.4
+     */
+    boolean isReuseCheckout();
+
     /**
      * Get the directory where the tag will be checked out.
      *
@@ -179,6 +231,15 @@ public interface ReleaseDescriptor {
      */
     String getPerformGoals();
 
+    /**
+     * Get the number of threads used to build the project while executing the perform goals, in the format of the
+     * Maven {@code -T} option.
+     *
+     * @return the perform threads, or {@code null} if the build is not parallel
+     * @since 3.4
+     */
+    String getPerformThreads();
+
     /**
      * Get default version to use for the tagged release or the new branch.
      *
@@ -194,6 +255,15 @@ public interface ReleaseDescriptor {
      */
     String getScmReleasedPomRevision();
 
+    /**
+     * Get the revision of the working copy before the release was committed, recorded when pushing to a Git
+     * repository is deferred.
+     *
+     * @return the pre-release revision, or {@code null} if not recorded
+     * @since 3.4
+     */
+    String getScmPreReleaseRevision();
+
     /**
      * Get whether to add the model schema to the top of the rewritten POM if it wasn't there already. If
      * <code>false</code> then the root element will remain untouched.
@@ -239,6 +309,14 @@ public interface ReleaseDescriptor {
      */
     String getCompletedPhase();
 
+    /**
+     * Get the last completed phase of the release perform.
+     *
+     * @return the name of the last completed perform phase
+     * @since 3.4
+     */
+    String getCompletedPerformPhase();
+
     /**
      * Method getCheckModificationExcludes.
      *
@@ -246,6 +324,14 @@ public interface ReleaseDescriptor {
      */
     List<String> getCheckModificationExcludes();
 
+    /**
+     * Get the files written by the release since the working copy was checked for modifications or last committed.
+     *
+     * @return list of absolute file paths
+     * @since 3.4
+     */
+    List<String> getChangedFiles();
+
     /**
      * Get additional arguments to pass to any executed Maven process.
      *
@@ -260,6 +346,41 @@ public interface ReleaseDescriptor {
      */
     String getPreparationGoals();
 
+    /**
+     * Get the number of threads used to build the project while executing the preparation goals, in the format of the
+     * Maven {@code -T} option.
+     *
+     * @return the preparation threads, or {@code null} if the build is not parallel
+     * @since 3.4
+     */
+    String getPreparationThreads();
+
+    /**
+     * Get whether the preparation goals only build the projects whose POM has been rewritten for the release, and the
+     * projects depending on them.
+     *
+     * @return boolean
+     * @since 3.4
+     */
+    boolean isIncrementalPreparationGoals();
+
+    /**
+     * Get whether the tests are only run by the preparation goals. The perform goals then skip the tests if the
+     * checked-out release tag has the same content as the build verified by the preparation goals.
+     *
+     * @return boolean
+     * @since 3.4
+     */
+    boolean isVerifyOnce();
+
+    /**
+     * Get the directory in which the content of the builds verified by the preparation goals is stashed.
+     *
+     * @return the verification directory
+     * @since 3.4
+     */
+    String getVerificationDirectory();
+
     /**
      * Get the goals to execute in on completion of preparation for the release.
      *
@@ -396,6 +517,15 @@ public interface ReleaseDescriptor {
      */
     int getWaitBeforeTagging();
 
+    /**
+     * Get whether the server is polled for the revision of the committed release POMs before tagging, instead of
+     * waiting unconditionally. The wait before tagging is then the maximum number of seconds to poll.
+     *
+     * @return boolean
+     * @since 3.4
+     */
+    boolean isPollBeforeTagging();
+
     /**
      * Get the directory where the release is performed.
      *
@@ -565,6 +695,38 @@ public interface ReleaseDescriptor {
      */
     void setScmRelativePathProjectDirectory(String scmRelativePathProjectDirectory);
 
+    /**
+     * <p>setScmCheckoutRevision.</p>
+     *
+     * @param scmCheckoutRevision a {@link java.lang.String} object
+     * @since 3.4
+     */
+    void setScmCheckoutRevision(String scmCheckoutRevision);
+
+    /**
+     * <p>setScmPreReleaseRevision.</p>
+     *
+     * @param scmPreReleaseRevision a {@link java.lang.String} object
+     * @since 3.4
+     */
+    void setScmPreReleaseRevision(String scmPreReleaseRevision);
+
+    /**
+     * <p>addChangedFile.</p>
+     *
+     * @param changedFile a {@link java.lang.String} object
+     * @since 3.4
+     */
+    void addChangedFile(String changedFile);
+
+    /**
+     * <p>setChangedFiles.</p>
+     *
+     * @param changedFiles a {@link java.util.List} object
+     * @since 3.4
+     */
+    void setChangedFiles(List<String> changedFiles);
+
     /**
      * <p>setScmSourceUrl.</p>
      *
@@ -603,4 +765,14 @@ public interface ReleaseDescriptor {
      * @return {@code true} if externals should be pinned, {@code false} otherwise
      */
     boolean isPinExternals();
+
+    /**
+     * Get the regular expression grouping the reactor modules into version streams (release train mode). It is matched
+     * against <code>groupId:path</code>, the path being relative to the root project with <code>/</code> separators;
+     * the first capturing group (or the whole match) identifies the stream.
+     *
+     * @return the version stream pattern, or {@code null} to map every module individually
+     * @since 3.4
+     */
+    String getVersionStreamPattern();
 }
@@ -64,4 +64,25 @@ public interface ReleaseEnvironment {
      * @return a {@link java.io.File} object
      */
     File getJavaHome();
+
+    /**
+     * Returns the time after which an execution of Maven goals is aborted, and the forked processes are killed.
+     *
+     * @return the timeout in seconds, <code>0</code> for none
+     * @since 3.4
+     */
+    default int getGoalsTimeout() {
+        return 0;
+    }
+
+    /**
+     * Returns the file receiving the output of the executions of Maven goals, for the executors which redirect it
+     * instead of logging it.
+     *
+     * @return the log file, or <code>null</code> to use the output of the current process
+     * @since 3.4
+     */
+    default File getGoalsLogFile() {
+        return null;
+    }
 }
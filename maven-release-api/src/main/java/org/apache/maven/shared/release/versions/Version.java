@@ -261,6 +261,16 @@ public class Version implements Comparable<Version>, Cloneable {
         return annotation;
     }
 
+    /**
+     * <p>Getter for the field <code>annotationSeparator</code>.</p>
+     *
+     * @return a {@link java.lang.String} object
+     * @since 3.4
+     */
+    public String getAnnotationSeparator() {
+        return annotationSeparator;
+    }
+
     /**
      * <p>Getter for the field <code>annotationRevSeparator</code>.</p>
      *
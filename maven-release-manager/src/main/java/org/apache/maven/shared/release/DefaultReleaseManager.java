@@ -23,6 +23,7 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -38,8 +39,13 @@ import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder.BuilderRe
 import org.apache.maven.shared.release.config.ReleaseDescriptorStore;
 import org.apache.maven.shared.release.config.ReleaseDescriptorStoreException;
 import org.apache.maven.shared.release.config.ReleaseUtils;
+import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
+import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.apache.maven.shared.release.phase.ReleasePhase;
+import org.apache.maven.shared.release.phase.RepeatablePhase;
 import org.apache.maven.shared.release.phase.ResourceGenerator;
+import org.apache.maven.shared.release.phase.ScmRootPhase;
+import org.apache.maven.shared.release.phase.ScmRootsReleasePhase;
 import org.apache.maven.shared.release.strategy.Strategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -112,6 +118,17 @@ public class DefaultReleaseManager implements ReleaseManager {
 
     private void prepare(ReleasePrepareRequest prepareRequest, ReleaseResult result)
             throws ReleaseExecutionException, ReleaseFailureException {
+        ReleaseManagerListener previousListener =
+                attachListener(prepareRequest.getReleaseEnvironment(), prepareRequest.getReleaseManagerListener());
+        try {
+            runPrepare(prepareRequest, result);
+        } finally {
+            detachListener(prepareRequest.getReleaseEnvironment(), previousListener);
+        }
+    }
+
+    private void runPrepare(ReleasePrepareRequest prepareRequest, ReleaseResult result)
+            throws ReleaseExecutionException, ReleaseFailureException {
 
         final ReleaseDescriptorBuilder builder = prepareRequest.getReleaseDescriptorBuilder();
 
@@ -140,6 +157,8 @@ public class DefaultReleaseManager implements ReleaseManager {
                     }
                 });
 
+        copyVersionMappingToReleaseDescriptor(prepareRequest.getVersionMappingFile(), builder);
+
         BuilderReleaseDescriptor config;
         if (BooleanUtils.isNotFalse(prepareRequest.getResume())) {
             config = loadReleaseDescriptor(builder, prepareRequest.getReleaseManagerListener());
@@ -176,11 +195,7 @@ public class DefaultReleaseManager implements ReleaseManager {
         for (int i = index + 1; i < preparePhases.size(); i++) {
             String name = preparePhases.get(i);
 
-            ReleasePhase phase = releasePhases.get(name);
-
-            if (phase == null) {
-                throw new ReleaseExecutionException("Unable to find phase '" + name + "' to execute");
-            }
+            ReleasePhase phase = getPhase(name, config);
 
             phaseStart(prepareRequest.getReleaseManagerListener(), name);
 
@@ -196,6 +211,7 @@ public class DefaultReleaseManager implements ReleaseManager {
             } finally {
                 if (result != null && phaseResult != null) {
                     result.appendOutput(phaseResult.getOutput());
+                    result.addMetrics(phaseResult.getMetrics());
                 }
             }
 
@@ -226,11 +242,7 @@ public class DefaultReleaseManager implements ReleaseManager {
         goalStart(rollbackRequest.getReleaseManagerListener(), "rollback", rollbackPhases);
 
         for (String name : rollbackPhases) {
-            ReleasePhase phase = releasePhases.get(name);
-
-            if (phase == null) {
-                throw new ReleaseExecutionException("Unable to find phase '" + name + "' to execute");
-            }
+            ReleasePhase phase = getPhase(name, releaseDescriptor);
 
             phaseStart(rollbackRequest.getReleaseManagerListener(), name);
             phase.execute(
@@ -270,6 +282,17 @@ public class DefaultReleaseManager implements ReleaseManager {
 
     private void perform(ReleasePerformRequest performRequest, ReleaseResult result)
             throws ReleaseExecutionException, ReleaseFailureException {
+        ReleaseManagerListener previousListener =
+                attachListener(performRequest.getReleaseEnvironment(), performRequest.getReleaseManagerListener());
+        try {
+            runPerform(performRequest, result);
+        } finally {
+            detachListener(performRequest.getReleaseEnvironment(), previousListener);
+        }
+    }
+
+    private void runPerform(ReleasePerformRequest performRequest, ReleaseResult result)
+            throws ReleaseExecutionException, ReleaseFailureException {
 
         // https://issues.apache.org/jira/browse/MRELEASE-1104 because stageRepository is an additional arg
         // and only adding at perform stage it's not available during prepare and so not save the not available
@@ -297,7 +320,7 @@ public class DefaultReleaseManager implements ReleaseManager {
             builder.setActivateProfiles(allProfiles);
         }
 
-        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(builder);
+        BuilderReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(builder);
 
         Strategy releaseStrategy = getStrategy(releaseDescriptor.getReleaseStrategyId());
 
@@ -305,18 +328,38 @@ public class DefaultReleaseManager implements ReleaseManager {
 
         goalStart(performRequest.getReleaseManagerListener(), "perform", performPhases);
 
-        for (String name : performPhases) {
-            ReleasePhase phase = releasePhases.get(name);
+        boolean resume = BooleanUtils.isTrue(performRequest.getResume());
+        boolean dryRun = BooleanUtils.isTrue(performRequest.getDryRun());
+        // release prepare always records its completed phase, so it is only known if release.properties was read
+        boolean prepared = releaseDescriptor.getCompletedPhase() != null;
+
+        int index = resume ? performPhases.indexOf(releaseDescriptor.getCompletedPerformPhase()) : -1;
+
+        if (index == performPhases.size() - 1) {
+            logInfo(
+                    result,
+                    "Release perform already completed. You can start it again using the -Dresume=false flag");
+            goalEnd(performRequest.getReleaseManagerListener());
+            return;
+        } else if (index >= 0) {
+            logInfo(result, "Resuming release perform from phase '" + performPhases.get(index + 1) + "'");
+        }
+
+        for (int i = 0; i < performPhases.size(); i++) {
+            String name = performPhases.get(i);
 
-            if (phase == null) {
-                throw new ReleaseExecutionException("Unable to find phase '" + name + "' to execute");
+            ReleasePhase phase = getPhase(name, releaseDescriptor);
+
+            if (i <= index && !(phase instanceof RepeatablePhase)) {
+                phaseSkip(performRequest.getReleaseManagerListener(), name);
+                continue;
             }
 
             phaseStart(performRequest.getReleaseManagerListener(), name);
 
             ReleaseResult phaseResult = null;
             try {
-                if (BooleanUtils.isTrue(performRequest.getDryRun())) {
+                if (dryRun) {
                     phaseResult = phase.simulate(
                             releaseDescriptor,
                             performRequest.getReleaseEnvironment(),
@@ -330,6 +373,19 @@ public class DefaultReleaseManager implements ReleaseManager {
             } finally {
                 if (result != null && phaseResult != null) {
                     result.appendOutput(phaseResult.getOutput());
+                    result.addMetrics(phaseResult.getMetrics());
+                }
+            }
+
+            // recorded even without resume, so that a failed perform can be resumed, but only for a prepared release:
+            // a perform from a bare SCM URL doesn't leave a release.properties behind
+            if (!dryRun && prepared && i > index) {
+                releaseDescriptor.setCompletedPerformPhase(name);
+                try {
+                    configStore.get().write(releaseDescriptor);
+                } catch (ReleaseDescriptorStoreException e) {
+                    throw new ReleaseExecutionException(
+                            "Error writing release properties after completing perform phase", e);
                 }
             }
 
@@ -361,6 +417,8 @@ public class DefaultReleaseManager implements ReleaseManager {
                     }
                 });
 
+        copyVersionMappingToReleaseDescriptor(branchRequest.getVersionMappingFile(), builder);
+
         ReleaseDescriptor releaseDescriptor = loadReleaseDescriptor(builder, branchRequest.getReleaseManagerListener());
 
         boolean dryRun = BooleanUtils.isTrue(branchRequest.getDryRun());
@@ -372,11 +430,7 @@ public class DefaultReleaseManager implements ReleaseManager {
         goalStart(branchRequest.getReleaseManagerListener(), "branch", branchPhases);
 
         for (String name : branchPhases) {
-            ReleasePhase phase = releasePhases.get(name);
-
-            if (phase == null) {
-                throw new ReleaseExecutionException("Unable to find phase '" + name + "' to execute");
-            }
+            ReleasePhase phase = getPhase(name, releaseDescriptor);
 
             phaseStart(branchRequest.getReleaseManagerListener(), name);
 
@@ -418,6 +472,8 @@ public class DefaultReleaseManager implements ReleaseManager {
                     }
                 });
 
+        copyVersionMappingToReleaseDescriptor(updateVersionsRequest.getVersionMappingFile(), builder);
+
         ReleaseDescriptor releaseDescriptor =
                 loadReleaseDescriptor(builder, updateVersionsRequest.getReleaseManagerListener());
 
@@ -428,11 +484,7 @@ public class DefaultReleaseManager implements ReleaseManager {
         goalStart(updateVersionsRequest.getReleaseManagerListener(), "updateVersions", updateVersionsPhases);
 
         for (String name : updateVersionsPhases) {
-            ReleasePhase phase = releasePhases.get(name);
-
-            if (phase == null) {
-                throw new ReleaseExecutionException("Unable to find phase '" + name + "' to execute");
-            }
+            ReleasePhase phase = getPhase(name, releaseDescriptor);
 
             phaseStart(updateVersionsRequest.getReleaseManagerListener(), name);
             phase.execute(
@@ -465,6 +517,20 @@ public class DefaultReleaseManager implements ReleaseManager {
         }
     }
 
+    private void copyVersionMappingToReleaseDescriptor(File versionMappingFile, ReleaseDescriptorBuilder builder)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        if (versionMappingFile == null) {
+            return;
+        }
+
+        try {
+            ReleaseUtils.copyVersionMappingToReleaseDescriptor(versionMappingFile, builder);
+        } catch (IOException e) {
+            throw new ReleaseExecutionException(
+                    "Error reading version mapping file " + versionMappingFile + ": " + e.getMessage(), e);
+        }
+    }
+
     private BuilderReleaseDescriptor loadReleaseDescriptor(
             ReleaseDescriptorBuilder builder, ReleaseManagerListener listener) throws ReleaseExecutionException {
         return ReleaseUtils.buildReleaseDescriptor(loadReleaseDescriptorBuilder(builder, listener));
@@ -518,6 +584,33 @@ public class DefaultReleaseManager implements ReleaseManager {
         }
     }
 
+    /**
+     * Lets the Maven executors notify the listener of the progress of the builds they run, until
+     * {@link #detachListener(ReleaseEnvironment, ReleaseManagerListener)} is called.
+     *
+     * @return the listener the environment had before
+     */
+    ReleaseManagerListener attachListener(ReleaseEnvironment releaseEnvironment, ReleaseManagerListener listener) {
+        if (!(releaseEnvironment instanceof DefaultReleaseEnvironment)) {
+            return null;
+        }
+        DefaultReleaseEnvironment environment = (DefaultReleaseEnvironment) releaseEnvironment;
+        ReleaseManagerListener previousListener = environment.getReleaseManagerListener();
+        if (listener != null && previousListener == null) {
+            environment.setReleaseManagerListener(listener);
+        }
+        return previousListener;
+    }
+
+    /**
+     * Restores the listener the environment had before the goal.
+     */
+    void detachListener(ReleaseEnvironment releaseEnvironment, ReleaseManagerListener previousListener) {
+        if (releaseEnvironment instanceof DefaultReleaseEnvironment) {
+            ((DefaultReleaseEnvironment) releaseEnvironment).setReleaseManagerListener(previousListener);
+        }
+    }
+
     void goalStart(ReleaseManagerListener listener, String goal, List<String> phases) {
         if (listener != null) {
             listener.goalStart(goal, phases);
@@ -554,6 +647,20 @@ public class DefaultReleaseManager implements ReleaseManager {
         }
     }
 
+    private ReleasePhase getPhase(String name, ReleaseDescriptor releaseDescriptor) throws ReleaseExecutionException {
+        ReleasePhase phase = releasePhases.get(name);
+
+        if (phase == null) {
+            throw new ReleaseExecutionException("Unable to find phase '" + name + "' to execute");
+        }
+
+        if (releaseDescriptor.isMultipleScmRoots() && phase instanceof ScmRootPhase) {
+            phase = new ScmRootsReleasePhase(phase);
+        }
+
+        return phase;
+    }
+
     private Strategy getStrategy(String strategyId) throws ReleaseFailureException {
         Strategy strategy = strategies.get(strategyId);
         if (strategy == null) {
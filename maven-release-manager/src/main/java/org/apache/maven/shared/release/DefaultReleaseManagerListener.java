@@ -100,6 +100,13 @@ public class DefaultReleaseManagerListener implements ReleaseManagerListener {
         phases = null;
     }
 
+    @Override
+    public void projectEnd(String project, boolean success, long durationMillis) {
+        if (log.isDebugEnabled()) {
+            log.debug((success ? "built " : "failed to build ") + project + " in " + durationMillis + " ms");
+        }
+    }
+
     public void error(String reason) {
         log.error("error during phase " + (currentPhase + 1) + "/" + phases.size() + " " + phases.get(currentPhase)
                 + ": " + reason);
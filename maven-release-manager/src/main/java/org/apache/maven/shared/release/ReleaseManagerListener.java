@@ -64,4 +64,24 @@ public interface ReleaseManagerListener {
      * @param reason a {@link java.lang.String} object
      */
     void error(String reason);
+
+    /**
+     * Notifies that the Maven build run by a phase starts building a project of its reactor.
+     *
+     * @param project the <code>groupId:artifactId</code> of the project, or its name if the build does not print it
+     * @param index the position of the project in the reactor, starting at 1, or 0 if unknown
+     * @param count the number of projects in the reactor, or 0 if unknown
+     * @since 3.4
+     */
+    default void projectStart(String project, int index, int count) {}
+
+    /**
+     * Notifies that the Maven build run by a phase is done with a project of its reactor.
+     *
+     * @param project the <code>groupId:artifactId</code> of the project, or its name if the build does not print it
+     * @param success whether the project has been built successfully
+     * @param durationMillis the time spent building the project, in milliseconds
+     * @since 3.4
+     */
+    default void projectEnd(String project, boolean success, long durationMillis) {}
 }
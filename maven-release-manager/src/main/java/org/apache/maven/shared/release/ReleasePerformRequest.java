@@ -33,6 +33,9 @@ public class ReleasePerformRequest extends AbstractReleaseRequest {
     // using Boolean to detect if has been set explicitly
     private Boolean clean;
 
+    // using Boolean to detect if has been set explicitly
+    private Boolean resume;
+
     private ReleaseEnvironment releaseEnvironment;
 
     /**
@@ -71,6 +74,26 @@ public class ReleasePerformRequest extends AbstractReleaseRequest {
         this.clean = clean;
     }
 
+    /**
+     * <p>Getter for the field <code>resume</code>.</p>
+     *
+     * @return the resume
+     * @since 3.4
+     */
+    public Boolean getResume() {
+        return resume;
+    }
+
+    /**
+     * <p>Setter for the field <code>resume</code>.</p>
+     *
+     * @param resume the resume to set
+     * @since 3.4
+     */
+    public void setResume(Boolean resume) {
+        this.resume = resume;
+    }
+
     /**
      * <p>Getter for the field <code>releaseEnvironment</code>.</p>
      *
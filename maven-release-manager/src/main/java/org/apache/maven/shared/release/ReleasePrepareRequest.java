@@ -18,6 +18,7 @@
  */
 package org.apache.maven.shared.release;
 
+import java.io.File;
 import java.util.Properties;
 
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
@@ -39,6 +40,8 @@ public class ReleasePrepareRequest extends AbstractReleaseRequest {
 
     private Properties userProperties;
 
+    private File versionMappingFile;
+
     /**
      * <p>Getter for the field <code>dryRun</code>.</p>
      *
@@ -110,4 +113,24 @@ public class ReleasePrepareRequest extends AbstractReleaseRequest {
     public void setUserProperties(Properties userProperties) {
         this.userProperties = userProperties;
     }
+
+    /**
+     * <p>Getter for the field <code>versionMappingFile</code>.</p>
+     *
+     * @return the file with the project versions to use, or {@code null}
+     * @since 3.4
+     */
+    public File getVersionMappingFile() {
+        return versionMappingFile;
+    }
+
+    /**
+     * <p>Setter for the field <code>versionMappingFile</code>.</p>
+     *
+     * @param versionMappingFile the file with the project versions to use
+     * @since 3.4
+     */
+    public void setVersionMappingFile(File versionMappingFile) {
+        this.versionMappingFile = versionMappingFile;
+    }
 }
@@ -141,6 +141,13 @@ public class PropertiesReleaseDescriptorStore implements ReleaseDescriptorStore
     public void write(BuilderReleaseDescriptor config, File file) throws ReleaseDescriptorStoreException {
         Properties properties = new Properties();
         properties.setProperty("completedPhase", config.getCompletedPhase());
+        if (config.getCompletedPerformPhase() != null) {
+            properties.setProperty("completedPerformPhase", config.getCompletedPerformPhase());
+        }
+        if (!config.getChangedFiles().isEmpty()) {
+            properties.setProperty(
+                    "changedFiles", StringUtils.join(config.getChangedFiles().iterator(), File.pathSeparator));
+        }
         if (config.isCommitByProject()) // default is false
         {
             properties.setProperty("commitByProject", "true");
@@ -182,6 +189,15 @@ public class PropertiesReleaseDescriptorStore implements ReleaseDescriptorStore
         if (config.getScmReleaseLabel() != null) {
             properties.setProperty("scm.tag", config.getScmReleaseLabel());
         }
+        if (config.getScmCheckoutRevision() != null) {
+            properties.setProperty("scm.checkoutRevision", config.getScmCheckoutRevision());
+        }
+        if (config.getScmPreReleaseRevision() != null) {
+            properties.setProperty("scm.preReleaseRevision", config.getScmPreReleaseRevision());
+        }
+        if (config.getScmRelativePathProjectDirectory() != null) {
+            properties.setProperty("scm.relativePathProjectDirectory", config.getScmRelativePathProjectDirectory());
+        }
         if (config.getScmTagNameFormat() != null) {
             properties.setProperty("scm.tagNameFormat", config.getScmTagNameFormat());
         }
@@ -214,6 +230,12 @@ public class PropertiesReleaseDescriptorStore implements ReleaseDescriptorStore
         if (config.getPreparationGoals() != null) {
             properties.setProperty("preparationGoals", config.getPreparationGoals());
         }
+        if (config.getPreparationThreads() != null) {
+            properties.setProperty("preparationThreads", config.getPreparationThreads());
+        }
+        if (config.getVerificationDirectory() != null) {
+            properties.setProperty("verificationDirectory", config.getVerificationDirectory());
+        }
         if (config.getCompletionGoals() != null) {
             properties.setProperty("completionGoals", config.getCompletionGoals());
         }
@@ -236,11 +258,24 @@ public class PropertiesReleaseDescriptorStore implements ReleaseDescriptorStore
                 "exec.snapshotReleasePluginAllowed", Boolean.toString(config.isSnapshotReleasePluginAllowed()));
 
         properties.setProperty("remoteTagging", Boolean.toString(config.isRemoteTagging()));
+        properties.setProperty(
+                "remoteTaggingWithModifications", Boolean.toString(config.isRemoteTaggingWithModifications()));
 
         properties.setProperty("pinExternals", Boolean.toString(config.isPinExternals()));
 
         properties.setProperty("pushChanges", Boolean.toString(config.isPushChanges()));
 
+        properties.setProperty("deferPush", Boolean.toString(config.isDeferPush()));
+
+        properties.setProperty(
+                "incrementalPreparationGoals", Boolean.toString(config.isIncrementalPreparationGoals()));
+
+        properties.setProperty("verifyOnce", Boolean.toString(config.isVerifyOnce()));
+
+        properties.setProperty("multipleScmRoots", Boolean.toString(config.isMultipleScmRoots()));
+
+        properties.setProperty("scmRootThreads", Integer.toString(config.getScmRootThreads()));
+
         if (config.getWorkItem() != null) {
             properties.setProperty("workItem", config.getWorkItem());
         }
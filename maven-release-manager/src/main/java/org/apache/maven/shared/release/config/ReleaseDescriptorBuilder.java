@@ -19,10 +19,13 @@
 package org.apache.maven.shared.release.config;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.maven.model.Scm;
+import org.apache.maven.shared.release.util.ReleaseTemplate;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,7 +47,44 @@ public class ReleaseDescriptorBuilder {
      * @author Robert Scholte
      */
     public static final class BuilderReleaseDescriptor extends ModelloReleaseDescriptor implements ReleaseDescriptor {
+        /**
+         * The templates compiled during this release, shared with the copies made for the SCM roots.
+         */
+        private final Map<String, ReleaseTemplate> templates = new ConcurrentHashMap<>();
+
+        /**
+         * The revisions of the released POMs of the SCM roots other than the one of the reactor, shared with their
+         * copies.
+         */
+        private final Map<String, String> scmRootReleasedPomRevisions = new ConcurrentHashMap<>();
+
         private BuilderReleaseDescriptor() {}
+
+        /**
+         * Returns the templates compiled during the release, by template.
+         *
+         * @return the templates, not <code>null</code>
+         * @since 3.4
+         */
+        public Map<String, ReleaseTemplate> getTemplates() {
+            return templates;
+        }
+
+        /**
+         * Returns the revisions of the released POMs of the SCM roots other than the one of the reactor, which has
+         * its own in {@link #getScmReleasedPomRevision()}.
+         *
+         * @return the revisions by SCM source URL of the root, not <code>null</code>
+         * @since 3.4
+         */
+        public Map<String, String> getScmRootReleasedPomRevisions() {
+            return scmRootReleasedPomRevisions;
+        }
+
+        @Override
+        public BuilderReleaseDescriptor clone() {
+            return (BuilderReleaseDescriptor) super.clone();
+        }
     }
 
     private final BuilderReleaseDescriptor releaseDescriptor;
@@ -143,6 +183,18 @@ public class ReleaseDescriptorBuilder {
         return this;
     }
 
+    /**
+     * <p>setVersionStreamPattern.</p>
+     *
+     * @param versionStreamPattern a {@link java.lang.String} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setVersionStreamPattern(String versionStreamPattern) {
+        releaseDescriptor.setVersionStreamPattern(versionStreamPattern);
+        return this;
+    }
+
     /**
      * <p>setBranchCreation.</p>
      *
@@ -187,6 +239,18 @@ public class ReleaseDescriptorBuilder {
         return this;
     }
 
+    /**
+     * <p>setChangedFiles.</p>
+     *
+     * @param changedFiles a {@link java.util.List} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setChangedFiles(List<String> changedFiles) {
+        releaseDescriptor.setChangedFiles(changedFiles);
+        return this;
+    }
+
     /**
      * <p>setCompletedPhase.</p>
      *
@@ -198,6 +262,18 @@ public class ReleaseDescriptorBuilder {
         return this;
     }
 
+    /**
+     * <p>setCompletedPerformPhase.</p>
+     *
+     * @param completedPerformPhase a {@link java.lang.String} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setCompletedPerformPhase(String completedPerformPhase) {
+        releaseDescriptor.setCompletedPerformPhase(completedPerformPhase);
+        return this;
+    }
+
     /**
      * <p>setCompletionGoals.</p>
      *
@@ -319,6 +395,18 @@ public class ReleaseDescriptorBuilder {
         return this;
     }
 
+    /**
+     * <p>setPerformThreads.</p>
+     *
+     * @param performThreads a {@link java.lang.String} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setPerformThreads(String performThreads) {
+        releaseDescriptor.setPerformThreads(performThreads);
+        return this;
+    }
+
     /**
      * <p>setPomFileName.</p>
      *
@@ -341,6 +429,54 @@ public class ReleaseDescriptorBuilder {
         return this;
     }
 
+    /**
+     * <p>setPreparationThreads.</p>
+     *
+     * @param preparationThreads a {@link java.lang.String} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setPreparationThreads(String preparationThreads) {
+        releaseDescriptor.setPreparationThreads(preparationThreads);
+        return this;
+    }
+
+    /**
+     * <p>setIncrementalPreparationGoals.</p>
+     *
+     * @param incrementalPreparationGoals a boolean
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setIncrementalPreparationGoals(boolean incrementalPreparationGoals) {
+        releaseDescriptor.setIncrementalPreparationGoals(incrementalPreparationGoals);
+        return this;
+    }
+
+    /**
+     * <p>setVerifyOnce.</p>
+     *
+     * @param verifyOnce a boolean
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setVerifyOnce(boolean verifyOnce) {
+        releaseDescriptor.setVerifyOnce(verifyOnce);
+        return this;
+    }
+
+    /**
+     * <p>setVerificationDirectory.</p>
+     *
+     * @param verificationDirectory a {@link java.lang.String} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setVerificationDirectory(String verificationDirectory) {
+        releaseDescriptor.setVerificationDirectory(verificationDirectory);
+        return this;
+    }
+
     /**
      * <p>setProjectNamingPolicyId.</p>
      *
@@ -385,6 +521,42 @@ public class ReleaseDescriptorBuilder {
         return this;
     }
 
+    /**
+     * <p>setDeferPush.</p>
+     *
+     * @param deferPush a boolean
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setDeferPush(boolean deferPush) {
+        releaseDescriptor.setDeferPush(deferPush);
+        return this;
+    }
+
+    /**
+     * <p>setMultipleScmRoots.</p>
+     *
+     * @param multipleScmRoots a boolean
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setMultipleScmRoots(boolean multipleScmRoots) {
+        releaseDescriptor.setMultipleScmRoots(multipleScmRoots);
+        return this;
+    }
+
+    /**
+     * <p>setScmRootThreads.</p>
+     *
+     * @param scmRootThreads a int
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setScmRootThreads(int scmRootThreads) {
+        releaseDescriptor.setScmRootThreads(scmRootThreads);
+        return this;
+    }
+
     /**
      * <p>setWorkItem.</p>
      *
@@ -418,6 +590,18 @@ public class ReleaseDescriptorBuilder {
         return this;
     }
 
+    /**
+     * <p>setRemoteTaggingWithModifications.</p>
+     *
+     * @param remoteTaggingWithModifications a boolean
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setRemoteTaggingWithModifications(boolean remoteTaggingWithModifications) {
+        releaseDescriptor.setRemoteTaggingWithModifications(remoteTaggingWithModifications);
+        return this;
+    }
+
     /**
      * <p>setScmBranchBase.</p>
      *
@@ -555,6 +739,42 @@ public class ReleaseDescriptorBuilder {
         return this;
     }
 
+    /**
+     * <p>setScmCheckoutRevision.</p>
+     *
+     * @param scmCheckoutRevision a {@link java.lang.String} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setScmCheckoutRevision(String scmCheckoutRevision) {
+        releaseDescriptor.setScmCheckoutRevision(scmCheckoutRevision);
+        return this;
+    }
+
+    /**
+     * <p>setScmPreReleaseRevision.</p>
+     *
+     * @param scmPreReleaseRevision a {@link java.lang.String} object
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setScmPreReleaseRevision(String scmPreReleaseRevision) {
+        releaseDescriptor.setScmPreReleaseRevision(scmPreReleaseRevision);
+        return this;
+    }
+
+    /**
+     * <p>setReuseCheckout.</p>
+     *
+     * @param reuseCheckout a boolean
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setReuseCheckout(boolean reuseCheckout) {
+        releaseDescriptor.setReuseCheckout(reuseCheckout);
+        return this;
+    }
+
     /**
      * <p>setScmReleaseLabel.</p>
      *
@@ -731,6 +951,18 @@ public class ReleaseDescriptorBuilder {
         return this;
     }
 
+    /**
+     * <p>setPollBeforeTagging.</p>
+     *
+     * @param pollBeforeTagging a boolean
+     * @return a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @since 3.4
+     */
+    public ReleaseDescriptorBuilder setPollBeforeTagging(boolean pollBeforeTagging) {
+        releaseDescriptor.setPollBeforeTagging(pollBeforeTagging);
+        return this;
+    }
+
     /**
      * <p>setWorkingDirectory.</p>
      *
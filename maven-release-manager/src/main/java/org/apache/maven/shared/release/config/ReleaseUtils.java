@@ -18,12 +18,22 @@
  */
 package org.apache.maven.shared.release.config;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.regex.Pattern;
 
+import org.apache.maven.shared.release.ReleaseFailureException;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder.BuilderReleaseDescriptor;
 import org.apache.maven.shared.release.scm.IdentifiedScm;
 
@@ -37,6 +47,10 @@ public class ReleaseUtils {
 
     private static final String RELEASE_KEY = "rel";
 
+    private static final Pattern PROJECT_KEY_PATTERN = Pattern.compile("[^:\\s]+:[^:\\s]+");
+
+    private static final Pattern VERSION_PATTERN = Pattern.compile("\\S*");
+
     private ReleaseUtils() {
         // nothing to see here
     }
@@ -161,6 +175,10 @@ public class ReleaseUtils {
             builder.setAutoResolveSnapshots(resolve);
         }
 
+        copyPerformProperties(properties, builder);
+        copyCommitProperties(properties, builder);
+        copyScmRootProperties(properties, builder);
+        copyVerificationProperties(properties, builder);
         loadResolvedDependencies(properties, builder);
 
         // boolean properties are not written to the properties file because the value from the caller is always used
@@ -204,6 +222,150 @@ public class ReleaseUtils {
         }
     }
 
+    /**
+     * Copies the properties recording the progress of release perform.
+     */
+    private static void copyPerformProperties(Properties properties, ReleaseDescriptorBuilder builder) {
+        if (properties.containsKey("completedPerformPhase")) {
+            builder.setCompletedPerformPhase(properties.getProperty("completedPerformPhase"));
+        }
+        if (properties.containsKey("scm.checkoutRevision")) {
+            builder.setScmCheckoutRevision(properties.getProperty("scm.checkoutRevision"));
+        }
+        if (properties.containsKey("scm.relativePathProjectDirectory")) {
+            builder.setScmRelativePathProjectDirectory(properties.getProperty("scm.relativePathProjectDirectory"));
+        }
+    }
+
+    /**
+     * Copies the properties of the commits, the tag and the push of the release.
+     */
+    private static void copyCommitProperties(Properties properties, ReleaseDescriptorBuilder builder) {
+        if (properties.containsKey("changedFiles")) {
+            builder.setChangedFiles(new ArrayList<>(
+                    Arrays.asList(properties.getProperty("changedFiles").split(File.pathSeparator))));
+        }
+        if (properties.containsKey("deferPush")) {
+            String deferPush = properties.getProperty("deferPush");
+            builder.setDeferPush(Boolean.parseBoolean(deferPush));
+        }
+        if (properties.containsKey("scm.preReleaseRevision")) {
+            builder.setScmPreReleaseRevision(properties.getProperty("scm.preReleaseRevision"));
+        }
+        if (properties.containsKey("remoteTaggingWithModifications")) {
+            String remoteTaggingWithModifications = properties.getProperty("remoteTaggingWithModifications");
+            builder.setRemoteTaggingWithModifications(Boolean.parseBoolean(remoteTaggingWithModifications));
+        }
+    }
+
+    /**
+     * Copies the properties of the SCM roots of a multi-root reactor.
+     */
+    private static void copyScmRootProperties(Properties properties, ReleaseDescriptorBuilder builder) {
+        if (properties.containsKey("multipleScmRoots")) {
+            String multipleScmRoots = properties.getProperty("multipleScmRoots");
+            builder.setMultipleScmRoots(Boolean.parseBoolean(multipleScmRoots));
+        }
+        if (properties.containsKey("scmRootThreads")) {
+            String scmRootThreads = properties.getProperty("scmRootThreads");
+            builder.setScmRootThreads(Integer.parseInt(scmRootThreads));
+        }
+    }
+
+    /**
+     * Copies the properties of the build verifying the release.
+     */
+    private static void copyVerificationProperties(Properties properties, ReleaseDescriptorBuilder builder) {
+        if (properties.containsKey("preparationThreads")) {
+            builder.setPreparationThreads(properties.getProperty("preparationThreads"));
+        }
+        if (properties.containsKey("incrementalPreparationGoals")) {
+            String incrementalPreparationGoals = properties.getProperty("incrementalPreparationGoals");
+            builder.setIncrementalPreparationGoals(Boolean.parseBoolean(incrementalPreparationGoals));
+        }
+        if (properties.containsKey("verificationDirectory")) {
+            builder.setVerificationDirectory(properties.getProperty("verificationDirectory"));
+        }
+        if (properties.containsKey("verifyOnce")) {
+            String verifyOnce = properties.getProperty("verifyOnce");
+            builder.setVerifyOnce(Boolean.parseBoolean(verifyOnce));
+        }
+    }
+
+    /**
+     * Copies the project versions of a version mapping file to the release descriptor.
+     * <p>
+     * Each line of the file has the form {@code groupId:artifactId,releaseVersion[,developmentVersion]}, where either
+     * version may be left empty. Empty lines and lines starting with {@code #} are ignored. The complete file is
+     * validated before any version is added, so an invalid file leaves the release descriptor untouched.
+     *
+     * @param versionMappingFile the version mapping file
+     * @param builder            a {@link org.apache.maven.shared.release.config.ReleaseDescriptorBuilder} object
+     * @throws IOException             if the file cannot be read
+     * @throws ReleaseFailureException if the file contains invalid mappings
+     * @since 3.4
+     */
+    public static void copyVersionMappingToReleaseDescriptor(File versionMappingFile, ReleaseDescriptorBuilder builder)
+            throws IOException, ReleaseFailureException {
+        List<String[]> mappings = new ArrayList<>();
+        Set<String> projectKeys = new HashSet<>();
+        StringBuilder errors = new StringBuilder();
+
+        try (BufferedReader reader = Files.newBufferedReader(versionMappingFile.toPath(), StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] columns = line.split(",", -1);
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] = columns[i].trim();
+                }
+
+                String error = null;
+                if (columns.length < 2 || columns.length > 3) {
+                    error = "expected 'groupId:artifactId,releaseVersion[,developmentVersion]'";
+                } else if (!PROJECT_KEY_PATTERN.matcher(columns[0]).matches()) {
+                    error = "'" + columns[0] + "' is not of the form groupId:artifactId";
+                } else if (!projectKeys.add(columns[0])) {
+                    error = "duplicate mapping for '" + columns[0] + "'";
+                } else if (!VERSION_PATTERN.matcher(columns[1]).matches()
+                        || (columns.length == 3 && !VERSION_PATTERN.matcher(columns[2]).matches())) {
+                    error = "versions must not contain whitespace";
+                } else if (columns[1].isEmpty() && (columns.length == 2 || columns[2].isEmpty())) {
+                    error = "no version specified for '" + columns[0] + "'";
+                }
+
+                if (error != null) {
+                    errors.append(System.lineSeparator())
+                            .append("  line ")
+                            .append(lineNumber)
+                            .append(": ")
+                            .append(error);
+                } else {
+                    mappings.add(columns);
+                }
+            }
+        }
+
+        if (errors.length() > 0) {
+            throw new ReleaseFailureException("Invalid version mapping file " + versionMappingFile + ":" + errors);
+        }
+
+        for (String[] mapping : mappings) {
+            if (!mapping[1].isEmpty()) {
+                builder.addReleaseVersion(mapping[0], mapping[1]);
+            }
+            if (mapping.length == 3 && !mapping[2].isEmpty()) {
+                builder.addDevelopmentVersion(mapping[0], mapping[2]);
+            }
+        }
+    }
+
     private static void loadResolvedDependencies(Properties prop, ReleaseDescriptorBuilder builder) {
         Set entries = prop.entrySet();
         Iterator<Entry<String, String>> iterator = entries.iterator();
@@ -21,6 +21,7 @@ package org.apache.maven.shared.release.env;
 import java.io.File;
 
 import org.apache.maven.settings.Settings;
+import org.apache.maven.shared.release.ReleaseManagerListener;
 
 /**
  * <p>DefaultReleaseEnvironment class.</p>
@@ -36,6 +37,12 @@ public class DefaultReleaseEnvironment implements ReleaseEnvironment {
 
     private String mavenExecutorId = DEFAULT_MAVEN_EXECUTOR_ID;
 
+    private ReleaseManagerListener releaseManagerListener;
+
+    private int goalsTimeout;
+
+    private File goalsLogFile;
+
     @Override
     public File getMavenHome() {
         return mavenHome;
@@ -121,4 +128,60 @@ public class DefaultReleaseEnvironment implements ReleaseEnvironment {
         this.localRepositoryDirectory = localRepositoryDirectory;
         return this;
     }
+
+    /**
+     * <p>Getter for the field <code>releaseManagerListener</code>.</p>
+     *
+     * @return the listener notified of the progress of the Maven builds, or <code>null</code>
+     * @since 3.4
+     */
+    public ReleaseManagerListener getReleaseManagerListener() {
+        return releaseManagerListener;
+    }
+
+    /**
+     * <p>Setter for the field <code>releaseManagerListener</code>.</p>
+     *
+     * @param releaseManagerListener the listener notified of the progress of the Maven builds
+     * @return a {@link org.apache.maven.shared.release.env.DefaultReleaseEnvironment} object
+     * @since 3.4
+     */
+    public DefaultReleaseEnvironment setReleaseManagerListener(ReleaseManagerListener releaseManagerListener) {
+        this.releaseManagerListener = releaseManagerListener;
+        return this;
+    }
+
+    @Override
+    public int getGoalsTimeout() {
+        return goalsTimeout;
+    }
+
+    /**
+     * <p>Setter for the field <code>goalsTimeout</code>.</p>
+     *
+     * @param goalsTimeout the timeout of an execution of Maven goals in seconds, <code>0</code> for none
+     * @return a {@link org.apache.maven.shared.release.env.DefaultReleaseEnvironment} object
+     * @since 3.4
+     */
+    public DefaultReleaseEnvironment setGoalsTimeout(int goalsTimeout) {
+        this.goalsTimeout = goalsTimeout;
+        return this;
+    }
+
+    @Override
+    public File getGoalsLogFile() {
+        return goalsLogFile;
+    }
+
+    /**
+     * <p>Setter for the field <code>goalsLogFile</code>.</p>
+     *
+     * @param goalsLogFile the file receiving the output of the executions of Maven goals
+     * @return a {@link org.apache.maven.shared.release.env.DefaultReleaseEnvironment} object
+     * @since 3.4
+     */
+    public DefaultReleaseEnvironment setGoalsLogFile(File goalsLogFile) {
+        this.goalsLogFile = goalsLogFile;
+        return this;
+    }
 }
@@ -19,6 +19,10 @@
 package org.apache.maven.shared.release.exec;
 
 import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -32,7 +36,9 @@ import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.apache.maven.shared.release.util.MavenCrypto;
 import org.apache.maven.shared.release.util.MavenCrypto.MavenCryptoException;
+import org.codehaus.plexus.util.Os;
 import org.codehaus.plexus.util.StringUtils;
+import org.codehaus.plexus.util.cli.CommandLineUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,6 +87,144 @@ public abstract class AbstractMavenExecutor implements MavenExecutor {
             ReleaseResult result)
             throws MavenExecutorException;
 
+    /**
+     * Returns the path of the <code>mvn</code> script of the Maven home of the release environment, or of the current
+     * Maven home if none is set.
+     *
+     * @param releaseEnvironment the release environment
+     * @return the path of the <code>mvn</code> script
+     * @since 3.4
+     */
+    protected static String getMavenExecutable(ReleaseEnvironment releaseEnvironment) {
+        String mavenPath;
+        // if null we use the current one
+        if (releaseEnvironment.getMavenHome() != null) {
+            mavenPath = releaseEnvironment.getMavenHome().getAbsolutePath();
+        } else {
+            mavenPath = System.getProperty("maven.home");
+        }
+        return mavenPath + File.separator + "bin" + File.separator
+                + (Os.isFamily(Os.FAMILY_WINDOWS) ? "mvn.cmd" : "mvn");
+    }
+
+    /**
+     * Writes the settings of the release environment, with their credentials encrypted, to a temporary file.
+     *
+     * @param releaseEnvironment the release environment
+     * @return the settings file, to be removed with {@link #deleteSettingsFile(File)}, or <code>null</code> if the
+     *         release environment has no settings
+     * @throws MavenExecutorException if the file can't be written
+     * @since 3.4
+     */
+    protected File createSettingsFile(ReleaseEnvironment releaseEnvironment) throws MavenExecutorException {
+        if (releaseEnvironment.getSettings() == null) {
+            return null;
+        }
+
+        // Have to serialize to a file as if Maven is embedded, there may not actually be a settings.xml on disk
+        try {
+            File settingsFile = Files.createTempFile("release-settings", ".xml").toFile();
+            SettingsXpp3Writer writer = getSettingsWriter();
+
+            try (FileWriter fileWriter = new FileWriter(settingsFile)) {
+                writer.write(fileWriter, encryptSettings(releaseEnvironment.getSettings()));
+            }
+            return settingsFile;
+        } catch (IOException e) {
+            throw new MavenExecutorException("Could not create temporary file for release settings.xml", e);
+        }
+    }
+
+    /**
+     * Removes the settings file created by {@link #createSettingsFile(ReleaseEnvironment)}.
+     *
+     * @param settingsFile the settings file, may be <code>null</code>
+     * @since 3.4
+     */
+    protected static void deleteSettingsFile(File settingsFile) {
+        if (settingsFile != null && settingsFile.exists() && !settingsFile.delete()) {
+            settingsFile.deleteOnExit();
+        }
+    }
+
+    /**
+     * Builds the arguments of the Maven command line: the settings file, the POM, the goals, the batch mode and the
+     * additional arguments, in that order.
+     *
+     * @param settingsFile        the settings file, may be <code>null</code>
+     * @param pomFileName         the POM file name, may be <code>null</code>
+     * @param goals               the goals
+     * @param interactive         whether Maven runs in interactive mode
+     * @param additionalArguments the additional arguments, may be <code>null</code>
+     * @return the arguments
+     * @throws MavenExecutorException if the additional arguments can't be parsed
+     * @since 3.4
+     */
+    protected static List<String> getMavenArguments(
+            File settingsFile, String pomFileName, List<String> goals, boolean interactive, String additionalArguments)
+            throws MavenExecutorException {
+        List<String> arguments = new ArrayList<>();
+
+        if (settingsFile != null) {
+            arguments.add("-s");
+            arguments.add(settingsFile.getAbsolutePath());
+        }
+
+        if (pomFileName != null) {
+            arguments.add("-f");
+            arguments.add(pomFileName);
+        }
+
+        arguments.addAll(goals);
+
+        if (!interactive) {
+            arguments.add("--batch-mode");
+        }
+
+        arguments.addAll(splitArguments(additionalArguments));
+
+        return arguments;
+    }
+
+    /**
+     * Returns the charset of the output of a forked Maven: the native encoding of the platform, which Java uses for
+     * the standard streams when they are not a console.
+     *
+     * @return the charset of the output of a forked Maven
+     * @since 3.4
+     */
+    protected static Charset getOutputCharset() {
+        String nativeEncoding = System.getProperty("native.encoding");
+        try {
+            if (nativeEncoding != null) {
+                return Charset.forName(nativeEncoding);
+            }
+        } catch (IllegalArgumentException e) {
+            // fall back to the default charset
+        }
+        return Charset.defaultCharset();
+    }
+
+    /**
+     * Splits the additional arguments of the Maven command line the way a shell would, honouring quotes.
+     *
+     * @param additionalArguments the additional arguments, may be <code>null</code>
+     * @return the arguments, never <code>null</code>
+     * @throws MavenExecutorException if the quotes are not balanced
+     * @since 3.4
+     */
+    protected static List<String> splitArguments(String additionalArguments) throws MavenExecutorException {
+        List<String> arguments = new ArrayList<>();
+        if (additionalArguments != null && !additionalArguments.isEmpty()) {
+            try {
+                Collections.addAll(arguments, CommandLineUtils.translateCommandline(additionalArguments));
+            } catch (Exception e) {
+                throw new MavenExecutorException("Can't parse additional arguments: " + additionalArguments, e);
+            }
+        }
+        return arguments;
+    }
+
     /**
      * <p>Getter for the field <code>logger</code>.</p>
      *
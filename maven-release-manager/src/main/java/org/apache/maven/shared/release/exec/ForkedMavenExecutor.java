@@ -23,18 +23,16 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.file.Files;
 import java.util.List;
 
-import org.apache.maven.settings.io.xpp3.SettingsXpp3Writer;
 import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.apache.maven.shared.release.util.MavenCrypto;
 import org.codehaus.plexus.util.cli.CommandLineException;
+import org.codehaus.plexus.util.cli.CommandLineTimeOutException;
 import org.codehaus.plexus.util.cli.Commandline;
 
 import static java.util.Objects.requireNonNull;
@@ -71,32 +69,10 @@ public class ForkedMavenExecutor extends AbstractMavenExecutor {
             String pomFileName,
             ReleaseResult relResult)
             throws MavenExecutorException {
-        String mavenPath;
-        // if null we use the current one
-        if (releaseEnvironment.getMavenHome() != null) {
-            mavenPath = releaseEnvironment.getMavenHome().getAbsolutePath();
-        } else {
-            mavenPath = System.getProperty("maven.home");
-        }
-
-        File settingsFile = null;
-        if (releaseEnvironment.getSettings() != null) {
-            // Have to serialize to a file as if Maven is embedded, there may not actually be a settings.xml on disk
-            try {
-                settingsFile = Files.createTempFile("release-settings", ".xml").toFile();
-                SettingsXpp3Writer writer = getSettingsWriter();
-
-                try (FileWriter fileWriter = new FileWriter(settingsFile)) {
-                    writer.write(fileWriter, encryptSettings(releaseEnvironment.getSettings()));
-                }
-            } catch (IOException e) {
-                throw new MavenExecutorException("Could not create temporary file for release settings.xml", e);
-            }
-        }
+        File settingsFile = createSettingsFile(releaseEnvironment);
         try {
 
-            Commandline cl =
-                    commandLineFactory.createCommandLine(mavenPath + File.separator + "bin" + File.separator + "mvn");
+            Commandline cl = commandLineFactory.createCommandLine(getMavenExecutable(releaseEnvironment));
 
             cl.setWorkingDirectory(workingDirectory.getAbsolutePath());
 
@@ -109,50 +85,41 @@ public class ForkedMavenExecutor extends AbstractMavenExecutor {
                 cl.addEnvironment("JAVA_HOME", releaseEnvironment.getJavaHome().getAbsolutePath());
             }
 
-            if (settingsFile != null) {
-                cl.createArg().setValue("-s");
-                cl.createArg().setFile(settingsFile);
-            }
-
-            if (pomFileName != null) {
-                cl.createArg().setValue("-f");
-                cl.createArg().setValue(pomFileName);
-            }
-
-            for (String goal : goals) {
-                cl.createArg().setValue(goal);
-            }
-
-            if (!interactive) {
-                cl.createArg().setValue("--batch-mode");
-            }
-
-            if (!(additionalArguments == null || additionalArguments.isEmpty())) {
-                cl.createArg().setLine(additionalArguments);
+            for (String argument :
+                    getMavenArguments(settingsFile, pomFileName, goals, interactive, additionalArguments)) {
+                cl.createArg().setValue(argument);
             }
 
             TeeOutputStream stdOut = new TeeOutputStream(System.out);
 
             TeeOutputStream stdErr = new TeeOutputStream(System.err);
 
+            ReactorProgress progress = ReactorProgress.of(releaseEnvironment);
+            boolean success = false;
+
             try {
                 relResult.appendInfo("Executing: " + cl);
                 getLogger().info("Executing: " + cl);
 
-                int result = executeCommandLine(cl, System.in, stdOut, stdErr);
+                int timeout = releaseEnvironment.getGoalsTimeout();
+                int result = executeCommandLine(cl, System.in, progress.tee(stdOut), stdErr, timeout, relResult);
+                success = result == 0;
 
                 if (result != 0) {
                     throw new MavenExecutorException("Maven execution failed, exit code: '" + result + "'", result);
                 }
+            } catch (CommandLineTimeOutException e) {
+                throw new MavenExecutorException(
+                        "Maven execution timed out after " + releaseEnvironment.getGoalsTimeout() + " seconds", e);
             } catch (CommandLineException e) {
                 throw new MavenExecutorException("Can't run goal " + goals, e);
             } finally {
-                relResult.appendOutput(stdOut.toString());
+                // the projects still being built end with the command line, even if it couldn't complete
+                progress.finish(success);
+                relResult.appendOutput(stdOut.getContent(getOutputCharset()));
             }
         } finally {
-            if (settingsFile != null && settingsFile.exists() && !settingsFile.delete()) {
-                settingsFile.deleteOnExit();
-            }
+            deleteSettingsFile(settingsFile);
         }
     }
 
@@ -169,13 +136,40 @@ public class ForkedMavenExecutor extends AbstractMavenExecutor {
     public static int executeCommandLine(
             Commandline cl, InputStream systemIn, OutputStream systemOut, OutputStream systemErr)
             throws CommandLineException {
+        return executeCommandLine(cl, systemIn, systemOut, systemErr, 0, null);
+    }
+
+    /**
+     * <p>executeCommandLine.</p>
+     *
+     * @param cl             a {@link org.codehaus.plexus.util.cli.Commandline} object
+     * @param systemIn       a {@link java.io.InputStream} object
+     * @param systemOut      a {@link java.io.OutputStream} object
+     * @param systemErr      a {@link java.io.OutputStream} object
+     * @param timeoutSeconds the time after which the process and its descendants are killed, <code>0</code> to wait
+     *                       without limit
+     * @param result         the result receiving the peak memory and the CPU time of the process and its descendants,
+     *                       if they can be sampled, may be <code>null</code>
+     * @return a int
+     * @throws org.codehaus.plexus.util.cli.CommandLineTimeOutException if the process did not end in time
+     * @throws org.codehaus.plexus.util.cli.CommandLineException if any
+     * @since 3.4
+     */
+    public static int executeCommandLine(
+            Commandline cl,
+            InputStream systemIn,
+            OutputStream systemOut,
+            OutputStream systemErr,
+            int timeoutSeconds,
+            ReleaseResult result)
+            throws CommandLineException {
         if (cl == null) {
             throw new IllegalArgumentException("cl cannot be null.");
         }
 
         Process p = cl.execute();
 
-        // processes.put( new Long( cl.getPid() ), p );
+        ProcessTree tree = ProcessTree.of(p);
 
         RawStreamPumper inputFeeder = null;
 
@@ -195,7 +189,15 @@ public class ForkedMavenExecutor extends AbstractMavenExecutor {
         errorPumper.start();
 
         try {
-            int returnValue = p.waitFor();
+            int returnValue;
+            if (timeoutSeconds > 0 || tree.isObservable()) {
+                returnValue = tree.waitFor(timeoutSeconds);
+                if (result != null) {
+                    tree.addMetrics(result);
+                }
+            } else {
+                returnValue = p.waitFor();
+            }
 
             if (inputFeeder != null) {
                 inputFeeder.setDone();
@@ -203,11 +205,9 @@ public class ForkedMavenExecutor extends AbstractMavenExecutor {
             outputPumper.setDone();
             errorPumper.setDone();
 
-            // processes.remove( new Long( cl.getPid() ) );
-
             return returnValue;
         } catch (InterruptedException ex) {
-            // killProcess( cl.getPid() );
+            tree.destroy();
             throw new CommandLineException("Error while executing external command, process killed.", ex);
         } finally {
             try {
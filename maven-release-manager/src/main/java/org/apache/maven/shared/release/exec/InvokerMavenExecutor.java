@@ -23,13 +23,14 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.maven.settings.io.xpp3.SettingsXpp3Writer;
 import org.apache.maven.shared.invoker.DefaultInvocationRequest;
 import org.apache.maven.shared.invoker.DefaultInvoker;
 import org.apache.maven.shared.invoker.InvocationRequest;
@@ -40,6 +41,7 @@ import org.apache.maven.shared.invoker.MavenInvocationException;
 import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.apache.maven.shared.release.util.MavenCrypto;
+import org.apache.maven.shared.utils.cli.CommandLineTimeOutException;
 import org.slf4j.Logger;
 
 /**
@@ -48,6 +50,18 @@ import org.slf4j.Logger;
 @Singleton
 @Named("invoker")
 public class InvokerMavenExecutor extends AbstractMavenExecutor {
+    /**
+     * The invokers by Maven home and local repository directory. An invoker only holds its configuration, so it is
+     * shared by all the executions in the same environment, and the Maven home and executable are resolved once when
+     * it is created instead of being detected again by each invocation.
+     */
+    private final Map<List<File>, Invoker> invokers = new ConcurrentHashMap<>();
+
+    /**
+     * The resolved Java homes by Java home of the environment.
+     */
+    private final Map<File, File> javaHomes = new ConcurrentHashMap<>();
+
     @Inject
     public InvokerMavenExecutor(MavenCrypto mavenCrypto) {
         super(mavenCrypto);
@@ -63,12 +77,11 @@ public class InvokerMavenExecutor extends AbstractMavenExecutor {
             String pomFileName,
             ReleaseResult result)
             throws MavenExecutorException {
-        InvokerLogger bridge = getInvokerLogger();
+        List<String> arguments = splitArguments(additionalArguments);
 
-        Invoker invoker = new DefaultInvoker()
-                .setMavenHome(releaseEnvironment.getMavenHome())
-                .setLocalRepositoryDirectory(releaseEnvironment.getLocalRepositoryDirectory())
-                .setLogger(bridge);
+        Invoker invoker = getInvoker(releaseEnvironment);
+
+        ReactorProgress progress = ReactorProgress.of(releaseEnvironment);
 
         InvocationRequest req = new DefaultInvocationRequest()
                 .setDebug(getLogger().isDebugEnabled())
@@ -76,8 +89,11 @@ public class InvokerMavenExecutor extends AbstractMavenExecutor {
                 // fix for MRELEASE-1105
                 // .addShellEnvironment( "MAVEN_DEBUG_OPTS", "" )
                 .setBatchMode(!interactive)
-                .setJavaHome(releaseEnvironment.getJavaHome())
-                .setOutputHandler(getLogger()::info)
+                .setJavaHome(getJavaHome(releaseEnvironment))
+                .setOutputHandler(line -> {
+                    getLogger().info(line);
+                    progress.consumeLine(line);
+                })
                 .setErrorHandler(getLogger()::error);
 
         // for interactive mode we need some inputs stream
@@ -89,34 +105,30 @@ public class InvokerMavenExecutor extends AbstractMavenExecutor {
             req.setPomFileName(pomFileName);
         }
 
-        File settingsFile = null;
-        if (releaseEnvironment.getSettings() != null) {
-            // Have to serialize to a file as if Maven is embedded, there may not actually be a settings.xml on disk
-            try {
-                settingsFile = Files.createTempFile("release-settings", ".xml").toFile();
-                SettingsXpp3Writer writer = getSettingsWriter();
-
-                try (FileWriter fileWriter = new FileWriter(settingsFile)) {
-                    writer.write(fileWriter, encryptSettings(releaseEnvironment.getSettings()));
-                }
-                req.setUserSettingsFile(settingsFile);
-            } catch (IOException e) {
-                throw new MavenExecutorException("Could not create temporary file for release settings.xml", e);
-            }
+        if (releaseEnvironment.getGoalsTimeout() > 0) {
+            req.setTimeoutInSeconds(releaseEnvironment.getGoalsTimeout());
         }
 
+        File settingsFile = createSettingsFile(releaseEnvironment);
         try {
-            List<String> targetGoals = new ArrayList<>(goals);
-
-            if (additionalArguments != null && !additionalArguments.isEmpty()) {
-                // additionalArguments will be parsed be MavenInvoker
-                targetGoals.add(additionalArguments);
-            }
-
-            req.setGoals(targetGoals);
+            req.setUserSettingsFile(settingsFile).setGoals(new ArrayList<>(goals)).addArgs(arguments);
 
+            // the projects still being built end with the invocation, even if it couldn't complete
+            boolean success = false;
             try {
+                long start = System.nanoTime();
                 InvocationResult invocationResult = invoker.execute(req);
+                long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                result.addMetric("maven.invocation.millis", duration);
+                getLogger().debug("Maven invocation took " + duration + " ms");
+                success = invocationResult.getExecutionException() == null && invocationResult.getExitCode() == 0;
+
+                if (invocationResult.getExecutionException() instanceof CommandLineTimeOutException) {
+                    throw new MavenExecutorException(
+                            "Maven execution timed out after " + releaseEnvironment.getGoalsTimeout() + " seconds",
+                            invocationResult.getExecutionException());
+                }
 
                 if (invocationResult.getExecutionException() != null) {
                     throw new MavenExecutorException(
@@ -130,11 +142,56 @@ public class InvokerMavenExecutor extends AbstractMavenExecutor {
                 }
             } catch (MavenInvocationException e) {
                 throw new MavenExecutorException("Failed to invoke Maven build.", e);
+            } finally {
+                progress.finish(success);
             }
         } finally {
-            if (settingsFile != null && settingsFile.exists() && !settingsFile.delete()) {
-                settingsFile.deleteOnExit();
+            deleteSettingsFile(settingsFile);
+        }
+    }
+
+    /**
+     * Returns the invoker for the Maven home and the local repository directory of the environment, creating it on
+     * first use.
+     *
+     * @param releaseEnvironment the release environment
+     * @return the invoker
+     */
+    Invoker getInvoker(ReleaseEnvironment releaseEnvironment) {
+        List<File> key =
+                Arrays.asList(releaseEnvironment.getMavenHome(), releaseEnvironment.getLocalRepositoryDirectory());
+        return invokers.computeIfAbsent(key, k -> {
+            Invoker invoker = new DefaultInvoker()
+                    .setLocalRepositoryDirectory(k.get(1))
+                    .setLogger(getInvokerLogger());
+
+            // if neither is set, the invoker detects the Maven home itself
+            if (k.get(0) != null || System.getProperty("maven.home") != null) {
+                File mavenExecutable = new File(getMavenExecutable(releaseEnvironment));
+                File mavenHome = resolve(mavenExecutable.getParentFile().getParentFile());
+                invoker.setMavenHome(mavenHome)
+                        .setMavenExecutable(new File(new File(mavenHome, "bin"), mavenExecutable.getName()));
             }
+            return invoker;
+        });
+    }
+
+    /**
+     * Returns the resolved Java home of the environment, resolving it on first use.
+     *
+     * @param releaseEnvironment the release environment
+     * @return the Java home, or <code>null</code> to use the one of the environment of the forked Maven
+     */
+    File getJavaHome(ReleaseEnvironment releaseEnvironment) {
+        File javaHome = releaseEnvironment.getJavaHome();
+        return javaHome != null ? javaHomes.computeIfAbsent(javaHome, InvokerMavenExecutor::resolve) : null;
+    }
+
+    private static File resolve(File file) {
+        try {
+            return file.getCanonicalFile();
+        } catch (IOException e) {
+            return file.getAbsoluteFile();
         }
     }
 
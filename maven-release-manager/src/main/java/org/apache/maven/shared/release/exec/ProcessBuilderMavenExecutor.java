@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.exec;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.shared.release.ReleaseResult;
+import org.apache.maven.shared.release.env.ReleaseEnvironment;
+import org.apache.maven.shared.release.util.MavenCrypto;
+import org.codehaus.plexus.util.cli.CommandLineException;
+import org.codehaus.plexus.util.cli.CommandLineTimeOutException;
+
+/**
+ * Fork Maven with a {@link ProcessBuilder} to execute a series of goals. The output of Maven is not pumped through the
+ * current process: it is either inherited, or appended to the {@link ReleaseEnvironment#getGoalsLogFile() log file}
+ * whose tail is then added to the output of the {@link ReleaseResult}.
+ *
+ * @since 3.4
+ */
+@Singleton
+@Named("process-builder")
+public class ProcessBuilderMavenExecutor extends AbstractMavenExecutor {
+    /**
+     * The maximum size of the tail of the log file added to the output of the result.
+     */
+    private static final int TAIL_SIZE = 64 * 1024;
+
+    @Inject
+    public ProcessBuilderMavenExecutor(MavenCrypto mavenCrypto) {
+        super(mavenCrypto);
+    }
+
+    @Override
+    public void executeGoals(
+            File workingDirectory,
+            List<String> goals,
+            ReleaseEnvironment releaseEnvironment,
+            boolean interactive,
+            String additionalArguments,
+            String pomFileName,
+            ReleaseResult relResult)
+            throws MavenExecutorException {
+        File settingsFile = createSettingsFile(releaseEnvironment);
+        try {
+            List<String> command = new ArrayList<>();
+            command.add(getMavenExecutable(releaseEnvironment));
+            command.addAll(getMavenArguments(settingsFile, pomFileName, goals, interactive, additionalArguments));
+
+            ProcessBuilder processBuilder = new ProcessBuilder(command).directory(workingDirectory);
+
+            processBuilder.environment().put("MAVEN_TERMINATE_CMD", "on");
+
+            if (releaseEnvironment.getJavaHome() != null) {
+                processBuilder
+                        .environment()
+                        .put("JAVA_HOME", releaseEnvironment.getJavaHome().getAbsolutePath());
+            }
+
+            if (interactive) {
+                processBuilder.redirectInput(ProcessBuilder.Redirect.INHERIT);
+            }
+
+            File logFile = releaseEnvironment.getGoalsLogFile();
+            long logOffset = 0;
+            if (logFile != null) {
+                logFile.getAbsoluteFile().getParentFile().mkdirs();
+                logOffset = logFile.length();
+                processBuilder.redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.appendTo(logFile));
+            } else {
+                processBuilder.inheritIO();
+            }
+
+            relResult.appendInfo("Executing: " + String.join(" ", command));
+            getLogger().info("Executing: " + String.join(" ", command));
+
+            try {
+                int result = execute(processBuilder, interactive, releaseEnvironment.getGoalsTimeout(), relResult);
+
+                if (result != 0) {
+                    throw new MavenExecutorException("Maven execution failed, exit code: '" + result + "'", result);
+                }
+            } catch (CommandLineTimeOutException e) {
+                throw new MavenExecutorException(
+                        "Maven execution timed out after " + releaseEnvironment.getGoalsTimeout() + " seconds", e);
+            } catch (CommandLineException e) {
+                throw new MavenExecutorException("Can't run goal " + goals, e);
+            } finally {
+                if (logFile != null) {
+                    relResult.appendOutput(readTail(logFile, logOffset));
+                }
+            }
+        } finally {
+            deleteSettingsFile(settingsFile);
+        }
+    }
+
+    private static int execute(ProcessBuilder processBuilder, boolean interactive, int timeout, ReleaseResult result)
+            throws CommandLineException {
+        Process p;
+        try {
+            p = processBuilder.start();
+        } catch (IOException e) {
+            throw new CommandLineException("Error while executing process.", e);
+        }
+
+        ProcessTree tree = ProcessTree.of(p);
+        try {
+            if (!interactive) {
+                p.getOutputStream().close();
+            }
+
+            int returnValue = tree.waitFor(timeout);
+            tree.addMetrics(result);
+            return returnValue;
+        } catch (IOException e) {
+            tree.destroy();
+            throw new CommandLineException("Error while executing external command.", e);
+        } catch (InterruptedException e) {
+            tree.destroy();
+            Thread.currentThread().interrupt();
+            throw new CommandLineException("Error while executing external command, process killed.", e);
+        }
+    }
+
+    /**
+     * Reads the end of what was appended to the log file since the given offset, without its first partial line.
+     */
+    private static String readTail(File logFile, long offset) {
+        try (RandomAccessFile file = new RandomAccessFile(logFile, "r")) {
+            long start = Math.max(offset, file.length() - TAIL_SIZE);
+            byte[] bytes = new byte[(int) (file.length() - start)];
+            file.seek(start);
+            file.readFully(bytes);
+
+            String tail = new String(bytes, getOutputCharset());
+            if (start > offset && tail.indexOf('\n') >= 0) {
+                tail = tail.substring(tail.indexOf('\n') + 1);
+            }
+            return tail;
+        } catch (IOException e) {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.exec;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.shared.release.ReleaseResult;
+import org.codehaus.plexus.util.cli.CommandLineTimeOutException;
+
+/**
+ * A forked process and its descendants, e.g. the JVMs forked by the tests of a Maven build, found through the
+ * <code>/proc</code> file system of Linux. This allows to kill the whole tree, and to sample the memory and CPU time it
+ * uses. Elsewhere, or if the id of the process is not known, only the process itself is destroyed and nothing is
+ * sampled.
+ *
+ * @since 3.4
+ */
+final class ProcessTree {
+    private static final Path PROC = Paths.get("/proc");
+
+    /**
+     * The unit of the CPU times of <code>/proc/[pid]/stat</code>, which is 100 Hz on all the usual architectures.
+     */
+    private static final long MILLIS_PER_CLOCK_TICK = 10;
+
+    private final Process process;
+
+    private final long pid;
+
+    private long peakRssBytes;
+
+    private long cpuMillis;
+
+    private ProcessTree(Process process, long pid) {
+        this.process = process;
+        this.pid = pid;
+    }
+
+    static ProcessTree of(Process process) {
+        long pid = -1;
+        if (Files.isDirectory(PROC)) {
+            pid = getPid(process);
+        }
+        return new ProcessTree(process, pid);
+    }
+
+    /**
+     * Returns the id of a process forked by the JDK: with <code>Process.pid()</code> since Java 9, or else with the
+     * <code>pid</code> field of <code>java.lang.UNIXProcess</code>.
+     */
+    private static long getPid(Process process) {
+        String className = process.getClass().getName();
+        if (!className.equals("java.lang.ProcessImpl") && !className.equals("java.lang.UNIXProcess")) {
+            return -1;
+        }
+
+        try {
+            return (Long) Process.class.getMethod("pid").invoke(process);
+        } catch (NoSuchMethodException e) {
+            try {
+                Field field = process.getClass().getDeclaredField("pid");
+                field.setAccessible(true);
+                return field.getInt(process);
+            } catch (ReflectiveOperationException | RuntimeException e1) {
+                return -1;
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * @return whether the descendants of the process are known, and the resources they use can be sampled
+     */
+    boolean isObservable() {
+        return pid > 0;
+    }
+
+    /**
+     * Samples the resident memory and the CPU time of the tree. The CPU time of the descendants which already ended is
+     * included in the one of their parent once it waited for them.
+     */
+    void sample() {
+        if (!isObservable()) {
+            return;
+        }
+
+        long rssBytes = 0;
+        long cpuTicks = 0;
+        for (long id : getTree()) {
+            rssBytes += readRssBytes(id);
+            long[] times = readCpuTicks(id);
+            cpuTicks += times[0] + times[1] + (id == pid ? times[2] + times[3] : 0);
+        }
+
+        peakRssBytes = Math.max(peakRssBytes, rssBytes);
+        cpuMillis = Math.max(cpuMillis, cpuTicks * MILLIS_PER_CLOCK_TICK);
+    }
+
+    /**
+     * Waits for the process while sampling its tree every second, and kills the tree once the timeout is exceeded.
+     *
+     * @param timeoutSeconds the timeout in seconds, <code>0</code> to wait without limit
+     * @return the exit value of the process
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws CommandLineTimeOutException if the process did not end in time
+     */
+    int waitFor(int timeoutSeconds) throws InterruptedException, CommandLineTimeOutException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (true) {
+            sample();
+
+            long wait = TimeUnit.SECONDS.toMillis(1);
+            if (timeoutSeconds > 0) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    destroy();
+                    throw new CommandLineTimeOutException(
+                            "Error while executing external command, process killed after " + timeoutSeconds
+                                    + " seconds.");
+                }
+                wait = Math.min(wait, remaining);
+            }
+
+            if (process.waitFor(wait, TimeUnit.MILLISECONDS)) {
+                return process.exitValue();
+            }
+        }
+    }
+
+    /**
+     * Kills the process and all its descendants.
+     */
+    void destroy() {
+        if (isObservable()) {
+            List<String> command = new ArrayList<>();
+            command.add("kill");
+            command.add("-KILL");
+            for (long id : getTree()) {
+                command.add(Long.toString(id));
+            }
+
+            try {
+                new ProcessBuilder(command).start().waitFor();
+            } catch (IOException e) {
+                // the process itself is still destroyed below
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        process.destroyForcibly();
+    }
+
+    /**
+     * @return the highest resident memory of the tree seen by {@link #sample()}, in bytes
+     */
+    long getPeakRssBytes() {
+        return peakRssBytes;
+    }
+
+    /**
+     * @return the CPU time of the tree seen by the last {@link #sample()}, in milliseconds
+     */
+    long getCpuMillis() {
+        return cpuMillis;
+    }
+
+    /**
+     * Records the peak memory and the CPU time of the tree in the metrics of a result, if they were sampled.
+     *
+     * @param result the result of the execution
+     */
+    void addMetrics(ReleaseResult result) {
+        if (isObservable()) {
+            result.addMetric("maven.rss.peak.bytes", peakRssBytes);
+            result.addMetric("maven.cpu.millis", cpuMillis);
+        }
+    }
+
+    /**
+     * Returns the process and its descendants still alive, parents first.
+     */
+    private List<Long> getTree() {
+        Map<Long, List<Long>> children = new HashMap<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(PROC, "[0-9]*")) {
+            for (Path entry : entries) {
+                long id = Long.parseLong(entry.getFileName().toString());
+                String[] stat = readStat(id);
+                if (stat != null) {
+                    children.computeIfAbsent(Long.parseLong(stat[1]), k -> new ArrayList<>())
+                            .add(id);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // keep the descendants found so far
+        }
+
+        List<Long> tree = new ArrayList<>();
+        Deque<Long> pending = new ArrayDeque<>();
+        pending.add(pid);
+        while (!pending.isEmpty()) {
+            long id = pending.poll();
+            tree.add(id);
+            pending.addAll(children.getOrDefault(id, new ArrayList<>()));
+        }
+        return tree;
+    }
+
+    /**
+     * Reads the fields of <code>/proc/[pid]/stat</code> after the command name, which may contain spaces: the state,
+     * the parent id, and so on.
+     */
+    private static String[] readStat(long id) {
+        try {
+            String stat = new String(Files.readAllBytes(PROC.resolve(id + "/stat")), StandardCharsets.US_ASCII);
+            return stat.substring(stat.lastIndexOf(')') + 2).trim().split(" ");
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the user, system, children user and children system CPU times of a process, in clock ticks.
+     */
+    private static long[] readCpuTicks(long id) {
+        String[] stat = readStat(id);
+        if (stat == null || stat.length < 15) {
+            return new long[4];
+        }
+        return new long[] {
+            Long.parseLong(stat[11]), Long.parseLong(stat[12]), Long.parseLong(stat[13]), Long.parseLong(stat[14])
+        };
+    }
+
+    private static long readRssBytes(long id) {
+        try {
+            for (String line : Files.readAllLines(PROC.resolve(id + "/status"), StandardCharsets.US_ASCII)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring(6).trim().split("\\s+")[0]) * 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // the process ended
+        }
+        return 0;
+    }
+}
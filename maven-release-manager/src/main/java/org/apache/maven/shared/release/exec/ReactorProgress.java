@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.exec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.maven.shared.release.ReleaseManagerListener;
+import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
+import org.apache.maven.shared.release.env.ReleaseEnvironment;
+
+/**
+ * Follows the output of a Maven build to notify a {@link ReleaseManagerListener} when each project of the reactor
+ * starts and ends. The projects are recognized by the header with their coordinates printed since Maven 3.6.0 when
+ * they start. As the headers of a parallel build interleave, the projects only end with the reactor summary, which
+ * gives the result and the time of each one, or with the result of the build if there is no summary, like for a
+ * single project.
+ *
+ * @since 3.4
+ */
+final class ReactorProgress {
+    private static final Pattern ANSI_ESCAPE = Pattern.compile("\u001B\\[[;\\d]*m");
+
+    private static final Pattern LEVEL = Pattern.compile("^\\[\\w+\\] ");
+
+    private static final Pattern PROJECT_HEADER = Pattern.compile("^-+< (\\S+:\\S+) >-+$");
+
+    private static final Pattern BUILDING = Pattern.compile("^Building (.+?) \\S+(?:\\s+\\[(\\d+)/(\\d+)\\])?$");
+
+    private static final Pattern SUMMARY =
+            Pattern.compile("^(.+?) (?:\\.+ )?(SUCCESS|FAILURE|SKIPPED)(?: \\[\\s*(.+)\\])?$");
+
+    private static final Pattern DURATION = Pattern.compile("^(\\d+)[.,:](\\d+) (s|min|h)$");
+
+    private final ReleaseManagerListener listener;
+
+    private final LongSupplier clock;
+
+    private String header;
+
+    private boolean summary;
+
+    /**
+     * The coordinates of the projects started and not ended yet, by name.
+     */
+    private final Map<String, String> projects = new LinkedHashMap<>();
+
+    /**
+     * The start times of the projects started and not ended yet, by coordinates.
+     */
+    private final Map<String, Long> startTimes = new HashMap<>();
+
+    ReactorProgress(ReleaseManagerListener listener) {
+        this(listener, System::currentTimeMillis);
+    }
+
+    ReactorProgress(ReleaseManagerListener listener, LongSupplier clock) {
+        this.listener = listener;
+        this.clock = clock;
+    }
+
+    /**
+     * Follows the progress of a build for the listener of a release environment, if any.
+     *
+     * @param releaseEnvironment the release environment
+     * @return the reactor progress
+     */
+    static ReactorProgress of(ReleaseEnvironment releaseEnvironment) {
+        ReleaseManagerListener listener = null;
+        if (releaseEnvironment instanceof DefaultReleaseEnvironment) {
+            listener = ((DefaultReleaseEnvironment) releaseEnvironment).getReleaseManagerListener();
+        }
+        return new ReactorProgress(listener);
+    }
+
+    /**
+     * Follows a line of the output of the build.
+     *
+     * @param line the line
+     */
+    void consumeLine(String line) {
+        if (listener == null) {
+            return;
+        }
+
+        String text = LEVEL.matcher(ANSI_ESCAPE.matcher(line).replaceAll("")).replaceFirst("");
+
+        Matcher matcher = PROJECT_HEADER.matcher(text);
+        if (matcher.matches()) {
+            header = matcher.group(1);
+            return;
+        }
+
+        matcher = BUILDING.matcher(text);
+        if (matcher.matches() && header != null) {
+            String project = header;
+            header = null;
+            projects.put(matcher.group(1), project);
+            startTimes.put(project, clock.getAsLong());
+            if (matcher.group(2) != null) {
+                listener.projectStart(
+                        project, Integer.parseInt(matcher.group(2)), Integer.parseInt(matcher.group(3)));
+            } else {
+                listener.projectStart(project, 0, 0);
+            }
+        } else if (text.startsWith("Reactor Summary")) {
+            summary = true;
+        } else if (text.equals("BUILD SUCCESS")) {
+            endAll(true);
+        } else if (text.equals("BUILD FAILURE")) {
+            endAll(false);
+        } else if (summary) {
+            matcher = SUMMARY.matcher(text);
+            if (matcher.matches()) {
+                endSummarized(matcher.group(1), matcher.group(2).equals("SUCCESS"), matcher.group(3));
+            }
+        }
+    }
+
+    /**
+     * Ends the projects still being built when the build ends without printing its result, e.g. if it crashed.
+     *
+     * @param success whether the build succeeded
+     */
+    void finish(boolean success) {
+        if (listener != null) {
+            endAll(success);
+        }
+    }
+
+    /**
+     * Returns a stream writing to the given one, and following the lines written.
+     *
+     * @param out the stream to write to
+     * @return the stream following the lines written
+     */
+    OutputStream tee(OutputStream out) {
+        if (listener == null) {
+            return out;
+        }
+
+        return new FilterOutputStream(out) {
+            private final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                if (b == '\n' || b == '\r') {
+                    if (line.size() > 0) {
+                        consumeLine(line.toString());
+                        line.reset();
+                    }
+                } else {
+                    line.write(b);
+                }
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                int start = off;
+                for (int i = off; i < off + len; i++) {
+                    if (b[i] == '\n' || b[i] == '\r') {
+                        line.write(b, start, i - start);
+                        if (line.size() > 0) {
+                            consumeLine(line.toString());
+                            line.reset();
+                        }
+                        start = i + 1;
+                    }
+                }
+                line.write(b, start, off + len - start);
+            }
+        };
+    }
+
+    /**
+     * Ends a project with its line of the reactor summary, in which the version may follow the name.
+     */
+    private void endSummarized(String name, boolean success, String duration) {
+        String key = null;
+        for (String projectName : projects.keySet()) {
+            if (name.equals(projectName) || name.startsWith(projectName + ' ')) {
+                key = projectName;
+                break;
+            }
+        }
+        if (key == null) {
+            // skipped, so never started
+            return;
+        }
+
+        String project = projects.remove(key);
+        long startTime = startTimes.remove(project);
+        long time = parseDuration(duration);
+        listener.projectEnd(project, success, time >= 0 ? time : clock.getAsLong() - startTime);
+    }
+
+    private void endAll(boolean success) {
+        for (String project : projects.values()) {
+            listener.projectEnd(project, success, clock.getAsLong() - startTimes.get(project));
+        }
+        projects.clear();
+        startTimes.clear();
+    }
+
+    /**
+     * Parses a duration of the reactor summary, like <code>1.234 s</code>, <code>01:02 min</code> or
+     * <code>01:02 h</code>.
+     *
+     * @return the duration in milliseconds, or <code>-1</code> if it cannot be parsed
+     */
+    static long parseDuration(String duration) {
+        Matcher matcher = duration != null ? DURATION.matcher(duration) : null;
+        if (matcher == null || !matcher.matches()) {
+            return -1;
+        }
+
+        long first = Long.parseLong(matcher.group(1));
+        String second = matcher.group(2);
+        switch (matcher.group(3)) {
+            case "s":
+                // the fraction of a second, with the decimal separator of the locale
+                return first * 1000 + Math.round(Double.parseDouble("0." + second) * 1000);
+            case "min":
+                return (first * 60 + Long.parseLong(second)) * 1000;
+            default:
+                return (first * 60 + Long.parseLong(second)) * 60 * 1000;
+        }
+    }
+}
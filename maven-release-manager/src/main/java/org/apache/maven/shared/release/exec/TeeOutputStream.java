@@ -22,6 +22,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.Charset;
 
 /**
  * <p>TeeOutputStream class.</p>
@@ -92,4 +93,15 @@ public class TeeOutputStream extends FilterOutputStream {
     public String getContent() {
         return bout.toString();
     }
+
+    /**
+     * <p>getContent.</p>
+     *
+     * @param charset the charset of the content
+     * @return a {@link java.lang.String} object
+     * @since 3.4
+     */
+    public String getContent(Charset charset) {
+        return new String(bout.toByteArray(), charset);
+    }
 }
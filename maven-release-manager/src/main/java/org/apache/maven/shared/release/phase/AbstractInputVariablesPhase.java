@@ -18,10 +18,9 @@
  */
 package org.apache.maven.shared.release.phase;
 
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.maven.artifact.ArtifactUtils;
@@ -39,15 +38,10 @@ import org.apache.maven.shared.release.policy.naming.NamingPolicy;
 import org.apache.maven.shared.release.policy.naming.NamingPolicyRequest;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
+import org.apache.maven.shared.release.util.ReleaseTemplate;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 import org.codehaus.plexus.components.interactivity.Prompter;
 import org.codehaus.plexus.components.interactivity.PrompterException;
-import org.codehaus.plexus.interpolation.InterpolationException;
-import org.codehaus.plexus.interpolation.Interpolator;
-import org.codehaus.plexus.interpolation.PrefixAwareRecursionInterceptor;
-import org.codehaus.plexus.interpolation.PrefixedPropertiesValueSource;
-import org.codehaus.plexus.interpolation.RecursionInterceptor;
-import org.codehaus.plexus.interpolation.StringSearchInterpolator;
 
 import static java.util.Objects.requireNonNull;
 import static org.apache.maven.shared.utils.logging.MessageUtils.buffer;
@@ -162,20 +156,11 @@ public abstract class AbstractInputVariablesPhase extends AbstractReleasePhase {
                     throw new ReleaseExecutionException(e.getMessage(), e);
                 }
             } else if (scmTagNameFormat != null) {
-                Interpolator interpolator = new StringSearchInterpolator("@{", "}");
-                List<String> possiblePrefixes = Arrays.asList("project", "pom");
-                Properties values = new Properties();
-                values.setProperty("artifactId", project.getArtifactId());
-                values.setProperty("groupId", project.getGroupId());
-                values.setProperty("version", releaseVersion);
-                interpolator.addValueSource(new PrefixedPropertiesValueSource(possiblePrefixes, values, true));
-                RecursionInterceptor recursionInterceptor = new PrefixAwareRecursionInterceptor(possiblePrefixes);
-                try {
-                    suggestedName = interpolator.interpolate(scmTagNameFormat, recursionInterceptor);
-                } catch (InterpolationException e) {
-                    throw new ReleaseExecutionException(
-                            "Could not interpolate specified tag name format: " + scmTagNameFormat, e);
-                }
+                Map<String, String> values = new HashMap<>();
+                putTagNameValue(values, "artifactId", project.getArtifactId());
+                putTagNameValue(values, "groupId", project.getGroupId());
+                putTagNameValue(values, "version", releaseVersion);
+                suggestedName = ReleaseTemplate.compile(releaseDescriptor, scmTagNameFormat).render(values);
             } else {
                 try {
                     suggestedName = resolveSuggestedName(defaultNamingPolicy, releaseVersion, project);
@@ -247,6 +232,16 @@ public abstract class AbstractInputVariablesPhase extends AbstractReleasePhase {
         return result;
     }
 
+    /**
+     * Registers a tag name format value under its plain name as well as its <code>project.</code> and
+     * <code>pom.</code> prefixed names.
+     */
+    private static void putTagNameValue(Map<String, String> values, String name, String value) {
+        values.put(name, value);
+        values.put("project." + name, value);
+        values.put("pom." + name, value);
+    }
+
     private String resolveSuggestedName(String policyId, String version, MavenProject project) throws PolicyException {
         if (policyId == null) {
             return null;
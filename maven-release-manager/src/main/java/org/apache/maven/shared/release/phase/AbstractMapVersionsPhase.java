@@ -20,10 +20,15 @@ package org.apache.maven.shared.release.phase;
 
 import java.nio.file.FileSystems;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.project.MavenProject;
@@ -36,6 +41,7 @@ import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.apache.maven.shared.release.policy.PolicyException;
+import org.apache.maven.shared.release.policy.version.StatefulVersionPolicy;
 import org.apache.maven.shared.release.policy.version.VersionPolicy;
 import org.apache.maven.shared.release.policy.version.VersionPolicyRequest;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
@@ -131,6 +137,9 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
             exclusionPatterns.addAll(additionalExcludes);
         }
 
+        // suggested versions of this execution, most modules of a reactor share the same base version
+        Map<List<String>, String> suggestedVersions = new HashMap<>();
+
         MavenProject rootProject = ReleaseUtil.getRootProject(reactorProjects);
 
         if (releaseDescriptor.isAutoVersionSubmodules() && ArtifactUtils.isSnapshot(rootProject.getVersion())) {
@@ -139,7 +148,8 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
 
             String projectId = ArtifactUtils.versionlessKey(project.getGroupId(), project.getArtifactId());
 
-            String nextVersion = resolveNextVersion(project, projectId, releaseDescriptor, releaseEnvironment);
+            String nextVersion =
+                    resolveNextVersion(project, projectId, releaseDescriptor, releaseEnvironment, suggestedVersions);
 
             if (!convertToSnapshot) {
                 releaseDescriptor.addReleaseVersion(projectId, nextVersion);
@@ -178,6 +188,10 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
                 }
             }
         } else {
+            Pattern versionStreamPattern = getVersionStreamPattern(releaseDescriptor);
+
+            // next version per version stream, resolved for the first module of each stream
+            Map<String, String> streamVersions = new HashMap<>();
 
             for (MavenProject project : reactorProjects) {
                 String projectId = ArtifactUtils.versionlessKey(project.getGroupId(), project.getArtifactId());
@@ -190,7 +204,23 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
                                     .matches(Paths.get(project.getFile().getPath())));
                 }
                 if (!isExcludedPathFound) {
-                    String nextVersion = resolveNextVersion(project, projectId, releaseDescriptor, releaseEnvironment);
+                    String stream = versionStreamPattern != null
+                            ? getVersionStream(versionStreamPattern, rootProject, project)
+                            : null;
+
+                    String nextVersion;
+                    if (stream != null && streamVersions.containsKey(stream)) {
+                        nextVersion = getStreamMemberVersion(
+                                project, projectId, streamVersions.get(stream), releaseDescriptor);
+                    } else {
+                        nextVersion = resolveNextVersion(
+                                project, projectId, releaseDescriptor, releaseEnvironment, suggestedVersions);
+                        if (stream != null) {
+                            getLogger().debug("Version stream '{}' maps to {}", stream, nextVersion);
+                            streamVersions.put(stream, nextVersion);
+                        }
+                    }
+
                     if (!convertToSnapshot) {
                         releaseDescriptor.addReleaseVersion(projectId, nextVersion);
                     } else if (releaseDescriptor.isBranchCreation() && convertToBranch) {
@@ -207,11 +237,71 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
         return result;
     }
 
+    private static Pattern getVersionStreamPattern(ReleaseDescriptor releaseDescriptor)
+            throws ReleaseExecutionException {
+        String versionStreamPattern = releaseDescriptor.getVersionStreamPattern();
+        if (versionStreamPattern == null || versionStreamPattern.isEmpty()) {
+            return null;
+        }
+        try {
+            return Pattern.compile(versionStreamPattern);
+        } catch (PatternSyntaxException e) {
+            throw new ReleaseExecutionException("Invalid version stream pattern: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Matches the version stream pattern against <code>groupId:path</code> of the project.
+     *
+     * @return the version stream of the project, or {@code null} if it is not part of any stream
+     */
+    private static String getVersionStream(
+            Pattern versionStreamPattern, MavenProject rootProject, MavenProject project) {
+        String path = "";
+        if (rootProject.getBasedir() != null && project.getBasedir() != null) {
+            path = rootProject
+                    .getBasedir()
+                    .toPath()
+                    .relativize(project.getBasedir().toPath())
+                    .toString()
+                    .replace('\\', '/');
+        }
+
+        Matcher matcher = versionStreamPattern.matcher(project.getGroupId() + ':' + path);
+        if (!matcher.find()) {
+            return null;
+        }
+        return matcher.groupCount() > 0 ? matcher.group(1) : matcher.group();
+    }
+
+    /**
+     * Next version of a module joining an already resolved version stream: explicitly mapped versions still win and,
+     * like with <code>autoVersionSubmodules</code>, released modules keep their version in the development cycle.
+     */
+    private String getStreamMemberVersion(
+            MavenProject project, String projectId, String streamVersion, ReleaseDescriptor releaseDescriptor) {
+        String mappedVersion;
+        if (!convertToSnapshot || (releaseDescriptor.isBranchCreation() && convertToBranch)) {
+            mappedVersion = releaseDescriptor.getProjectReleaseVersion(projectId);
+        } else {
+            mappedVersion = releaseDescriptor.getProjectDevelopmentVersion(projectId);
+        }
+
+        if (mappedVersion != null) {
+            return mappedVersion;
+        } else if (convertToSnapshot && !ArtifactUtils.isSnapshot(project.getVersion())) {
+            return project.getVersion();
+        } else {
+            return streamVersion;
+        }
+    }
+
     private String resolveNextVersion(
             MavenProject project,
             String projectId,
             ReleaseDescriptor releaseDescriptor,
-            ReleaseEnvironment releaseEnvironment)
+            ReleaseEnvironment releaseEnvironment,
+            Map<List<String>, String> suggestedVersions)
             throws ReleaseExecutionException {
         String defaultVersion;
         if (convertToBranch) {
@@ -261,11 +351,11 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
                     try {
                         try {
                             suggestedVersion = resolveSuggestedVersion(
-                                    project, baseVersion, releaseDescriptor, releaseEnvironment);
+                                    project, baseVersion, releaseDescriptor, releaseEnvironment, suggestedVersions);
                         } catch (VersionParseException e) {
                             if (releaseDescriptor.isInteractive()) {
-                                suggestedVersion =
-                                        resolveSuggestedVersion(project, "1.0", releaseDescriptor, releaseEnvironment);
+                                suggestedVersion = resolveSuggestedVersion(
+                                        project, "1.0", releaseDescriptor, releaseEnvironment, suggestedVersions);
                             } else {
                                 throw new ReleaseExecutionException(
                                         "Error parsing version, cannot determine next " + "version: " + e.getMessage(),
@@ -317,7 +407,8 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
             MavenProject project,
             String baseVersion,
             ReleaseDescriptor releaseDescriptor,
-            ReleaseEnvironment releaseEnvironment)
+            ReleaseEnvironment releaseEnvironment,
+            Map<List<String>, String> suggestedVersions)
             throws PolicyException, VersionParseException {
         String policyId = releaseDescriptor.getProjectVersionPolicyId();
         VersionPolicy policy = versionPolicies.get(policyId);
@@ -337,6 +428,16 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
             request.setVersion(baseVersion.replace(sha1, ""));
         }
 
+        // the same request for a stateless policy gives the same result, no need to ask (or configure SCM) again
+        List<String> cacheKey = null;
+        if (!(policy instanceof StatefulVersionPolicy)) {
+            cacheKey = Arrays.asList(policyId, request.getConfig(), request.getVersion());
+            String suggestedVersion = suggestedVersions.get(cacheKey);
+            if (suggestedVersion != null) {
+                return suggestedVersion;
+            }
+        }
+
         if (scmRepositoryConfigurator != null && releaseDescriptor.getScmSourceUrl() != null) {
             try {
                 ScmRepository repository = scmRepositoryConfigurator.getConfiguredRepository(
@@ -357,9 +458,14 @@ public abstract class AbstractMapVersionsPhase extends AbstractReleasePhase {
                 }
             }
         }
-        return convertToSnapshot
+        String suggestedVersion = convertToSnapshot
                 ? policy.getDevelopmentVersion(request).getVersion()
                 : policy.getReleaseVersion(request).getVersion();
+
+        if (cacheKey != null && suggestedVersion != null) {
+            suggestedVersions.put(cacheKey, suggestedVersion);
+        }
+        return suggestedVersion;
     }
 
     private static String getOriginalVersion(MavenProject project) {
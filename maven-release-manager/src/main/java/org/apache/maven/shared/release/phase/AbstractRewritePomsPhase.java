@@ -19,11 +19,14 @@
 package org.apache.maven.shared.release.phase;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
@@ -261,13 +264,27 @@ public abstract class AbstractRewritePomsPhase extends AbstractReleasePhase impl
         transformDocument(project, etl.getModel(), releaseDescriptor, scmRepository, result, simulate);
 
         File outputFile;
+        byte[] originalPom = null;
         if (simulate) {
             outputFile = new File(pomFile.getParentFile(), pomFile.getName() + "." + getPomSuffix());
         } else {
             outputFile = pomFile;
+            originalPom = readPom(pomFile);
             prepareScm(pomFile, releaseDescriptor, scmRepository, provider);
         }
         etl.load(outputFile);
+
+        if (originalPom != null && !Arrays.equals(originalPom, readPom(pomFile))) {
+            ReleaseUtil.addChangedFile(releaseDescriptor, pomFile);
+        }
+    }
+
+    private static byte[] readPom(File pomFile) throws ReleaseExecutionException {
+        try {
+            return Files.readAllBytes(pomFile.toPath());
+        } catch (IOException e) {
+            throw new ReleaseExecutionException("Error reading POM " + pomFile + ": " + e.getMessage(), e);
+        }
     }
 
     private void transformDocument(
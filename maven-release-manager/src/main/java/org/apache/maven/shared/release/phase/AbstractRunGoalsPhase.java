@@ -102,12 +102,21 @@ public abstract class AbstractRunGoalsPhase extends AbstractReleasePhase {
                     pomFileName = null;
                 }
 
+                String arguments = additionalArguments;
+                String threads = getThreads(releaseDescriptor);
+                if (!(threads == null || threads.isEmpty())) {
+                    logInfo(result, "    with threads: " + threads);
+
+                    // Maven uses the first -T option, so a -T in the additional arguments takes precedence
+                    arguments = (arguments == null ? "" : arguments + " ") + "-T " + threads;
+                }
+
                 mavenExecutor.executeGoals(
                         executionRoot,
                         goals,
                         releaseEnvironment,
                         releaseDescriptor.isInteractive(),
-                        additionalArguments,
+                        arguments,
                         pomFileName,
                         result);
             }
@@ -122,6 +131,18 @@ public abstract class AbstractRunGoalsPhase extends AbstractReleasePhase {
 
     protected abstract String getGoals(ReleaseDescriptor releaseDescriptor);
 
+    /**
+     * Returns the number of threads to execute the goals with, in the format of the Maven <code>-T</code> option.
+     * By default, this is <code>null</code>, i.e. the goals are executed serially.
+     *
+     * @param releaseDescriptor the release descriptor
+     * @return the number of threads, or <code>null</code>
+     * @since 3.4
+     */
+    protected String getThreads(ReleaseDescriptor releaseDescriptor) {
+        return null;
+    }
+
     protected String getAdditionalArguments(ReleaseDescriptor releaseDescriptor) {
         StringBuilder builder = new StringBuilder();
 
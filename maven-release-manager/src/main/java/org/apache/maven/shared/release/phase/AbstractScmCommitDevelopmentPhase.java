@@ -28,6 +28,7 @@ import org.apache.maven.shared.release.ReleaseExecutionException;
 import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
+import org.apache.maven.shared.release.exec.CommandLineFactory;
 import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
@@ -45,9 +46,10 @@ public abstract class AbstractScmCommitDevelopmentPhase extends AbstractScmCommi
 
     protected AbstractScmCommitDevelopmentPhase(
             ScmRepositoryConfigurator scmRepositoryConfigurator,
-            String descriptorCommentGetter,
+            CommandLineFactory commandLineFactory,
+            CommitKind commitKind,
             String rollbackMessageFormat) {
-        super(scmRepositoryConfigurator, descriptorCommentGetter);
+        super(scmRepositoryConfigurator, commandLineFactory, commitKind);
         this.rollbackMessageFormat = rollbackMessageFormat;
     }
 
@@ -62,7 +64,9 @@ public abstract class AbstractScmCommitDevelopmentPhase extends AbstractScmCommi
         // no rollback required
         if (
         // was there no commit that has to be rolled back by a new one
-        releaseDescriptor.isSuppressCommitBeforeTagOrBranch()
+        (releaseDescriptor.isSuppressCommitBeforeTagOrBranch()
+                        || ScmTagPhase.isTaggedWithModifications(
+                                releaseDescriptor, releaseEnvironment, scmRepositoryConfigurator))
                 // and working copy should not be touched
                 && !releaseDescriptor.isUpdateWorkingCopyVersions()) {
             if (simulating) {
@@ -22,10 +22,15 @@ import java.io.File;
 import java.nio.file.FileSystems;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.scm.ScmException;
@@ -34,6 +39,7 @@ import org.apache.maven.scm.ScmVersion;
 import org.apache.maven.scm.command.checkin.CheckInScmResult;
 import org.apache.maven.scm.manager.NoSuchScmProviderException;
 import org.apache.maven.scm.provider.ScmProvider;
+import org.apache.maven.scm.provider.git.repository.GitScmProviderRepository;
 import org.apache.maven.scm.repository.ScmRepository;
 import org.apache.maven.scm.repository.ScmRepositoryException;
 import org.apache.maven.shared.release.ReleaseExecutionException;
@@ -41,9 +47,12 @@ import org.apache.maven.shared.release.ReleaseFailureException;
 import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
+import org.apache.maven.shared.release.exec.CommandLineFactory;
+import org.apache.maven.shared.release.scm.GitCommands;
 import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
+import org.apache.maven.shared.release.util.ReleaseTemplate;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 
 import static java.util.Objects.requireNonNull;
@@ -54,23 +63,31 @@ import static java.util.Objects.requireNonNull;
  * @author <a href="mailto:brett@apache.org">Brett Porter</a>
  * @author <a href="mailto:me@lcorneliussen.de">Lars Corneliussen</a>
  */
-public abstract class AbstractScmCommitPhase extends AbstractReleasePhase {
+public abstract class AbstractScmCommitPhase extends AbstractReleasePhase implements ScmRootPhase {
     /**
      * Tool that gets a configured SCM repository from release configuration.
      */
     protected final ScmRepositoryConfigurator scmRepositoryConfigurator;
 
     /**
-     * The getter in the descriptor for the comment.
+     * The commit made by the phase.
      */
-    protected final String descriptorCommentGetter;
+    protected final CommitKind commitKind;
 
-    private final Set<String> exclusionPatterns = new HashSet<>();
+    /**
+     * Command line factory.
+     */
+    protected final CommandLineFactory commandLineFactory;
+
+    private final Set<String> exclusionPatterns = ConcurrentHashMap.newKeySet();
 
     protected AbstractScmCommitPhase(
-            ScmRepositoryConfigurator scmRepositoryConfigurator, String descriptorCommentGetter) {
+            ScmRepositoryConfigurator scmRepositoryConfigurator,
+            CommandLineFactory commandLineFactory,
+            CommitKind commitKind) {
         this.scmRepositoryConfigurator = requireNonNull(scmRepositoryConfigurator);
-        this.descriptorCommentGetter = requireNonNull(descriptorCommentGetter);
+        this.commandLineFactory = requireNonNull(commandLineFactory);
+        this.commitKind = requireNonNull(commitKind);
     }
 
     @Override
@@ -154,11 +171,22 @@ public abstract class AbstractScmCommitPhase extends AbstractReleasePhase {
 
         ScmRepository repository;
         ScmProvider provider;
+        boolean pushDeferred;
+        boolean pushOnce;
         try {
             repository = scmRepositoryConfigurator.getConfiguredRepository(
                     releaseDescriptor, releaseEnvironment.getSettings());
 
-            repository.getProviderRepository().setPushChanges(releaseDescriptor.isPushChanges());
+            // rollback commits are pushed by remove-scm-tag, together with the removal of the tag
+            pushDeferred = ScmPushPhase.isPushDeferred(releaseDescriptor, repository);
+            // the commits of the projects are pushed together once the last one is done
+            pushOnce = releaseDescriptor.isCommitByProject()
+                    && releaseDescriptor.isPushChanges()
+                    && !pushDeferred
+                    && repository.getProviderRepository() instanceof GitScmProviderRepository;
+            repository
+                    .getProviderRepository()
+                    .setPushChanges(releaseDescriptor.isPushChanges() && !pushDeferred && !pushOnce);
 
             repository.getProviderRepository().setWorkItem(releaseDescriptor.getWorkItem());
 
@@ -169,15 +197,35 @@ public abstract class AbstractScmCommitPhase extends AbstractReleasePhase {
             throw new ReleaseExecutionException("Unable to configure SCM repository: " + e.getMessage(), e);
         }
 
+        if (pushDeferred) {
+            File workingDirectory = new File(releaseDescriptor.getWorkingDirectory());
+            if (commitKind == CommitKind.RELEASE) {
+                releaseDescriptor.setScmPreReleaseRevision(
+                        GitCommands.run(commandLineFactory, workingDirectory, "rev-parse", "HEAD"));
+            } else if (commitKind == CommitKind.ROLLBACK && releaseDescriptor.getScmPreReleaseRevision() != null) {
+                resetPomFiles(releaseDescriptor, reactorProjects, workingDirectory);
+            }
+        }
+
         if (releaseDescriptor.isCommitByProject()) {
+            int commits = 0;
             for (MavenProject project : reactorProjects) {
-                List<File> pomFiles = createPomFiles(releaseDescriptor, project);
-                ScmFileSet fileSet = new ScmFileSet(project.getFile().getParentFile(), pomFiles);
+                List<File> pomFiles = selectChangedFiles(releaseDescriptor, createPomFiles(releaseDescriptor, project));
 
-                checkin(provider, repository, fileSet, releaseDescriptor, message);
+                if (!pomFiles.isEmpty()) {
+                    ScmFileSet fileSet = new ScmFileSet(project.getFile().getParentFile(), pomFiles);
+
+                    checkin(provider, repository, fileSet, releaseDescriptor, message);
+                    commits++;
+                }
+            }
+
+            if (pushOnce && commits > 0) {
+                push(releaseDescriptor, (GitScmProviderRepository) repository.getProviderRepository());
             }
         } else {
-            List<File> pomFiles = createPomFiles(releaseDescriptor, reactorProjects);
+            List<File> pomFiles =
+                    selectChangedFiles(releaseDescriptor, createPomFiles(releaseDescriptor, reactorProjects));
 
             if (!pomFiles.isEmpty()) {
                 ScmFileSet fileSet = new ScmFileSet(new File(releaseDescriptor.getWorkingDirectory()), pomFiles);
@@ -185,6 +233,59 @@ public abstract class AbstractScmCommitPhase extends AbstractReleasePhase {
                 checkin(provider, repository, fileSet, releaseDescriptor, message);
             }
         }
+
+        // everything written so far is committed now
+        releaseDescriptor.setChangedFiles(new ArrayList<>());
+    }
+
+    /**
+     * Resets the POMs to their content before the release, as recorded by the release commit. Release POMs did not
+     * exist then, and are left to the removal of the release POMs.
+     */
+    private void resetPomFiles(
+            ReleaseDescriptor releaseDescriptor, List<MavenProject> reactorProjects, File workingDirectory)
+            throws ReleaseExecutionException {
+        String revision = releaseDescriptor.getScmPreReleaseRevision();
+        getLogger().info("Resetting POMs to revision " + revision + "...");
+
+        List<String> args = new ArrayList<>(Arrays.asList("checkout", revision, "--"));
+        for (MavenProject project : reactorProjects) {
+            args.add(ReleaseUtil.getStandardPom(project).getAbsolutePath());
+        }
+
+        GitCommands.run(commandLineFactory, workingDirectory, args.toArray(new String[0]));
+    }
+
+    private void push(ReleaseDescriptor releaseDescriptor, GitScmProviderRepository gitRepository)
+            throws ReleaseExecutionException {
+        getLogger().info("Pushing to " + gitRepository.getPushUrlWithMaskedPassword() + "...");
+
+        GitCommands.run(
+                commandLineFactory,
+                new File(releaseDescriptor.getWorkingDirectory()),
+                "push",
+                gitRepository.getPushUrl(),
+                "HEAD");
+    }
+
+    /**
+     * Restricts the files to commit to the ones the release has written since the previous commit, if they are known.
+     * The files restored by a rollback are not tracked, so all of them are committed.
+     */
+    private List<File> selectChangedFiles(ReleaseDescriptor releaseDescriptor, List<File> pomFiles) {
+        if (releaseDescriptor.getChangedFiles().isEmpty() || commitKind == CommitKind.ROLLBACK) {
+            return pomFiles;
+        }
+
+        Set<String> changedFiles = new HashSet<>(releaseDescriptor.getChangedFiles());
+
+        List<File> selectedFiles = new ArrayList<>();
+        for (File pomFile : pomFiles) {
+            if (changedFiles.contains(pomFile.getAbsolutePath())) {
+                selectedFiles.add(pomFile);
+            }
+        }
+        return selectedFiles;
     }
 
     private void checkin(
@@ -222,7 +323,8 @@ public abstract class AbstractScmCommitPhase extends AbstractReleasePhase {
             List<MavenProject> reactorProjects,
             ReleaseResult result,
             String message) {
-        Collection<File> pomFiles = createPomFiles(releaseDescriptor, reactorProjects);
+        Collection<File> pomFiles =
+                selectChangedFiles(releaseDescriptor, createPomFiles(releaseDescriptor, reactorProjects));
         logInfo(result, "Full run would be commit " + pomFiles.size() + " files with message: '" + message + "'");
     }
 
@@ -248,33 +350,16 @@ public abstract class AbstractScmCommitPhase extends AbstractReleasePhase {
      */
     protected String createMessage(List<MavenProject> reactorProjects, ReleaseDescriptor releaseDescriptor)
             throws ReleaseExecutionException {
-        String comment;
-        boolean branch = false;
-        if ("getScmReleaseCommitComment".equals(descriptorCommentGetter)) {
-            comment = releaseDescriptor.getScmReleaseCommitComment();
-        } else if ("getScmDevelopmentCommitComment".equals(descriptorCommentGetter)) {
-            comment = releaseDescriptor.getScmDevelopmentCommitComment();
-        } else if ("getScmBranchCommitComment".equals(descriptorCommentGetter)) {
-            comment = releaseDescriptor.getScmBranchCommitComment();
-            branch = true;
-        } else if ("getScmRollbackCommitComment".equals(descriptorCommentGetter)) {
-            comment = releaseDescriptor.getScmRollbackCommitComment();
-        } else {
-            throw new ReleaseExecutionException(
-                    "Invalid configuration of descriptorCommentGetter='" + descriptorCommentGetter + "'");
-        }
+        String comment = commitKind.getComment(releaseDescriptor);
+        boolean branch = commitKind == CommitKind.BRANCH;
 
         MavenProject project = ReleaseUtil.getRootProject(reactorProjects);
-        comment = comment.replace(
-                "@{prefix}", releaseDescriptor.getScmCommentPrefix().trim());
-        comment = comment.replace("@{groupId}", project.getGroupId());
-        comment = comment.replace("@{artifactId}", project.getArtifactId());
-        if (branch) {
-            comment = comment.replace("@{branchName}", releaseDescriptor.getScmReleaseLabel());
-        } else {
-            comment = comment.replace("@{releaseLabel}", releaseDescriptor.getScmReleaseLabel());
-        }
-        return comment;
+        Map<String, String> values = new HashMap<>();
+        values.put("prefix", releaseDescriptor.getScmCommentPrefix().trim());
+        values.put("groupId", project.getGroupId());
+        values.put("artifactId", project.getArtifactId());
+        values.put(branch ? "branchName" : "releaseLabel", releaseDescriptor.getScmReleaseLabel());
+        return ReleaseTemplate.compile(releaseDescriptor, comment).render(values);
     }
 
     /**
@@ -320,4 +405,26 @@ public abstract class AbstractScmCommitPhase extends AbstractReleasePhase {
         }
         return pomFiles;
     }
+
+    /**
+     * The commits made by the phases, each with its comment in the release descriptor.
+     *
+     * @since 3.4
+     */
+    protected enum CommitKind {
+        RELEASE(ReleaseDescriptor::getScmReleaseCommitComment),
+        DEVELOPMENT(ReleaseDescriptor::getScmDevelopmentCommitComment),
+        BRANCH(ReleaseDescriptor::getScmBranchCommitComment),
+        ROLLBACK(ReleaseDescriptor::getScmRollbackCommitComment);
+
+        private final Function<ReleaseDescriptor, String> comment;
+
+        CommitKind(Function<ReleaseDescriptor, String> comment) {
+            this.comment = comment;
+        }
+
+        String getComment(ReleaseDescriptor releaseDescriptor) {
+            return comment.apply(releaseDescriptor);
+        }
+    }
 }
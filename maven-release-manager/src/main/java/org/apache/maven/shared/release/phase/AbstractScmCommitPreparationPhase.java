@@ -26,6 +26,7 @@ import org.apache.maven.shared.release.ReleaseFailureException;
 import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
+import org.apache.maven.shared.release.exec.CommandLineFactory;
 import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
@@ -37,8 +38,10 @@ import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
  */
 public abstract class AbstractScmCommitPreparationPhase extends AbstractScmCommitPhase {
     protected AbstractScmCommitPreparationPhase(
-            ScmRepositoryConfigurator scmRepositoryConfigurator, String descriptorCommentGetter) {
-        super(scmRepositoryConfigurator, descriptorCommentGetter);
+            ScmRepositoryConfigurator scmRepositoryConfigurator,
+            CommandLineFactory commandLineFactory,
+            CommitKind commitKind) {
+        super(scmRepositoryConfigurator, commandLineFactory, commitKind);
     }
 
     @Override
@@ -66,6 +69,16 @@ public abstract class AbstractScmCommitPreparationPhase extends AbstractScmCommi
                 logInfo(result, "Modified POMs are not committed because " + parameterName + " is set to true.");
             }
         }
+        // the release POMs are committed with the tag
+        else if (commitKind != CommitKind.ROLLBACK
+                && ScmTagPhase.isTaggedWithModifications(
+                        releaseDescriptor, releaseEnvironment, scmRepositoryConfigurator)) {
+            if (simulating) {
+                logInfo(result, "Full run would not commit changes, because the tag is created with them.");
+            } else {
+                logInfo(result, "Modified POMs are not committed because the tag is created with them.");
+            }
+        }
         // commit development versions required
         else {
             String message = createMessage(reactorProjects, releaseDescriptor);
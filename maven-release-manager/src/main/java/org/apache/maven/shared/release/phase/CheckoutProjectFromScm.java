@@ -21,6 +21,7 @@ package org.apache.maven.shared.release.phase;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
+import javax.xml.stream.XMLStreamException;
 
 import java.io.File;
 import java.io.IOException;
@@ -36,6 +37,8 @@ import org.apache.maven.scm.ScmException;
 import org.apache.maven.scm.ScmFileSet;
 import org.apache.maven.scm.ScmTag;
 import org.apache.maven.scm.command.checkout.CheckOutScmResult;
+import org.apache.maven.scm.command.info.InfoScmResult;
+import org.apache.maven.scm.command.status.StatusScmResult;
 import org.apache.maven.scm.manager.NoSuchScmProviderException;
 import org.apache.maven.scm.provider.ScmProvider;
 import org.apache.maven.scm.repository.ScmRepository;
@@ -45,9 +48,12 @@ import org.apache.maven.shared.release.ReleaseFailureException;
 import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
+import org.apache.maven.shared.release.exec.CommandLineFactory;
+import org.apache.maven.shared.release.scm.GitCommands;
 import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
+import org.apache.maven.shared.release.util.PomIdentity;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 import org.codehaus.plexus.util.FileUtils;
 
@@ -59,15 +65,22 @@ import static org.apache.maven.shared.utils.logging.MessageUtils.buffer;
  */
 @Singleton
 @Named("checkout-project-from-scm")
-public class CheckoutProjectFromScm extends AbstractReleasePhase {
+public class CheckoutProjectFromScm extends AbstractReleasePhase implements RepeatablePhase {
     /**
      * Tool that gets a configured SCM repository from release configuration.
      */
     private final ScmRepositoryConfigurator scmRepositoryConfigurator;
 
+    /**
+     * Command line factory.
+     */
+    private final CommandLineFactory commandLineFactory;
+
     @Inject
-    public CheckoutProjectFromScm(ScmRepositoryConfigurator scmRepositoryConfigurator) {
+    public CheckoutProjectFromScm(
+            ScmRepositoryConfigurator scmRepositoryConfigurator, CommandLineFactory commandLineFactory) {
         this.scmRepositoryConfigurator = requireNonNull(scmRepositoryConfigurator);
+        this.commandLineFactory = requireNonNull(commandLineFactory);
     }
 
     @Override
@@ -78,7 +91,12 @@ public class CheckoutProjectFromScm extends AbstractReleasePhase {
             throws ReleaseExecutionException, ReleaseFailureException {
         ReleaseResult releaseResult;
 
-        if (releaseDescriptor.isLocalCheckout()) {
+        File gitRepositoryRoot = releaseDescriptor.isLocalCheckout() ? getGitRepositoryRoot(releaseDescriptor) : null;
+
+        if (gitRepositoryRoot != null) {
+            // the repository root is known, so clone it locally instead of trying a checkout from each parent
+            releaseResult = performLocalClone(releaseDescriptor, reactorProjects, gitRepositoryRoot);
+        } else if (releaseDescriptor.isLocalCheckout()) {
             // in the release phase we have to change the checkout URL
             // to do a local checkout instead of going over the network.
 
@@ -141,6 +159,113 @@ public class CheckoutProjectFromScm extends AbstractReleasePhase {
         return releaseResult;
     }
 
+    /**
+     * @return the root directory of the Git working copy the release is prepared in, or {@code null} if not using Git
+     */
+    private File getGitRepositoryRoot(ReleaseDescriptor releaseDescriptor) {
+        if (releaseDescriptor.getScmSourceUrl() == null
+                || !releaseDescriptor.getScmSourceUrl().startsWith("scm:git:")) {
+            return null;
+        }
+
+        try {
+            return new File(GitCommands.run(
+                    commandLineFactory,
+                    new File(releaseDescriptor.getWorkingDirectory()),
+                    "rev-parse",
+                    "--show-toplevel"));
+        } catch (ReleaseExecutionException e) {
+            getLogger().debug("Not a Git working copy, falling back to local checkouts: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Clones the local repository at the release tag, with hard links to its objects, unless the checkout directory
+     * already contains a clone at that revision, which is then restored to a pristine state.
+     */
+    private ReleaseResult performLocalClone(
+            ReleaseDescriptor releaseDescriptor, List<MavenProject> reactorProjects, File repositoryRoot)
+            throws ReleaseExecutionException {
+        ReleaseResult result = new ReleaseResult();
+
+        MavenProject rootProject = ReleaseUtil.getRootProject(reactorProjects);
+
+        File checkoutDirectory =
+                FileUtils.resolveFile(rootProject.getBasedir(), releaseDescriptor.getCheckoutDirectory());
+
+        String tag = releaseDescriptor.getScmReleaseLabel();
+        String tagRevision =
+                GitCommands.run(commandLineFactory, repositoryRoot, "rev-parse", "--verify", tag + "^{commit}");
+
+        if (isCloneAtRevision(checkoutDirectory, tagRevision)) {
+            logInfo(result, "Reusing the existing checkout of " + tag + " in " + checkoutDirectory);
+        } else {
+            logInfo(result, "Cloning " + repositoryRoot + " locally at " + tag + " to perform the release ...");
+
+            if (checkoutDirectory.exists()) {
+                try {
+                    FileUtils.deleteDirectory(checkoutDirectory);
+                } catch (IOException e) {
+                    result.setResultCode(ReleaseResult.ERROR);
+                    logError(result, e.getMessage());
+
+                    throw new ReleaseExecutionException(
+                            "Unable to remove old checkout directory: " + e.getMessage(), e);
+                }
+            }
+
+            GitCommands.run(
+                    commandLineFactory,
+                    repositoryRoot,
+                    "clone",
+                    "--local",
+                    "--branch",
+                    tag,
+                    repositoryRoot.getPath(),
+                    checkoutDirectory.getPath());
+        }
+
+        try {
+            Path rootProjectBasedir = rootProject.getBasedir().toPath().toRealPath(LinkOption.NOFOLLOW_LINKS);
+            releaseDescriptor.setScmRelativePathProjectDirectory(repositoryRoot
+                    .toPath()
+                    .toRealPath(LinkOption.NOFOLLOW_LINKS)
+                    .relativize(rootProjectBasedir)
+                    .toString());
+        } catch (IOException e) {
+            throw new ReleaseExecutionException(e.getMessage(), e);
+        }
+
+        result.setResultCode(ReleaseResult.SUCCESS);
+
+        return result;
+    }
+
+    /**
+     * @return whether the checkout directory contains a clone at the revision, after discarding its local modifications
+     *         as well as all untracked and ignored files, so that the output of a previous build can't leak into the
+     *         release
+     */
+    private boolean isCloneAtRevision(File checkoutDirectory, String revision) {
+        if (!new File(checkoutDirectory, ".git").exists()) {
+            return false;
+        }
+
+        try {
+            if (!revision.equals(GitCommands.run(commandLineFactory, checkoutDirectory, "rev-parse", "HEAD"))) {
+                return false;
+            }
+
+            GitCommands.run(commandLineFactory, checkoutDirectory, "reset", "--hard", "--quiet", revision);
+            GitCommands.run(commandLineFactory, checkoutDirectory, "clean", "-fdx", "--quiet");
+            return true;
+        } catch (ReleaseExecutionException e) {
+            getLogger().debug("Unable to inspect existing checkout: " + e.getMessage());
+            return false;
+        }
+    }
+
     private ReleaseResult performCheckout(
             ReleaseDescriptor releaseDescriptor,
             ReleaseEnvironment releaseEnvironment,
@@ -148,8 +273,6 @@ public class CheckoutProjectFromScm extends AbstractReleasePhase {
             throws ReleaseExecutionException, ReleaseFailureException, ScmException {
         ReleaseResult result = new ReleaseResult();
 
-        logInfo(result, "Checking out the project to perform the release ...");
-
         ScmRepository repository;
         ScmProvider provider;
 
@@ -176,6 +299,20 @@ public class CheckoutProjectFromScm extends AbstractReleasePhase {
         File checkoutDirectory =
                 FileUtils.resolveFile(rootProject.getBasedir(), releaseDescriptor.getCheckoutDirectory());
 
+        if (releaseDescriptor.isReuseCheckout()
+                && isCheckoutReusable(releaseDescriptor, provider, repository, rootProject, checkoutDirectory)) {
+            logInfo(
+                    result,
+                    "Reusing the existing checkout of " + releaseDescriptor.getScmReleaseLabel() + " in "
+                            + checkoutDirectory + " at revision " + releaseDescriptor.getScmCheckoutRevision());
+
+            result.setResultCode(ReleaseResult.SUCCESS);
+
+            return result;
+        }
+
+        logInfo(result, "Checking out the project to perform the release ...");
+
         if (checkoutDirectory.exists()) {
             try {
                 FileUtils.deleteDirectory(checkoutDirectory);
@@ -229,11 +366,94 @@ public class CheckoutProjectFromScm extends AbstractReleasePhase {
             throw new ReleaseScmCommandException("Unable to checkout from SCM", scmResult);
         }
 
+        // recorded, so that a resumed perform can check whether this checkout is still usable
+        releaseDescriptor.setScmCheckoutRevision(getCheckoutRevision(provider, repository, checkoutDirectory));
+
         result.setResultCode(ReleaseResult.SUCCESS);
 
         return result;
     }
 
+    /**
+     * @return whether the checkout directory still contains a checkout of the project at the recorded revision,
+     *         without local modifications
+     */
+    private boolean isCheckoutReusable(
+            ReleaseDescriptor releaseDescriptor,
+            ScmProvider provider,
+            ScmRepository repository,
+            MavenProject rootProject,
+            File checkoutDirectory) {
+        String revision = releaseDescriptor.getScmCheckoutRevision();
+        if (revision == null
+                || releaseDescriptor.getScmRelativePathProjectDirectory() == null
+                || !checkoutDirectory.isDirectory()
+                || !containsProject(releaseDescriptor, rootProject, checkoutDirectory)) {
+            return false;
+        }
+
+        if (new File(checkoutDirectory, ".git").exists()) {
+            return isCloneAtRevision(checkoutDirectory, revision);
+        }
+
+        if (!revision.equals(getCheckoutRevision(provider, repository, checkoutDirectory))) {
+            return false;
+        }
+
+        try {
+            StatusScmResult statusResult = provider.status(repository, new ScmFileSet(checkoutDirectory));
+            if (statusResult == null || !statusResult.isSuccess()) {
+                return false;
+            }
+
+            // unversioned files, like the output of a previous build, must not leak into the release either
+            return statusResult.getChangedFiles().isEmpty();
+        } catch (ScmException e) {
+            getLogger().debug("Unable to inspect existing checkout: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @return whether the pom at the recorded path of the checkout is the one of the project, which is cheap to check
+     *         before asking the SCM
+     */
+    private boolean containsProject(
+            ReleaseDescriptor releaseDescriptor, MavenProject rootProject, File checkoutDirectory) {
+        File projectDirectory = new File(checkoutDirectory, releaseDescriptor.getScmRelativePathProjectDirectory());
+        File pomFile = new File(projectDirectory, rootProject.getFile().getName());
+        try {
+            PomIdentity identity = PomIdentity.read(pomFile);
+            return identity != null
+                    && rootProject.getArtifactId().equals(identity.getArtifactId())
+                    && rootProject.getGroupId().equals(identity.getEffectiveGroupId());
+        } catch (IOException | XMLStreamException e) {
+            getLogger().debug("Unable to read " + pomFile + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @return the revision of the checkout, or {@code null} if it cannot be determined
+     */
+    private String getCheckoutRevision(ScmProvider provider, ScmRepository repository, File checkoutDirectory) {
+        try {
+            if (new File(checkoutDirectory, ".git").exists()) {
+                return GitCommands.run(commandLineFactory, checkoutDirectory, "rev-parse", "HEAD");
+            }
+
+            InfoScmResult infoResult = provider.info(
+                    repository.getProviderRepository(), new ScmFileSet(checkoutDirectory), new CommandParameters());
+            if (infoResult == null || !infoResult.isSuccess() || infoResult.getInfoItems().isEmpty()) {
+                return null;
+            }
+            return infoResult.getInfoItems().get(0).getRevision();
+        } catch (ReleaseExecutionException | ScmException e) {
+            getLogger().debug("Unable to determine the revision of the checkout: " + e.getMessage());
+            return null;
+        }
+    }
+
     @Override
     public ReleaseResult simulate(
             ReleaseDescriptor releaseDescriptor,
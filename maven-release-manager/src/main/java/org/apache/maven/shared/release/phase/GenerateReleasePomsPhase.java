@@ -26,13 +26,18 @@ import java.io.File;
 import java.io.IOException;
 import java.io.Writer;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.ArtifactUtils;
@@ -142,26 +147,81 @@ public class GenerateReleasePomsPhase extends AbstractReleasePomsPhase implement
             boolean simulate,
             ReleaseResult result)
             throws ReleaseExecutionException, ReleaseFailureException {
-        List<File> releasePoms = new ArrayList<>();
+        ScmTranslator scmTranslator = null;
+        if (reactorProjects.stream().anyMatch(project -> project.getModel().getScm() != null)) {
+            scmTranslator = getScmTranslator(getScmRepository(releaseDescriptor, releaseEnvironment));
+        }
+        ScmTranslator releaseScmTranslator = scmTranslator;
+
+        // the super POMs are only read once built, so the modules share them
+        Map<String, SuperPom> superPoms = new ConcurrentHashMap<>();
+
+        int threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), reactorProjects.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<ReleaseResult> projectResults = new ArrayList<>();
+            List<Future<File>> futures = new ArrayList<>();
+            for (MavenProject project : reactorProjects) {
+                ReleaseResult projectResult = new ReleaseResult();
+                projectResults.add(projectResult);
+
+                futures.add(executor.submit(() -> {
+                    logInfo(projectResult, "Generating release POM for '" + project.getName() + "'...");
+
+                    return generateReleasePom(
+                            project, releaseDescriptor, releaseScmTranslator, superPoms, projectResult);
+                }));
+            }
 
-        for (MavenProject project : reactorProjects) {
-            logInfo(result, "Generating release POM for '" + project.getName() + "'...");
+            List<File> releasePoms = new ArrayList<>();
+            Exception failure = null;
+            for (int i = 0; i < reactorProjects.size(); i++) {
+                try {
+                    releasePoms.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    // wait for the other modules before failing, and report the first failure
+                    if (failure == null) {
+                        failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    }
+                } finally {
+                    result.appendOutput(projectResults.get(i).getOutput());
+                }
+            }
 
-            releasePoms.add(generateReleasePom(project, releaseDescriptor, releaseEnvironment, result));
-        }
+            if (failure instanceof ReleaseExecutionException) {
+                throw (ReleaseExecutionException) failure;
+            } else if (failure instanceof ReleaseFailureException) {
+                throw (ReleaseFailureException) failure;
+            } else if (failure != null) {
+                throw new ReleaseExecutionException(failure.getMessage(), failure);
+            }
 
-        addReleasePomsToScm(releaseDescriptor, releaseEnvironment, reactorProjects, simulate, result, releasePoms);
+            if (!simulate) {
+                for (File releasePom : releasePoms) {
+                    ReleaseUtil.addChangedFile(releaseDescriptor, releasePom);
+                }
+            }
+
+            addReleasePomsToScm(
+                    releaseDescriptor, releaseEnvironment, reactorProjects, simulate, result, releasePoms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReleaseExecutionException("Interrupted while generating the release POMs", e);
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     private File generateReleasePom(
             MavenProject project,
             ReleaseDescriptor releaseDescriptor,
-            ReleaseEnvironment releaseEnvironment,
+            ScmTranslator scmTranslator,
+            Map<String, SuperPom> superPoms,
             ReleaseResult result)
             throws ReleaseExecutionException, ReleaseFailureException {
         // create release pom
 
-        Model releasePom = createReleaseModel(project, releaseDescriptor, releaseEnvironment, result);
+        Model releasePom = createReleaseModel(project, releaseDescriptor, scmTranslator, superPoms, result);
 
         // write release pom to file
 
@@ -216,7 +276,8 @@ public class GenerateReleasePomsPhase extends AbstractReleasePomsPhase implement
     private Model createReleaseModel(
             MavenProject project,
             ReleaseDescriptor releaseDescriptor,
-            ReleaseEnvironment releaseEnvironment,
+            ScmTranslator scmTranslator,
+            Map<String, SuperPom> superPoms,
             ReleaseResult result)
             throws ReleaseFailureException, ReleaseExecutionException {
         MavenProject releaseProject = project.clone();
@@ -258,9 +319,6 @@ public class GenerateReleasePomsPhase extends AbstractReleasePomsPhase implement
         Scm scm = releaseModel.getScm();
 
         if (scm != null) {
-            ScmRepository scmRepository = getScmRepository(releaseDescriptor, releaseEnvironment);
-            ScmTranslator scmTranslator = getScmTranslator(scmRepository);
-
             if (scmTranslator != null) {
                 releaseModel.setScm(createReleaseScm(releaseModel.getScm(), scmTranslator, releaseDescriptor));
             } else {
@@ -284,25 +342,16 @@ public class GenerateReleasePomsPhase extends AbstractReleasePomsPhase implement
         // rewrite extensions
         releaseModel.getBuild().setExtensions(createReleaseExtensions(releaseDescriptor, releaseProject));
 
-        unalignFromBaseDirectory(releaseModel, project.getBasedir());
+        SuperPom superPom = superPoms.computeIfAbsent(
+                releaseModel.getModelVersion(), modelVersion -> new SuperPom(modelVersion, project.getBasedir()));
+        unalignFromBaseDirectory(releaseModel, project.getBasedir(), superPom);
 
         return releaseModel;
     }
 
-    private void unalignFromBaseDirectory(Model releaseModel, File basedir) {
-        Model rawSuperModel = superPomProvider.getSuperModel(releaseModel.getModelVersion());
-
-        ModelBuildingRequest buildingRequest = new DefaultModelBuildingRequest();
-        buildingRequest.setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_STRICT);
-
-        // inject proper values used by project.build.finalName
-        Properties properties = new Properties();
-        properties.put("project.version", releaseModel.getVersion());
-        properties.put("project.artifactId", releaseModel.getArtifactId());
-        buildingRequest.setUserProperties(properties);
-
-        Model interpolatedSuperModel =
-                modelInterpolator.interpolateModel(rawSuperModel.clone(), basedir, buildingRequest, null);
+    private void unalignFromBaseDirectory(Model releaseModel, File basedir, SuperPom superPom) {
+        Model rawSuperModel = superPom.rawModel;
+        Model interpolatedSuperModel = superPom.interpolatedModel;
 
         Build currentBuild = releaseModel.getBuild();
         Build interpolatedSuperBuild = interpolatedSuperModel.getBuild();
@@ -372,6 +421,47 @@ public class GenerateReleasePomsPhase extends AbstractReleasePomsPhase implement
                         rawSuperModel.getReporting().getOutputDirectory()));
     }
 
+    /**
+     * The super POM of a model version, raw and interpolated. The directories of the interpolated model are made
+     * relative to the base directory it was interpolated with, so they apply to any module.
+     */
+    private final class SuperPom {
+        private final Model rawModel;
+
+        private final Model interpolatedModel;
+
+        SuperPom(String modelVersion, File basedir) {
+            rawModel = superPomProvider.getSuperModel(modelVersion);
+
+            ModelBuildingRequest buildingRequest = new DefaultModelBuildingRequest();
+            buildingRequest.setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_STRICT);
+
+            interpolatedModel = modelInterpolator.interpolateModel(rawModel.clone(), basedir, buildingRequest, null);
+
+            Path base = basedir.toPath();
+            Build build = interpolatedModel.getBuild();
+            build.setSourceDirectory(relativize(base, build.getSourceDirectory()));
+            build.setScriptSourceDirectory(relativize(base, build.getScriptSourceDirectory()));
+            build.setTestSourceDirectory(relativize(base, build.getTestSourceDirectory()));
+            build.setOutputDirectory(relativize(base, build.getOutputDirectory()));
+            build.setTestOutputDirectory(relativize(base, build.getTestOutputDirectory()));
+            build.setDirectory(relativize(base, build.getDirectory()));
+            for (Resource resource : build.getResources()) {
+                resource.setDirectory(relativize(base, resource.getDirectory()));
+            }
+            for (Resource resource : build.getTestResources()) {
+                resource.setDirectory(relativize(base, resource.getDirectory()));
+            }
+            Reporting reporting = interpolatedModel.getReporting();
+            reporting.setOutputDirectory(relativize(base, reporting.getOutputDirectory()));
+        }
+
+        private String relativize(Path basedir, String directory) {
+            Path path = Paths.get(directory);
+            return path.startsWith(basedir) ? basedir.relativize(path).toString() : directory;
+        }
+    }
+
     private String resolvePath(Path basedir, String current, String superInterpolated, String superRaw) {
         return basedir.resolve(current).equals(basedir.resolve(superInterpolated)) ? superRaw : current;
     }
@@ -146,6 +146,10 @@ public class RemoveReleasePomsPhase extends AbstractReleasePomsPhase {
                 if (!scmResult.isSuccess()) {
                     throw new ReleaseScmCommandException("Cannot remove release POMs from SCM", scmResult);
                 }
+
+                for (File releasePom : releasePoms) {
+                    ReleaseUtil.addChangedFile(releaseDescriptor, releasePom);
+                }
             } catch (ScmException exception) {
                 throw new ReleaseExecutionException(
                         "Cannot remove release POMs from SCM: " + exception.getMessage(), exception);
@@ -33,6 +33,7 @@ import org.apache.maven.scm.ScmFileSet;
 import org.apache.maven.scm.command.untag.UntagScmResult;
 import org.apache.maven.scm.manager.NoSuchScmProviderException;
 import org.apache.maven.scm.provider.ScmProvider;
+import org.apache.maven.scm.provider.git.repository.GitScmProviderRepository;
 import org.apache.maven.scm.repository.ScmRepository;
 import org.apache.maven.scm.repository.ScmRepositoryException;
 import org.apache.maven.shared.release.ReleaseExecutionException;
@@ -40,6 +41,8 @@ import org.apache.maven.shared.release.ReleaseFailureException;
 import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
+import org.apache.maven.shared.release.exec.CommandLineFactory;
+import org.apache.maven.shared.release.scm.GitCommands;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 import org.apache.maven.shared.release.util.ReleaseUtil;
@@ -48,18 +51,29 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * Remove tag from SCM repository during rollback.
+ * <p>
+ * When pushing to a Git repository is deferred, the tag is removed locally, and the removal is pushed together with
+ * the rollback commit in a single atomic push, so the remote repository is either rolled back completely or not at
+ * all.
  */
 @Singleton
 @Named("remove-scm-tag")
-public class RemoveScmTagPhase extends AbstractReleasePhase {
+public class RemoveScmTagPhase extends AbstractReleasePhase implements ScmRootPhase {
     /**
      * Tool that gets a configured SCM repository from release configuration.
      */
     private final ScmRepositoryConfigurator scmRepositoryConfigurator;
 
+    /**
+     * Command line factory.
+     */
+    private final CommandLineFactory commandLineFactory;
+
     @Inject
-    public RemoveScmTagPhase(ScmRepositoryConfigurator scmRepositoryConfigurator) {
+    public RemoveScmTagPhase(
+            ScmRepositoryConfigurator scmRepositoryConfigurator, CommandLineFactory commandLineFactory) {
         this.scmRepositoryConfigurator = requireNonNull(scmRepositoryConfigurator);
+        this.commandLineFactory = requireNonNull(commandLineFactory);
     }
 
     @Override
@@ -96,6 +110,18 @@ public class RemoveScmTagPhase extends AbstractReleasePhase {
             throw new ReleaseExecutionException("Unable to configure SCM repository: " + e.getMessage(), e);
         }
 
+        if (ScmPushPhase.isPushDeferred(releaseDescriptor, repository)) {
+            removeTagWithRollback(
+                    releaseDescriptor,
+                    basedirAlignedReleaseDescriptor,
+                    (GitScmProviderRepository) repository.getProviderRepository(),
+                    releaseResult);
+
+            releaseResult.setResultCode(ReleaseResult.SUCCESS);
+
+            return releaseResult;
+        }
+
         UntagScmResult untagScmResult;
         try {
             ScmFileSet fileSet = new ScmFileSet(new File(basedirAlignedReleaseDescriptor.getWorkingDirectory()));
@@ -146,6 +172,49 @@ public class RemoveScmTagPhase extends AbstractReleasePhase {
         return releaseResult;
     }
 
+    /**
+     * Removes the local tag, then pushes the rollback commit and the removal of the tag at once. Nothing is pushed if
+     * the remote repository does not have the tag, as the release was then never pushed.
+     */
+    private void removeTagWithRollback(
+            ReleaseDescriptor releaseDescriptor,
+            ReleaseDescriptor basedirAlignedReleaseDescriptor,
+            GitScmProviderRepository gitRepository,
+            ReleaseResult releaseResult)
+            throws ReleaseExecutionException {
+        File workingDirectory = new File(basedirAlignedReleaseDescriptor.getWorkingDirectory());
+        String tagName = releaseDescriptor.getScmReleaseLabel();
+
+        try {
+            GitCommands.run(commandLineFactory, workingDirectory, "tag", "-d", tagName);
+        } catch (ReleaseExecutionException e) {
+            logWarn(releaseResult, "Unable to remove local tag " + tagName + ": " + e.getMessage());
+        }
+
+        String remoteTag = GitCommands.run(
+                commandLineFactory,
+                workingDirectory,
+                "ls-remote",
+                "--tags",
+                gitRepository.getPushUrl(),
+                "refs/tags/" + tagName);
+        if (remoteTag.isEmpty()) {
+            logInfo(releaseResult, "The tag " + tagName + " was not pushed, the rollback is not pushed either.");
+            return;
+        }
+
+        logInfo(releaseResult, "Pushing the rollback to " + gitRepository.getPushUrlWithMaskedPassword() + "...");
+
+        releaseResult.appendOutput(GitCommands.run(
+                commandLineFactory,
+                workingDirectory,
+                "push",
+                "--atomic",
+                gitRepository.getPushUrl(),
+                "HEAD",
+                ":refs/tags/" + tagName));
+    }
+
     private void validateConfiguration(ReleaseDescriptor releaseDescriptor) throws ReleaseFailureException {
         if (releaseDescriptor.getScmReleaseLabel() == null) {
             throw new ReleaseFailureException("A release label is required for removal");
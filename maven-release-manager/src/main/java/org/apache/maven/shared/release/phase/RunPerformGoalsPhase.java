@@ -23,6 +23,7 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -33,6 +34,7 @@ import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.apache.maven.shared.release.exec.MavenExecutor;
 import org.apache.maven.shared.release.util.PomFinder;
+import org.apache.maven.shared.release.util.VerificationManifest;
 import org.codehaus.plexus.util.StringUtils;
 
 import static org.apache.maven.shared.utils.logging.MessageUtils.buffer;
@@ -124,6 +126,17 @@ public class RunPerformGoalsPhase extends AbstractRunGoalsPhase {
             }
         }
 
+        if (releaseDescriptor.isVerifyOnce()) {
+            File projectDirectory = foundPom
+                    ? workDirectory
+                    : determineWorkingDirectory(
+                            new File(releaseDescriptor.getCheckoutDirectory()),
+                            releaseDescriptor.getScmRelativePathProjectDirectory());
+            if (isVerified(releaseDescriptor, projectDirectory)) {
+                additionalArguments = additionalArguments + " -DskipTests";
+            }
+        }
+
         return execute(releaseDescriptor, releaseEnvironment, workDirectory, additionalArguments, false);
     }
 
@@ -136,8 +149,43 @@ public class RunPerformGoalsPhase extends AbstractRunGoalsPhase {
         return runLogic(releaseDescriptor, releaseEnvironment, true);
     }
 
+    /**
+     * Checks whether the checkout has the content of the build verified by the preparation goals.
+     */
+    private boolean isVerified(ReleaseDescriptor releaseDescriptor, File projectDirectory) {
+        File manifestFile = StashVerifiedBuildPhase.getManifestFile(releaseDescriptor);
+        if (!manifestFile.exists()) {
+            getLogger()
+                    .warn("No verified build of " + releaseDescriptor.getScmReleaseLabel() + " found in "
+                            + manifestFile + ", running the tests.");
+            return false;
+        }
+
+        try {
+            VerificationManifest manifest = VerificationManifest.read(manifestFile);
+            if (manifest.matches(projectDirectory)) {
+                getLogger()
+                        .info("The checkout matches the build verified for " + manifest.getTag()
+                                + (manifest.getRevision() != null ? " at revision " + manifest.getRevision() : "")
+                                + ", skipping the tests.");
+                return true;
+            }
+            getLogger()
+                    .warn("The checkout differs from the build verified for " + manifest.getTag()
+                            + ", running the tests.");
+        } catch (IOException e) {
+            getLogger().warn("Unable to check the verified build in " + manifestFile + ": " + e.getMessage());
+        }
+        return false;
+    }
+
     @Override
     protected String getGoals(ReleaseDescriptor releaseDescriptor) {
         return releaseDescriptor.getPerformGoals();
     }
+
+    @Override
+    protected String getThreads(ReleaseDescriptor releaseDescriptor) {
+        return releaseDescriptor.getPerformThreads();
+    }
 }
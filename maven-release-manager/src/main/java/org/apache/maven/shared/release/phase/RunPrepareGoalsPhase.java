@@ -22,8 +22,12 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.shared.release.ReleaseExecutionException;
@@ -31,6 +35,7 @@ import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.apache.maven.shared.release.exec.MavenExecutor;
+import org.apache.maven.shared.release.util.ReleaseUtil;
 
 /**
  * Run a build of the project (eventually with the integration tests) to verify that it builds before committing.
@@ -51,7 +56,26 @@ public class RunPrepareGoalsPhase extends AbstractRunGoalsPhase {
             ReleaseEnvironment releaseEnvironment,
             List<MavenProject> reactorProjects)
             throws ReleaseExecutionException {
-        return execute(releaseDescriptor, releaseEnvironment, reactorProjects, false);
+        String additionalArguments = getAdditionalArguments(releaseDescriptor);
+
+        if (releaseDescriptor.isIncrementalPreparationGoals()) {
+            List<String> projects = getRewrittenProjects(releaseDescriptor, reactorProjects);
+            if (projects != null) {
+                getLogger()
+                        .info("Building the " + projects.size() + " of " + reactorProjects.size()
+                                + " projects rewritten for the release, and the projects depending on them.");
+
+                String selection = "-pl " + String.join(",", projects) + " -amd";
+                additionalArguments = additionalArguments == null ? selection : additionalArguments + " " + selection;
+            }
+        }
+
+        return execute(
+                releaseDescriptor,
+                releaseEnvironment,
+                new File(releaseDescriptor.getWorkingDirectory()),
+                additionalArguments,
+                false);
     }
 
     @Override
@@ -72,8 +96,37 @@ public class RunPrepareGoalsPhase extends AbstractRunGoalsPhase {
         return result;
     }
 
+    /**
+     * Returns the <code>groupId:artifactId</code> of the projects whose POM has been rewritten for the release, or
+     * <code>null</code> if the whole reactor has to be built: if the rewritten POMs are not known, or if none or all
+     * of the projects have been rewritten.
+     */
+    private static List<String> getRewrittenProjects(
+            ReleaseDescriptor releaseDescriptor, List<MavenProject> reactorProjects) {
+        if (reactorProjects == null || releaseDescriptor.getChangedFiles().isEmpty()) {
+            return null;
+        }
+
+        Set<String> changedFiles = new HashSet<>(releaseDescriptor.getChangedFiles());
+
+        List<String> projects = new ArrayList<>();
+        for (MavenProject project : reactorProjects) {
+            File pom = ReleaseUtil.getStandardPom(project);
+            if (pom != null && changedFiles.contains(pom.getAbsolutePath())) {
+                projects.add(project.getGroupId() + ':' + project.getArtifactId());
+            }
+        }
+
+        return projects.isEmpty() || projects.size() == reactorProjects.size() ? null : projects;
+    }
+
     @Override
     protected String getGoals(ReleaseDescriptor releaseDescriptor) {
         return releaseDescriptor.getPreparationGoals();
     }
+
+    @Override
+    protected String getThreads(ReleaseDescriptor releaseDescriptor) {
+        return releaseDescriptor.getPreparationThreads();
+    }
 }
@@ -51,7 +51,7 @@ import org.apache.maven.shared.release.util.ReleaseUtil;
  */
 @Singleton
 @Named("scm-branch")
-public class ScmBranchPhase extends AbstractReleasePhase {
+public class ScmBranchPhase extends AbstractReleasePhase implements ScmRootPhase {
     /**
      * Tool that gets a configured SCM repository from release configuration.
      */
@@ -85,7 +85,11 @@ public class ScmBranchPhase extends AbstractReleasePhase {
                     releaseDescriptor,
                     releaseEnvironment.getSettings());
 
-            repository.getProviderRepository().setPushChanges(releaseDescriptor.isPushChanges());
+            // a deferred branch is pushed by scm-push, together with the development commit
+            repository
+                    .getProviderRepository()
+                    .setPushChanges(releaseDescriptor.isPushChanges()
+                            && !ScmPushPhase.isPushDeferred(releaseDescriptor, repository));
 
             repository.getProviderRepository().setWorkItem(releaseDescriptor.getWorkItem());
 
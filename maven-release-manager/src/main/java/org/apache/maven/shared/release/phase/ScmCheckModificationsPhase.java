@@ -23,17 +23,19 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.scm.ScmException;
 import org.apache.maven.scm.ScmFile;
 import org.apache.maven.scm.ScmFileSet;
+import org.apache.maven.scm.ScmFileStatus;
 import org.apache.maven.scm.command.status.StatusScmResult;
 import org.apache.maven.scm.manager.NoSuchScmProviderException;
 import org.apache.maven.scm.provider.ScmProvider;
@@ -44,6 +46,8 @@ import org.apache.maven.shared.release.ReleaseFailureException;
 import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
+import org.apache.maven.shared.release.exec.CommandLineFactory;
+import org.apache.maven.shared.release.scm.GitCommands;
 import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
@@ -60,7 +64,7 @@ import static java.util.Objects.requireNonNull;
  */
 @Singleton
 @Named("scm-check-modifications")
-public class ScmCheckModificationsPhase extends AbstractReleasePhase {
+public class ScmCheckModificationsPhase extends AbstractReleasePhase implements ScmRootPhase {
     /**
      * Tool that gets a configured SCM repository from release configuration.
      */
@@ -71,21 +75,30 @@ public class ScmCheckModificationsPhase extends AbstractReleasePhase {
      */
     private final Map<String, ScmTranslator> scmTranslators;
 
+    /**
+     * Command line factory.
+     */
+    private final CommandLineFactory commandLineFactory;
+
     /**
      * The filepatterns to exclude from the status check.
      *
      * @todo proper construction of filenames, especially release properties
      */
-    private final Set<String> exclusionPatterns = new HashSet<>(Arrays.asList(
-            "**" + File.separator + "pom.xml.backup", "**" + File.separator + "pom.xml.tag",
-            "**" + File.separator + "pom.xml.next", "**" + File.separator + "pom.xml.branch",
-            "**" + File.separator + "release.properties", "**" + File.separator + "pom.xml.releaseBackup"));
+    private final Set<String> exclusionPatterns = ConcurrentHashMap.newKeySet();
 
     @Inject
     public ScmCheckModificationsPhase(
-            ScmRepositoryConfigurator scmRepositoryConfigurator, Map<String, ScmTranslator> scmTranslators) {
+            ScmRepositoryConfigurator scmRepositoryConfigurator,
+            Map<String, ScmTranslator> scmTranslators,
+            CommandLineFactory commandLineFactory) {
         this.scmRepositoryConfigurator = requireNonNull(scmRepositoryConfigurator);
         this.scmTranslators = requireNonNull(scmTranslators);
+        this.commandLineFactory = requireNonNull(commandLineFactory);
+        this.exclusionPatterns.addAll(Arrays.asList(
+                "**" + File.separator + "pom.xml.backup", "**" + File.separator + "pom.xml.tag",
+                "**" + File.separator + "pom.xml.next", "**" + File.separator + "pom.xml.branch",
+                "**" + File.separator + "release.properties", "**" + File.separator + "pom.xml.releaseBackup"));
     }
 
     @Override
@@ -123,23 +136,33 @@ public class ScmCheckModificationsPhase extends AbstractReleasePhase {
             throw new ReleaseExecutionException("Unable to configure SCM repository: " + e.getMessage(), e);
         }
 
-        StatusScmResult result;
-        try {
-            result = provider.status(repository, new ScmFileSet(new File(releaseDescriptor.getWorkingDirectory())));
-        } catch (ScmException e) {
-            throw new ReleaseExecutionException(
-                    "An error occurred during the status check process: " + e.getMessage(), e);
-        }
+        File workingDirectory = new File(releaseDescriptor.getWorkingDirectory());
 
-        if (!result.isSuccess()) {
-            throw new ReleaseScmCommandException("Unable to check for local modifications", result);
+        List<ScmFile> changedFiles = null;
+        ScmTranslator scmTranslator = null;
+        if (releaseDescriptor.getScmSourceUrl() != null
+                && releaseDescriptor.getScmSourceUrl().startsWith("scm:git:")) {
+            changedFiles = getGitModifications(workingDirectory);
         }
 
-        List<ScmFile> changedFiles = result.getChangedFiles();
+        if (changedFiles == null) {
+            StatusScmResult result;
+            try {
+                result = provider.status(repository, new ScmFileSet(workingDirectory));
+            } catch (ScmException e) {
+                throw new ReleaseExecutionException(
+                        "An error occurred during the status check process: " + e.getMessage(), e);
+            }
 
-        if (!changedFiles.isEmpty()) {
-            ScmTranslator scmTranslator = scmTranslators.get(repository.getProvider());
+            if (!result.isSuccess()) {
+                throw new ReleaseScmCommandException("Unable to check for local modifications", result);
+            }
+
+            changedFiles = result.getChangedFiles();
+            scmTranslator = scmTranslators.get(repository.getProvider());
+        }
 
+        if (!changedFiles.isEmpty()) {
             // TODO: would be nice for SCM status command to do this for me.
             for (Iterator<ScmFile> i = changedFiles.iterator(); i.hasNext(); ) {
                 ScmFile f = i.next();
@@ -176,11 +199,79 @@ public class ScmCheckModificationsPhase extends AbstractReleasePhase {
                     "Cannot prepare the release because you have local modifications : \n" + message);
         }
 
+        // the working copy is clean: from now on, the phases writing files record them for the next commit
+        releaseDescriptor.setChangedFiles(new ArrayList<>());
+
         relResult.setResultCode(ReleaseResult.SUCCESS);
 
         return relResult;
     }
 
+    /**
+     * Lists the local modifications of a Git working copy with a single <code>git status</code>, which detects them
+     * with the stat data of its index. The paths covered by the exclusion patterns are left out up front, so the
+     * remaining filtering only depends on the number of modified files, not on the size of the working copy.
+     *
+     * @return the modified files relative to the working directory, or <code>null</code> if Git cannot be used
+     */
+    private List<ScmFile> getGitModifications(File workingDirectory) {
+        // like the SCM status, untracked files are not considered as modifications
+        List<String> args = new ArrayList<>(
+                Arrays.asList("status", "--porcelain=v2", "-z", "--untracked-files=no", "--", "."));
+        for (String exclusionPattern : exclusionPatterns) {
+            args.add(":(exclude,glob)" + exclusionPattern.replace(File.separator, "/"));
+        }
+
+        String prefix;
+        String status;
+        try {
+            prefix = GitCommands.run(commandLineFactory, workingDirectory, "rev-parse", "--show-prefix");
+            status = GitCommands.run(commandLineFactory, workingDirectory, args.toArray(new String[0]));
+        } catch (ReleaseExecutionException e) {
+            getLogger().debug("Unable to check Git working copy, falling back to SCM status: " + e.getMessage());
+            return null;
+        }
+
+        List<ScmFile> changedFiles = new ArrayList<>();
+        String[] entries = status.split("\0");
+        for (int i = 0; i < entries.length; i++) {
+            String entry = entries[i];
+            String path;
+            ScmFileStatus fileStatus;
+            if (entry.startsWith("1 ")) {
+                // 1 <XY> <sub> <mH> <mI> <mW> <hH> <hI> <path>
+                String xy = entry.substring(2, 4);
+                path = entry.split(" ", 9)[8];
+                if (xy.indexOf('A') >= 0) {
+                    fileStatus = ScmFileStatus.ADDED;
+                } else if (xy.indexOf('D') >= 0) {
+                    fileStatus = ScmFileStatus.DELETED;
+                } else {
+                    fileStatus = ScmFileStatus.MODIFIED;
+                }
+            } else if (entry.startsWith("2 ")) {
+                // 2 <XY> <sub> <mH> <mI> <mW> <hH> <hI> <X><score> <path>, followed by the original path
+                path = entry.split(" ", 10)[9];
+                fileStatus = ScmFileStatus.RENAMED;
+                i++;
+            } else if (entry.startsWith("u ")) {
+                // u <XY> <sub> <m1> <m2> <m3> <mW> <h1> <h2> <h3> <path>
+                path = entry.split(" ", 11)[10];
+                fileStatus = ScmFileStatus.CONFLICT;
+            } else {
+                continue;
+            }
+
+            // paths are relative to the repository root, while the exclusion patterns are relative to the working
+            // directory
+            if (path.startsWith(prefix)) {
+                path = path.substring(prefix.length());
+            }
+            changedFiles.add(new ScmFile(path, fileStatus));
+        }
+        return changedFiles;
+    }
+
     @Override
     public ReleaseResult simulate(
             ReleaseDescriptor releaseDescriptor,
@@ -22,6 +22,7 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import org.apache.maven.shared.release.exec.CommandLineFactory;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 
 /**
@@ -33,7 +34,8 @@ import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 @Named("scm-commit-branch")
 public class ScmCommitBranchPhase extends AbstractScmCommitPreparationPhase {
     @Inject
-    public ScmCommitBranchPhase(ScmRepositoryConfigurator scmRepositoryConfigurator) {
-        super(scmRepositoryConfigurator, "getScmBranchCommitComment");
+    public ScmCommitBranchPhase(
+            ScmRepositoryConfigurator scmRepositoryConfigurator, CommandLineFactory commandLineFactory) {
+        super(scmRepositoryConfigurator, commandLineFactory, CommitKind.BRANCH);
     }
 }
@@ -22,6 +22,7 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import org.apache.maven.shared.release.exec.CommandLineFactory;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 
 /**
@@ -33,10 +34,12 @@ import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 @Named("scm-commit-development")
 public class ScmCommitDevelopmentPhase extends AbstractScmCommitDevelopmentPhase {
     @Inject
-    public ScmCommitDevelopmentPhase(ScmRepositoryConfigurator scmRepositoryConfigurator) {
+    public ScmCommitDevelopmentPhase(
+            ScmRepositoryConfigurator scmRepositoryConfigurator, CommandLineFactory commandLineFactory) {
         super(
                 scmRepositoryConfigurator,
-                "getScmDevelopmentCommitComment",
+                commandLineFactory,
+                CommitKind.DEVELOPMENT,
                 "rollback changes from release preparation of {0}");
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.phase;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.scm.manager.NoSuchScmProviderException;
+import org.apache.maven.scm.provider.git.repository.GitScmProviderRepository;
+import org.apache.maven.scm.repository.ScmRepository;
+import org.apache.maven.scm.repository.ScmRepositoryException;
+import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.apache.maven.shared.release.ReleaseFailureException;
+import org.apache.maven.shared.release.ReleaseResult;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
+import org.apache.maven.shared.release.env.ReleaseEnvironment;
+import org.apache.maven.shared.release.exec.CommandLineFactory;
+import org.apache.maven.shared.release.scm.GitCommands;
+import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
+import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
+import org.apache.maven.shared.release.util.ReleaseUtil;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Push the commits and the tag or branch created locally when pushing is deferred, all at once. The push is atomic,
+ * so the remote repository either gets the complete release or nothing.
+ * <p>
+ * The SCM API has no push command, so this is implemented with the <code>git</code> executable and only applies to
+ * Git repositories; other SCMs push (or commit remotely) in the phases themselves.
+ *
+ * @since 3.4
+ */
+@Singleton
+@Named("scm-push")
+public class ScmPushPhase extends AbstractReleasePhase implements ScmRootPhase {
+    /**
+     * Tool that gets a configured SCM repository from release configuration.
+     */
+    private final ScmRepositoryConfigurator scmRepositoryConfigurator;
+
+    /**
+     * Command line factory.
+     */
+    private final CommandLineFactory commandLineFactory;
+
+    @Inject
+    public ScmPushPhase(ScmRepositoryConfigurator scmRepositoryConfigurator, CommandLineFactory commandLineFactory) {
+        this.scmRepositoryConfigurator = requireNonNull(scmRepositoryConfigurator);
+        this.commandLineFactory = requireNonNull(commandLineFactory);
+    }
+
+    /**
+     * Whether the phases pushing to the given repository must leave it to this phase.
+     *
+     * @param releaseDescriptor the release configuration
+     * @param repository the configured repository
+     * @return {@code true} if pushes are deferred
+     */
+    static boolean isPushDeferred(ReleaseDescriptor releaseDescriptor, ScmRepository repository) {
+        return releaseDescriptor.isPushChanges()
+                && releaseDescriptor.isDeferPush()
+                && repository.getProviderRepository() instanceof GitScmProviderRepository;
+    }
+
+    @Override
+    public ReleaseResult execute(
+            ReleaseDescriptor releaseDescriptor,
+            ReleaseEnvironment releaseEnvironment,
+            List<MavenProject> reactorProjects)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        ReleaseResult result = new ReleaseResult();
+
+        ScmRepository repository = getDeferredPushRepository(releaseDescriptor, releaseEnvironment);
+
+        if (repository != null) {
+            GitScmProviderRepository gitRepository = (GitScmProviderRepository) repository.getProviderRepository();
+
+            ReleaseDescriptor basedirAlignedReleaseDescriptor =
+                    ReleaseUtil.createBasedirAlignedReleaseDescriptor(releaseDescriptor, reactorProjects);
+
+            logInfo(result, "Pushing to " + gitRepository.getPushUrlWithMaskedPassword() + "...");
+
+            List<String> args = new ArrayList<>(Arrays.asList("push", "--atomic", gitRepository.getPushUrl(), "HEAD"));
+            if (releaseDescriptor.isBranchCreation()) {
+                args.add("refs/heads/" + releaseDescriptor.getScmReleaseLabel());
+            } else {
+                args.add("refs/tags/" + releaseDescriptor.getScmReleaseLabel());
+            }
+
+            result.appendOutput(GitCommands.run(
+                    commandLineFactory,
+                    new File(basedirAlignedReleaseDescriptor.getWorkingDirectory()),
+                    args.toArray(new String[0])));
+        } else {
+            logDebug(result, "Pushing is not deferred, nothing to push.");
+        }
+
+        result.setResultCode(ReleaseResult.SUCCESS);
+
+        return result;
+    }
+
+    @Override
+    public ReleaseResult simulate(
+            ReleaseDescriptor releaseDescriptor,
+            ReleaseEnvironment releaseEnvironment,
+            List<MavenProject> reactorProjects)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        ReleaseResult result = new ReleaseResult();
+
+        ScmRepository repository = getDeferredPushRepository(releaseDescriptor, releaseEnvironment);
+
+        if (repository != null) {
+            GitScmProviderRepository gitRepository = (GitScmProviderRepository) repository.getProviderRepository();
+
+            logInfo(result, "Full run would push to " + gitRepository.getPushUrlWithMaskedPassword());
+            if (releaseDescriptor.isBranchCreation()) {
+                logInfo(result, "  with branch '" + releaseDescriptor.getScmReleaseLabel() + "'");
+            } else {
+                logInfo(result, "  with tag '" + releaseDescriptor.getScmReleaseLabel() + "'");
+            }
+        }
+
+        result.setResultCode(ReleaseResult.SUCCESS);
+
+        return result;
+    }
+
+    /**
+     * @return the repository to push to, or {@code null} if pushing is not deferred
+     */
+    private ScmRepository getDeferredPushRepository(
+            ReleaseDescriptor releaseDescriptor, ReleaseEnvironment releaseEnvironment)
+            throws ReleaseExecutionException, ReleaseScmRepositoryException {
+        if (!releaseDescriptor.isPushChanges() || !releaseDescriptor.isDeferPush()) {
+            return null;
+        }
+
+        try {
+            ScmRepository repository = scmRepositoryConfigurator.getConfiguredRepository(
+                    releaseDescriptor, releaseEnvironment.getSettings());
+
+            // fail early on an unknown provider, like the other SCM phases
+            scmRepositoryConfigurator.getRepositoryProvider(repository);
+
+            return isPushDeferred(releaseDescriptor, repository) ? repository : null;
+        } catch (ScmRepositoryException e) {
+            throw new ReleaseScmRepositoryException(e.getMessage(), e.getValidationMessages());
+        } catch (NoSuchScmProviderException e) {
+            throw new ReleaseExecutionException("Unable to configure SCM repository: " + e.getMessage(), e);
+        }
+    }
+}
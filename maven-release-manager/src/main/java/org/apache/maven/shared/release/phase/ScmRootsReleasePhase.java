@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.phase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.apache.maven.shared.release.ReleaseFailureException;
+import org.apache.maven.shared.release.ReleaseResult;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder.BuilderReleaseDescriptor;
+import org.apache.maven.shared.release.env.ReleaseEnvironment;
+import org.apache.maven.shared.release.scm.ScmRoot;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Executes a {@link ScmRootPhase} for each SCM root of a reactor spanning several ones. Each root gets its own copy
+ * of the release configuration, pointing to the SCM URL and directory of the root, and only its projects. Up to
+ * <code>scmRootThreads</code> roots are worked on concurrently, and the output is reported per root.
+ *
+ * @since 3.4
+ */
+public class ScmRootsReleasePhase implements ReleasePhase {
+    private final ReleasePhase phase;
+
+    public ScmRootsReleasePhase(ReleasePhase phase) {
+        this.phase = requireNonNull(phase);
+    }
+
+    @Override
+    public ReleaseResult execute(
+            ReleaseDescriptor releaseDescriptor,
+            ReleaseEnvironment releaseEnvironment,
+            List<MavenProject> reactorProjects)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        return run(releaseDescriptor, releaseEnvironment, reactorProjects, false);
+    }
+
+    @Override
+    public ReleaseResult simulate(
+            ReleaseDescriptor releaseDescriptor,
+            ReleaseEnvironment releaseEnvironment,
+            List<MavenProject> reactorProjects)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        return run(releaseDescriptor, releaseEnvironment, reactorProjects, true);
+    }
+
+    private ReleaseResult run(
+            ReleaseDescriptor releaseDescriptor,
+            ReleaseEnvironment releaseEnvironment,
+            List<MavenProject> reactorProjects,
+            boolean simulating)
+            throws ReleaseExecutionException, ReleaseFailureException {
+        List<ScmRoot> roots = ScmRoot.groupByScmRoot(releaseDescriptor, reactorProjects);
+
+        if (roots.size() == 1) {
+            return simulating
+                    ? phase.simulate(releaseDescriptor, releaseEnvironment, reactorProjects)
+                    : phase.execute(releaseDescriptor, releaseEnvironment, reactorProjects);
+        }
+
+        if (!(releaseDescriptor instanceof BuilderReleaseDescriptor)) {
+            throw new ReleaseExecutionException("Unable to copy the release configuration for each SCM root");
+        }
+
+        List<BuilderReleaseDescriptor> rootDescriptors = new ArrayList<>();
+        for (ScmRoot root : roots) {
+            rootDescriptors.add(createRootReleaseDescriptor(
+                    (BuilderReleaseDescriptor) releaseDescriptor, root, root == roots.get(0)));
+        }
+
+        int threads = Math.max(1, Math.min(releaseDescriptor.getScmRootThreads(), roots.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<ReleaseResult>> futures = new ArrayList<>();
+            for (int i = 0; i < roots.size(); i++) {
+                BuilderReleaseDescriptor rootDescriptor = rootDescriptors.get(i);
+                List<MavenProject> rootProjects = roots.get(i).getProjects();
+
+                futures.add(executor.submit(() -> simulating
+                        ? phase.simulate(rootDescriptor, releaseEnvironment, rootProjects)
+                        : phase.execute(rootDescriptor, releaseEnvironment, rootProjects)));
+            }
+
+            ReleaseResult result = new ReleaseResult();
+            Exception failure = null;
+            for (int i = 0; i < roots.size(); i++) {
+                result.appendInfo("SCM root " + roots.get(i) + ":");
+                try {
+                    ReleaseResult rootResult = futures.get(i).get();
+                    result.appendOutput(rootResult.getOutput());
+                    result.addMetrics(rootResult.getMetrics());
+                } catch (ExecutionException e) {
+                    // wait for the other roots before failing, and report the first failure
+                    result.appendError(e.getCause().getMessage());
+                    if (failure == null) {
+                        failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    }
+                }
+            }
+
+            if (failure instanceof ReleaseExecutionException) {
+                throw (ReleaseExecutionException) failure;
+            } else if (failure instanceof ReleaseFailureException) {
+                throw (ReleaseFailureException) failure;
+            } else if (failure != null) {
+                throw new ReleaseExecutionException(failure.getMessage(), failure);
+            }
+
+            mergeRootReleaseDescriptors((BuilderReleaseDescriptor) releaseDescriptor, roots, rootDescriptors);
+
+            result.setResultCode(ReleaseResult.SUCCESS);
+
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReleaseExecutionException("Interrupted while working on the SCM roots", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static BuilderReleaseDescriptor createRootReleaseDescriptor(
+            BuilderReleaseDescriptor releaseDescriptor, ScmRoot root, boolean reactorRoot) {
+        BuilderReleaseDescriptor rootDescriptor = releaseDescriptor.clone();
+
+        if (!reactorRoot) {
+            rootDescriptor.setScmSourceUrl(root.getScmSourceUrl());
+            rootDescriptor.setWorkingDirectory(root.getProject().getFile().getAbsoluteFile().getParent());
+            rootDescriptor.setPomFileName(root.getProject().getFile().getName());
+            // the configured bases are the ones of the reactor root, the provider derives them from the URL
+            rootDescriptor.setScmTagBase(null);
+            rootDescriptor.setScmBranchBase(null);
+            // only the revision of the reactor root is recorded
+            rootDescriptor.setScmPreReleaseRevision(null);
+            // the root is tagged at the revision of its own commit
+            rootDescriptor.setScmReleasedPomRevision(
+                    releaseDescriptor.getScmRootReleasedPomRevisions().get(root.getScmSourceUrl()));
+        }
+
+        return rootDescriptor;
+    }
+
+    /**
+     * Brings back the state the phase updated in the copies: each root keeps the revision of its commit, and the files
+     * are only still to commit if no root has committed them.
+     */
+    private static void mergeRootReleaseDescriptors(
+            BuilderReleaseDescriptor releaseDescriptor,
+            List<ScmRoot> roots,
+            List<BuilderReleaseDescriptor> rootDescriptors) {
+        releaseDescriptor.setScmReleasedPomRevision(rootDescriptors.get(0).getScmReleasedPomRevision());
+        releaseDescriptor.setScmPreReleaseRevision(rootDescriptors.get(0).getScmPreReleaseRevision());
+        for (int i = 1; i < roots.size(); i++) {
+            String revision = rootDescriptors.get(i).getScmReleasedPomRevision();
+            if (revision != null) {
+                releaseDescriptor.getScmRootReleasedPomRevisions().put(roots.get(i).getScmSourceUrl(), revision);
+            } else {
+                releaseDescriptor.getScmRootReleasedPomRevisions().remove(roots.get(i).getScmSourceUrl());
+            }
+        }
+
+        List<String> changedFiles = new ArrayList<>(releaseDescriptor.getChangedFiles());
+        for (BuilderReleaseDescriptor rootDescriptor : rootDescriptors) {
+            changedFiles.retainAll(rootDescriptor.getChangedFiles());
+        }
+        releaseDescriptor.setChangedFiles(changedFiles);
+    }
+}
@@ -23,15 +23,27 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.scm.CommandParameters;
 import org.apache.maven.scm.ScmException;
 import org.apache.maven.scm.ScmFileSet;
+import org.apache.maven.scm.ScmRevision;
+import org.apache.maven.scm.ScmTag;
 import org.apache.maven.scm.ScmTagParameters;
+import org.apache.maven.scm.command.changelog.ChangeLogScmRequest;
+import org.apache.maven.scm.command.changelog.ChangeLogScmResult;
+import org.apache.maven.scm.command.info.InfoScmResult;
 import org.apache.maven.scm.command.tag.TagScmResult;
 import org.apache.maven.scm.manager.NoSuchScmProviderException;
 import org.apache.maven.scm.provider.ScmProvider;
+import org.apache.maven.scm.provider.git.repository.GitScmProviderRepository;
+import org.apache.maven.scm.provider.svn.SvnTagBranchUtils;
+import org.apache.maven.scm.provider.svn.repository.SvnScmProviderRepository;
 import org.apache.maven.scm.repository.ScmRepository;
 import org.apache.maven.scm.repository.ScmRepositoryException;
 import org.apache.maven.shared.release.ReleaseExecutionException;
@@ -39,9 +51,12 @@ import org.apache.maven.shared.release.ReleaseFailureException;
 import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.env.ReleaseEnvironment;
+import org.apache.maven.shared.release.exec.CommandLineFactory;
+import org.apache.maven.shared.release.scm.GitCommands;
 import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
+import org.apache.maven.shared.release.scm.SvnCommands;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 
 /**
@@ -51,15 +66,75 @@ import org.apache.maven.shared.release.util.ReleaseUtil;
  */
 @Singleton
 @Named("scm-tag")
-public class ScmTagPhase extends AbstractReleasePhase {
+public class ScmTagPhase extends AbstractReleasePhase implements ScmRootPhase {
+    /**
+     * The number of milliseconds to wait after the first poll for the released revision, doubled after each poll.
+     */
+    private static final long INITIAL_POLL_DELAY = 500L;
+
+    /**
+     * The maximum number of milliseconds to wait between two polls for the released revision.
+     */
+    private static final long MAX_POLL_DELAY = 10000L;
+
     /**
      * Tool that gets a configured SCM repository from release configuration.
      */
     private final ScmRepositoryConfigurator scmRepositoryConfigurator;
 
+    /**
+     * Command line factory.
+     */
+    private final CommandLineFactory commandLineFactory;
+
     @Inject
-    public ScmTagPhase(ScmRepositoryConfigurator scmRepositoryConfigurator) {
+    public ScmTagPhase(ScmRepositoryConfigurator scmRepositoryConfigurator, CommandLineFactory commandLineFactory) {
         this.scmRepositoryConfigurator = scmRepositoryConfigurator;
+        this.commandLineFactory = commandLineFactory;
+    }
+
+    /**
+     * Whether the tag is created on the server with the POMs rewritten for the release, which are then not committed
+     * before.
+     *
+     * @param releaseDescriptor the release configuration
+     * @param repository the configured SCM repository
+     * @return {@code true} if the tag is created with modifications
+     */
+    static boolean isTaggedWithModifications(ReleaseDescriptor releaseDescriptor, ScmRepository repository) {
+        return releaseDescriptor.isRemoteTaggingWithModifications()
+                && !releaseDescriptor.isBranchCreation()
+                && repository.getProviderRepository() instanceof SvnScmProviderRepository;
+    }
+
+    /**
+     * Whether the tag is created with modifications, configuring the SCM repository only if the release asks for it.
+     *
+     * @param releaseDescriptor the release configuration
+     * @param releaseEnvironment the release environment
+     * @param scmRepositoryConfigurator the tool that configures the SCM repository
+     * @return {@code true} if the tag is created with modifications
+     * @throws ReleaseExecutionException if the SCM provider is unknown
+     * @throws ReleaseScmRepositoryException if the SCM repository is invalid
+     */
+    static boolean isTaggedWithModifications(
+            ReleaseDescriptor releaseDescriptor,
+            ReleaseEnvironment releaseEnvironment,
+            ScmRepositoryConfigurator scmRepositoryConfigurator)
+            throws ReleaseExecutionException, ReleaseScmRepositoryException {
+        if (!releaseDescriptor.isRemoteTaggingWithModifications() || releaseDescriptor.isBranchCreation()) {
+            return false;
+        }
+        try {
+            return isTaggedWithModifications(
+                    releaseDescriptor,
+                    scmRepositoryConfigurator.getConfiguredRepository(
+                            releaseDescriptor, releaseEnvironment.getSettings()));
+        } catch (ScmRepositoryException e) {
+            throw new ReleaseScmRepositoryException(e.getMessage(), e.getValidationMessages());
+        } catch (NoSuchScmProviderException e) {
+            throw new ReleaseExecutionException("Unable to configure SCM repository: " + e.getMessage(), e);
+        }
     }
 
     @Override
@@ -72,7 +147,10 @@ public class ScmTagPhase extends AbstractReleasePhase {
 
         validateConfiguration(releaseDescriptor);
 
-        if (releaseDescriptor.getWaitBeforeTagging() > 0) {
+        boolean polling =
+                releaseDescriptor.isPollBeforeTagging() && releaseDescriptor.getScmReleasedPomRevision() != null;
+
+        if (!polling && releaseDescriptor.getWaitBeforeTagging() > 0) {
             logInfo(
                     relResult,
                     "Waiting for " + releaseDescriptor.getWaitBeforeTagging() + " seconds before tagging the release.");
@@ -96,7 +174,10 @@ public class ScmTagPhase extends AbstractReleasePhase {
                     releaseDescriptor,
                     releaseEnvironment.getSettings());
 
-            repository.getProviderRepository().setPushChanges(releaseDescriptor.isPushChanges());
+            repository
+                    .getProviderRepository()
+                    .setPushChanges(releaseDescriptor.isPushChanges()
+                            && !ScmPushPhase.isPushDeferred(releaseDescriptor, repository));
 
             repository.getProviderRepository().setWorkItem(releaseDescriptor.getWorkItem());
 
@@ -107,6 +188,25 @@ public class ScmTagPhase extends AbstractReleasePhase {
             throw new ReleaseExecutionException("Unable to configure SCM repository: " + e.getMessage(), e);
         }
 
+        if (polling) {
+            waitForReleasedRevision(
+                    releaseDescriptor, basedirAlignedReleaseDescriptor, repository, provider, relResult);
+        }
+
+        if (isTaggedWithModifications(releaseDescriptor, repository)) {
+            tagWithModifications(
+                    releaseDescriptor,
+                    basedirAlignedReleaseDescriptor,
+                    repository,
+                    provider,
+                    reactorProjects,
+                    relResult);
+
+            relResult.setResultCode(ReleaseResult.SUCCESS);
+
+            return relResult;
+        }
+
         TagScmResult result;
         try {
             // TODO: want includes/excludes?
@@ -140,6 +240,166 @@ public class ScmTagPhase extends AbstractReleasePhase {
         return relResult;
     }
 
+    /**
+     * Polls the server until the revision of the committed release POMs is visible, waiting longer after each poll,
+     * at most for the configured seconds before tagging. Tagging proceeds anyway once the time is over. A Git revision
+     * which is not pushed yet, like with a deferred push, is not waited for.
+     */
+    private void waitForReleasedRevision(
+            ReleaseDescriptor releaseDescriptor,
+            ReleaseDescriptor basedirAlignedReleaseDescriptor,
+            ScmRepository repository,
+            ScmProvider provider,
+            ReleaseResult result) {
+        String revision = releaseDescriptor.getScmReleasedPomRevision();
+        ScmFileSet fileSet = new ScmFileSet(new File(basedirAlignedReleaseDescriptor.getWorkingDirectory()));
+
+        if (repository.getProviderRepository() instanceof GitScmProviderRepository
+                && !repository.getProviderRepository().isPushChanges()) {
+            logInfo(result, "Revision " + revision + " is not pushed yet, tagging the release without waiting.");
+            return;
+        }
+
+        logInfo(result, "Waiting for revision " + revision + " to be visible before tagging the release.");
+
+        long start = System.currentTimeMillis();
+        long deadline = start + 1000L * releaseDescriptor.getWaitBeforeTagging();
+        long delay = INITIAL_POLL_DELAY;
+        int attempts = 0;
+        boolean visible;
+        while (true) {
+            attempts++;
+            visible = isRevisionVisible(repository, provider, fileSet, revision);
+
+            long remaining = deadline - System.currentTimeMillis();
+            if (visible || remaining <= 0) {
+                break;
+            }
+
+            try {
+                Thread.sleep(Math.min(delay, remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            delay = Math.min(delay * 2, MAX_POLL_DELAY);
+        }
+
+        long waited = System.currentTimeMillis() - start;
+        result.addMetric("scm-tag.wait.millis", waited);
+        result.addMetric("scm-tag.wait.polls", attempts);
+
+        if (visible) {
+            logInfo(result, "Revision " + revision + " is visible after " + waited + " ms (" + attempts + " polls).");
+        } else {
+            logWarn(
+                    result,
+                    "Revision " + revision + " is still not visible after " + waited + " ms (" + attempts
+                            + " polls), tagging the release anyway.");
+        }
+    }
+
+    private boolean isRevisionVisible(
+            ScmRepository repository, ScmProvider provider, ScmFileSet fileSet, String revision) {
+        if (repository.getProviderRepository() instanceof GitScmProviderRepository) {
+            // the log of Git only reads the local clone: fetch the branch of the remote instead, and check that it
+            // contains the revision, which is no longer its tip if anything was pushed after the release
+            File basedir = fileSet.getBasedir();
+            try {
+                String branch = GitCommands.run(commandLineFactory, basedir, "symbolic-ref", "--short", "HEAD");
+                GitCommands.run(
+                        commandLineFactory,
+                        basedir,
+                        "fetch",
+                        "--quiet",
+                        ((GitScmProviderRepository) repository.getProviderRepository()).getFetchUrl(),
+                        "refs/heads/" + branch);
+                GitCommands.run(commandLineFactory, basedir, "merge-base", "--is-ancestor", revision, "FETCH_HEAD");
+                return true;
+            } catch (ReleaseExecutionException e) {
+                getLogger().debug("Unable to look for revision " + revision + ": " + e.getMessage(), e);
+                return false;
+            }
+        }
+
+        try {
+            ChangeLogScmRequest request = new ChangeLogScmRequest(repository, fileSet);
+            request.setRevision(new ScmRevision(revision));
+            request.setLimit(1);
+
+            ChangeLogScmResult changeLogResult = provider.changeLog(request);
+
+            return changeLogResult != null
+                    && changeLogResult.isSuccess()
+                    && changeLogResult.getChangeLog() != null
+                    && !changeLogResult.getChangeLog().getChangeSets().isEmpty();
+        } catch (ScmException e) {
+            getLogger().debug("Unable to look for revision " + revision + ": " + e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Copies the revision of the working copy to the tag and replaces the POMs in the copy by the ones of the working
+     * copy, all in a single commit on the server.
+     */
+    private void tagWithModifications(
+            ReleaseDescriptor releaseDescriptor,
+            ReleaseDescriptor basedirAlignedReleaseDescriptor,
+            ScmRepository repository,
+            ScmProvider provider,
+            List<MavenProject> reactorProjects,
+            ReleaseResult result)
+            throws ReleaseExecutionException, ReleaseScmCommandException {
+        SvnScmProviderRepository svnRepository = (SvnScmProviderRepository) repository.getProviderRepository();
+        File workingDirectory = new File(basedirAlignedReleaseDescriptor.getWorkingDirectory());
+
+        InfoScmResult infoResult;
+        try {
+            infoResult = provider.info(svnRepository, new ScmFileSet(workingDirectory), new CommandParameters());
+        } catch (ScmException e) {
+            throw new ReleaseExecutionException("An error is occurred in the info process: " + e.getMessage(), e);
+        }
+
+        if (!infoResult.isSuccess() || infoResult.getInfoItems().isEmpty()) {
+            throw new ReleaseScmCommandException("Unable to get the revision of the working copy", infoResult);
+        }
+
+        String revision = infoResult.getInfoItems().get(0).getRevision();
+        String tagName = releaseDescriptor.getScmReleaseLabel();
+        String tagUrl = SvnTagBranchUtils.resolveTagUrl(svnRepository, new ScmTag(tagName));
+
+        List<String> args = new ArrayList<>();
+        args.add("--non-interactive");
+        if (svnRepository.getUser() != null) {
+            args.add("--username");
+            args.add(svnRepository.getUser());
+        }
+        if (svnRepository.getPassword() != null) {
+            args.add("--password");
+            args.add(svnRepository.getPassword());
+        }
+        args.add("-m");
+        args.add(releaseDescriptor.getScmCommentPrefix() + "copy for tag " + tagName);
+        args.addAll(Arrays.asList("cp", revision, svnRepository.getUrl(), tagUrl));
+
+        Path basedir = workingDirectory.getAbsoluteFile().toPath();
+        int pomCount = 0;
+        for (MavenProject project : reactorProjects) {
+            for (File pomFile : AbstractScmCommitPhase.createPomFiles(releaseDescriptor, project)) {
+                String path = basedir.relativize(pomFile.getAbsoluteFile().toPath())
+                        .toString()
+                        .replace(File.separatorChar, '/');
+                args.addAll(Arrays.asList("put", pomFile.getAbsolutePath(), tagUrl + "/" + path));
+                pomCount++;
+            }
+        }
+
+        logInfo(result, "Copying revision " + revision + " to " + tagUrl + " with " + pomCount + " POMs...");
+
+        result.appendOutput(SvnCommands.svnmucc(commandLineFactory, workingDirectory, args.toArray(new String[0])));
+    }
+
     @Override
     public ReleaseResult simulate(
             ReleaseDescriptor releaseDescriptor,
@@ -153,7 +413,12 @@ public class ScmTagPhase extends AbstractReleasePhase {
         ReleaseDescriptor basedirAlignedReleaseDescriptor =
                 ReleaseUtil.createBasedirAlignedReleaseDescriptor(releaseDescriptor, reactorProjects);
 
-        if (releaseDescriptor.isRemoteTagging()) {
+        if (isTaggedWithModifications(releaseDescriptor, releaseEnvironment, scmRepositoryConfigurator)) {
+            logInfo(
+                    result,
+                    "Full run would copy '" + basedirAlignedReleaseDescriptor.getScmSourceUrl()
+                            + "' with the POMs of the working copy");
+        } else if (releaseDescriptor.isRemoteTagging()) {
             logInfo(
                     result,
                     "Full run would tag working copy '" + basedirAlignedReleaseDescriptor.getWorkingDirectory() + "'");
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.phase;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.apache.maven.shared.release.ReleaseResult;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
+import org.apache.maven.shared.release.env.ReleaseEnvironment;
+import org.apache.maven.shared.release.util.ReleaseUtil;
+import org.apache.maven.shared.release.util.VerificationManifest;
+
+/**
+ * Stash the content of the build verified by the preparation goals, keyed by the release tag, so that release perform
+ * can skip the tests when it builds the same content. Only active if <code>verifyOnce</code> is set.
+ *
+ * @since 3.4
+ */
+@Singleton
+@Named("stash-verified-build")
+public class StashVerifiedBuildPhase extends AbstractReleasePhase {
+    @Override
+    public ReleaseResult execute(
+            ReleaseDescriptor releaseDescriptor,
+            ReleaseEnvironment releaseEnvironment,
+            List<MavenProject> reactorProjects)
+            throws ReleaseExecutionException {
+        ReleaseResult result = new ReleaseResult();
+
+        if (isStashed(releaseDescriptor) && releaseDescriptor.isIncrementalPreparationGoals()) {
+            logWarn(
+                    result,
+                    "The build verified for " + releaseDescriptor.getScmReleaseLabel()
+                            + " is not stashed, as the preparation goals are incremental.");
+        } else if (isStashed(releaseDescriptor)) {
+            MavenProject rootProject = ReleaseUtil.getRootProject(reactorProjects);
+            File manifestFile = getManifestFile(releaseDescriptor);
+
+            try {
+                VerificationManifest.create(
+                                rootProject.getBasedir(),
+                                getBuildRoots(rootProject, reactorProjects),
+                                releaseDescriptor.getScmReleaseLabel(),
+                                releaseDescriptor.getScmReleasedPomRevision())
+                        .write(manifestFile);
+            } catch (IOException e) {
+                throw new ReleaseExecutionException("Unable to stash the verified build: " + e.getMessage(), e);
+            }
+
+            logInfo(
+                    result,
+                    "Stashed the build verified for " + releaseDescriptor.getScmReleaseLabel() + " in " + manifestFile);
+        }
+
+        result.setResultCode(ReleaseResult.SUCCESS);
+
+        return result;
+    }
+
+    @Override
+    public ReleaseResult simulate(
+            ReleaseDescriptor releaseDescriptor,
+            ReleaseEnvironment releaseEnvironment,
+            List<MavenProject> reactorProjects) {
+        ReleaseResult result = new ReleaseResult();
+
+        if (isStashed(releaseDescriptor)) {
+            logInfo(
+                    result,
+                    "Full run would stash the build verified for " + releaseDescriptor.getScmReleaseLabel() + " in "
+                            + getManifestFile(releaseDescriptor));
+        }
+
+        result.setResultCode(ReleaseResult.SUCCESS);
+
+        return result;
+    }
+
+    private static boolean isStashed(ReleaseDescriptor releaseDescriptor) {
+        String goals = releaseDescriptor.getPreparationGoals();
+        return releaseDescriptor.isVerifyOnce()
+                && releaseDescriptor.getScmReleaseLabel() != null
+                && !(goals == null || goals.trim().isEmpty());
+    }
+
+    /**
+     * Returns the file in which the build verified for the release tag is stashed. Without a verification directory,
+     * it is in <code>target/release-verification</code> below the working directory.
+     *
+     * @param releaseDescriptor the release descriptor
+     * @return the manifest file
+     */
+    static File getManifestFile(ReleaseDescriptor releaseDescriptor) {
+        File directory;
+        if (releaseDescriptor.getVerificationDirectory() != null) {
+            directory = new File(releaseDescriptor.getVerificationDirectory());
+        } else {
+            directory = new File(releaseDescriptor.getWorkingDirectory(), "target/release-verification");
+        }
+        return VerificationManifest.getManifestFile(directory, releaseDescriptor.getScmReleaseLabel());
+    }
+
+    /**
+     * The build roots are the directory of the root project, and the directories of the projects outside of it, like
+     * in a flat layout, relative to the root project.
+     */
+    private static List<String> getBuildRoots(MavenProject rootProject, List<MavenProject> reactorProjects) {
+        List<String> roots = new ArrayList<>();
+        roots.add("");
+        for (MavenProject project : reactorProjects) {
+            String root = relativize(rootProject.getBasedir(), project.getBasedir());
+            if (root.startsWith("../") && !isBelowAny(root, roots)) {
+                roots.removeIf(other -> other.startsWith(root + '/'));
+                roots.add(root);
+            }
+        }
+        return roots;
+    }
+
+    private static boolean isBelowAny(String directory, List<String> roots) {
+        for (String root : roots) {
+            if (!root.isEmpty() && (directory.equals(root) || directory.startsWith(root + '/'))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String relativize(File baseDirectory, File file) {
+        return baseDirectory
+                .toPath()
+                .toAbsolutePath()
+                .normalize()
+                .relativize(file.toPath().toAbsolutePath().normalize())
+                .toString()
+                .replace(File.separatorChar, '/');
+    }
+}
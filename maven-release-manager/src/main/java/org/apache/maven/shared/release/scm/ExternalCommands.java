@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.scm;
+
+import java.io.File;
+
+import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.apache.maven.shared.release.exec.CommandLineFactory;
+import org.apache.maven.shared.release.exec.MavenExecutorException;
+import org.codehaus.plexus.util.cli.CommandLineException;
+import org.codehaus.plexus.util.cli.CommandLineUtils;
+import org.codehaus.plexus.util.cli.Commandline;
+
+/**
+ * Runs the SCM client executables used for the operations the SCM API does not offer.
+ */
+final class ExternalCommands {
+    private ExternalCommands() {}
+
+    /**
+     * Runs an executable with the given arguments.
+     *
+     * @param commandLineFactory the command line factory
+     * @param executable the executable
+     * @param command the command, as shown in error messages
+     * @param workingDirectory the directory to run the executable in
+     * @param args the arguments
+     * @return the trimmed standard output
+     * @throws ReleaseExecutionException if the executable cannot be run or exits with an error
+     */
+    static String run(
+            CommandLineFactory commandLineFactory,
+            String executable,
+            String command,
+            File workingDirectory,
+            String... args)
+            throws ReleaseExecutionException {
+        Commandline cl;
+        try {
+            cl = commandLineFactory.createCommandLine(executable);
+        } catch (MavenExecutorException e) {
+            throw new ReleaseExecutionException(e.getMessage(), e);
+        }
+        cl.setWorkingDirectory(workingDirectory);
+        cl.addArguments(args);
+
+        CommandLineUtils.StringStreamConsumer stdout = new CommandLineUtils.StringStreamConsumer();
+        CommandLineUtils.StringStreamConsumer stderr = new CommandLineUtils.StringStreamConsumer();
+        int exitCode;
+        try {
+            exitCode = CommandLineUtils.executeCommandLine(cl, stdout, stderr);
+        } catch (CommandLineException e) {
+            throw new ReleaseExecutionException("Unable to run " + command + ": " + e.getMessage(), e);
+        }
+
+        if (exitCode != 0) {
+            throw new ReleaseExecutionException(command + " failed, exit code: '" + exitCode + "'"
+                    + System.lineSeparator() + stderr.getOutput());
+        }
+        return stdout.getOutput().trim();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.scm;
+
+import java.io.File;
+
+import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.apache.maven.shared.release.exec.CommandLineFactory;
+
+/**
+ * Runs <code>git</code> commands for the operations the SCM API does not offer, like pushing or local clones.
+ *
+ * @since 3.4
+ */
+public final class GitCommands {
+    private GitCommands() {}
+
+    /**
+     * Runs <code>git</code> with the given arguments.
+     *
+     * @param commandLineFactory the command line factory
+     * @param workingDirectory the directory to run <code>git</code> in
+     * @param args the arguments
+     * @return the trimmed standard output
+     * @throws ReleaseExecutionException if <code>git</code> cannot be run or exits with an error
+     */
+    public static String run(CommandLineFactory commandLineFactory, File workingDirectory, String... args)
+            throws ReleaseExecutionException {
+        return ExternalCommands.run(commandLineFactory, "git", "git " + args[0], workingDirectory, args);
+    }
+}
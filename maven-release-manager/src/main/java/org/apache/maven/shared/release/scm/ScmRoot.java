@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.scm;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.model.Scm;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
+import org.apache.maven.shared.release.util.ReleaseUtil;
+
+/**
+ * The reactor projects living in the same SCM root, i.e. the same Git repository or Subversion location.
+ *
+ * @since 3.4
+ */
+public final class ScmRoot {
+    private final MavenProject project;
+
+    private final String scmSourceUrl;
+
+    private final List<MavenProject> projects = new ArrayList<>();
+
+    private ScmRoot(MavenProject project, String scmSourceUrl) {
+        this.project = project;
+        this.scmSourceUrl = scmSourceUrl;
+    }
+
+    /**
+     * @return the top-most project of the root
+     */
+    public MavenProject getProject() {
+        return project;
+    }
+
+    /**
+     * @return the SCM URL of the root
+     */
+    public String getScmSourceUrl() {
+        return scmSourceUrl;
+    }
+
+    /**
+     * @return the projects of the root, in reactor order
+     */
+    public List<MavenProject> getProjects() {
+        return Collections.unmodifiableList(projects);
+    }
+
+    @Override
+    public String toString() {
+        String projectId = ArtifactUtils.versionlessKey(project.getGroupId(), project.getArtifactId());
+        return projectId + " (" + scmSourceUrl + ")";
+    }
+
+    /**
+     * Groups the reactor projects by the SCM root they belong to. The first root is the one of the reactor root
+     * project, with the SCM URL of the release. Any other project starts a new root if it declares an SCM URL which
+     * is not below the one of the root containing its directory; otherwise it belongs to that root.
+     *
+     * @param releaseDescriptor the release configuration, with the original SCM information of the projects
+     * @param reactorProjects the reactor projects
+     * @return the SCM roots
+     */
+    public static List<ScmRoot> groupByScmRoot(
+            ReleaseDescriptor releaseDescriptor, List<MavenProject> reactorProjects) {
+        MavenProject rootProject = ReleaseUtil.getRootProject(reactorProjects);
+
+        List<ScmRoot> roots = new ArrayList<>();
+        roots.add(new ScmRoot(rootProject, releaseDescriptor.getScmSourceUrl()));
+
+        // parent directories first, so that the root containing a project is known when the project is visited
+        List<MavenProject> projects = new ArrayList<>(reactorProjects);
+        projects.sort(Comparator.comparingInt(project -> getBasedir(project).getNameCount()));
+
+        for (MavenProject project : projects) {
+            if (project == rootProject) {
+                continue;
+            }
+
+            String scmSourceUrl = getScmSourceUrl(releaseDescriptor, project);
+            if (scmSourceUrl != null && !isBelow(scmSourceUrl, getContainingRoot(roots, project).scmSourceUrl)) {
+                roots.add(new ScmRoot(project, scmSourceUrl));
+            }
+        }
+
+        for (MavenProject project : reactorProjects) {
+            getContainingRoot(roots, project).projects.add(project);
+        }
+
+        return roots;
+    }
+
+    private static ScmRoot getContainingRoot(List<ScmRoot> roots, MavenProject project) {
+        Path basedir = getBasedir(project);
+
+        // projects outside the directory of any root belong to the reactor root
+        ScmRoot containingRoot = roots.get(0);
+        int depth = -1;
+        for (ScmRoot root : roots) {
+            Path rootBasedir = getBasedir(root.project);
+            if (basedir.startsWith(rootBasedir) && rootBasedir.getNameCount() > depth) {
+                containingRoot = root;
+                depth = rootBasedir.getNameCount();
+            }
+        }
+        return containingRoot;
+    }
+
+    private static Path getBasedir(MavenProject project) {
+        return project.getFile().getAbsoluteFile().toPath().normalize().getParent();
+    }
+
+    private static String getScmSourceUrl(ReleaseDescriptor releaseDescriptor, MavenProject project) {
+        Scm scm = releaseDescriptor.getOriginalScmInfo(
+                ArtifactUtils.versionlessKey(project.getGroupId(), project.getArtifactId()));
+
+        if (scm == null) {
+            return null;
+        } else if (scm.getDeveloperConnection() != null) {
+            return scm.getDeveloperConnection();
+        } else {
+            return scm.getConnection();
+        }
+    }
+
+    private static boolean isBelow(String url, String rootUrl) {
+        if (rootUrl == null) {
+            return false;
+        }
+
+        String base = rootUrl.endsWith("/") ? rootUrl : rootUrl + "/";
+        return url.equals(rootUrl) || url.startsWith(base);
+    }
+}
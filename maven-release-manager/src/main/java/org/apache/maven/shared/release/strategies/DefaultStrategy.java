@@ -76,10 +76,12 @@ public class DefaultStrategy implements Strategy {
                 "run-preparation-goals",
                 "scm-commit-release",
                 "scm-tag",
+                "stash-verified-build",
                 "rewrite-poms-for-development",
                 "remove-release-poms",
                 "run-completion-goals",
                 "scm-commit-development",
+                "scm-push",
                 "end-release"
                 // END SNIPPET: prepare
                 ));
@@ -106,6 +108,7 @@ public class DefaultStrategy implements Strategy {
                 "scm-branch",
                 "rewrite-poms-for-development",
                 "scm-commit-development",
+                "scm-push",
                 "end-release"
                 // END SNIPPET: branch
                 ));
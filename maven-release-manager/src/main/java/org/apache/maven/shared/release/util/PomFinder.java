@@ -20,13 +20,21 @@ package org.apache.maven.shared.release.util;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
-import org.apache.maven.model.Model;
-import org.apache.maven.model.Parent;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
-import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import org.slf4j.Logger;
 
 import static java.util.Objects.requireNonNull;
@@ -57,18 +65,54 @@ import static java.util.Objects.requireNonNull;
  *      {@link #findMatchingPom(java.io.File)}
  *   </li>
  * </ol>
+ * <p>The search does not enter hidden directories, nor the directories with an excluded name, like build output
+ * directories, and stops at a maximum depth. Only the coordinates at the top of the poms are read, see
+ * {@link PomIdentity}.</p>
  *
  * @author <a href="mailto:struberg@yahoo.de">Mark Struberg</a>
  */
 public class PomFinder {
+    /**
+     * The names of the directories not searched by default.
+     */
+    public static final Set<String> DEFAULT_EXCLUDED_DIRECTORIES =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList("target", "node_modules", "CVS")));
+
+    /**
+     * The maximum depth of the search below the start directory by default.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 10;
+
+    /**
+     * The number of candidate poms from which they are read in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 16;
 
     private final Logger log;
-    private PomInfo foundPomInfo;
+    private String pomFileName;
+    private PomIdentity foundPomIdentity;
+    private Set<String> excludedDirectories = DEFAULT_EXCLUDED_DIRECTORIES;
+    private int maxDepth = DEFAULT_MAX_DEPTH;
 
     public PomFinder(Logger log) {
         this.log = requireNonNull(log);
     }
 
+    /**
+     * @param excludedDirectories the names of the directories not to search, replacing the default ones
+     */
+    public void setExcludedDirectories(Collection<String> excludedDirectories) {
+        this.excludedDirectories = new HashSet<>(excludedDirectories);
+    }
+
+    /**
+     * @param maxDepth the maximum depth of the search below the start directory, <code>0</code> to only look into the
+     *                 start directory
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
     /**
      * @param originPom the pom File which should be used as blueprint for the search
      * @return <code>true</code> if a pom got parsed successfully, <code>false</code> otherwise
@@ -79,13 +123,14 @@ public class PomFinder {
         }
 
         try {
-            foundPomInfo = readPomInfo(originPom);
+            foundPomIdentity = PomIdentity.read(originPom);
+            pomFileName = originPom.getName();
         } catch (Exception e) {
             log.warn("Error while parsing pom file", e);
             return false;
         }
 
-        return foundPomInfo != null;
+        return foundPomIdentity != null;
     }
 
     /**
@@ -106,157 +151,79 @@ public class PomFinder {
             return null;
         }
 
-        if (foundPomInfo == null) {
+        if (foundPomIdentity == null) {
             log.error("Please run parsePom first!");
             return null;
         }
 
-        // look for the file in the current directory
-        File matchingPom = new File(startDirectory, foundPomInfo.getFileName());
-        if (matchingPom.exists()) {
-            PomInfo pi = null;
-            try {
-                pi = readPomInfo(matchingPom);
-            } catch (Exception e) {
-                log.warn("Error while parsing pom file", e);
-                // do nothing, just continue with the search
-                // this might happen if a build contains unfinished pom.xml
-                // files in integration tests, etc
-            }
-
-            if (pi == null || !pi.equals(foundPomInfo)) {
-                matchingPom = null;
-            }
-        } else {
-            matchingPom = null;
+        // the pom in the start directory is the common case, it is checked before walking the tree
+        File startPom = new File(startDirectory, pomFileName);
+        if (matches(startPom)) {
+            return startPom;
         }
 
-        if (matchingPom == null) {
-            String[] childFiles = startDirectory.list();
-            if (childFiles != null) {
-                for (String childFile : childFiles) {
-                    File subDir = new File(startDirectory, childFile);
-                    if (subDir.isDirectory() && !subDir.isHidden()) {
-                        matchingPom = findMatchingPom(subDir);
-                    }
-
-                    if (matchingPom != null) {
-                        break;
-                    }
-                }
-            }
-        }
-
-        return matchingPom;
-    }
-
-    /**
-     * Read the {@link PomInfo} from the given pom file.
-     *
-     * @param pomFile pom.xml file
-     * @return the PomInfo or <code>null</code
-     */
-    private PomInfo readPomInfo(File pomFile) throws IOException, XmlPullParserException {
-        if (!pomFile.exists() || !pomFile.isFile()) {
+        List<File> candidates;
+        try {
+            candidates = findCandidates(startDirectory.toPath());
+        } catch (IOException e) {
+            log.warn("Error while searching for pom files", e);
             return null;
         }
 
-        PomInfo pomInfo = null;
-
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-
-        try (InputStream in = Files.newInputStream(pomFile.toPath())) {
-            Model model = reader.read(in);
-
-            if (model != null) {
-                pomInfo = new PomInfo();
-                pomInfo.setArtifactId(model.getArtifactId());
-                pomInfo.setGroupId(model.getGroupId());
-
-                Parent parent = model.getParent();
-                if (parent != null) {
-                    pomInfo.setParentArtifactId(parent.getArtifactId());
-                    pomInfo.setParentGroupId(parent.getGroupId());
-                }
-
-                pomInfo.setFileName(pomFile.getName());
-            }
-            return pomInfo;
+        // the first match in the order of the walk wins, as with a sequential search
+        if (candidates.size() >= PARALLEL_THRESHOLD) {
+            return candidates.parallelStream().filter(this::matches).findFirst().orElse(null);
         }
+        return candidates.stream().filter(this::matches).findFirst().orElse(null);
     }
 
     /**
-     * Data container which helds information about a pom.
-     * Information may partially be empty.
+     * Lists the poms with the searched name below the start directory, each directory before its subdirectories.
      */
-    private static class PomInfo {
-        private String fileName;
-        private String artifactId;
-        private String groupId;
-        private String parentArtifactId;
-        private String parentGroupId;
-
-        public String getFileName() {
-            return fileName;
-        }
-
-        public void setFileName(String fileName) {
-            this.fileName = fileName;
-        }
-
-        public void setArtifactId(String artifactId) {
-            this.artifactId = artifactId;
-        }
-
-        public void setGroupId(String groupId) {
-            this.groupId = groupId;
-        }
-
-        public void setParentArtifactId(String parentArtifactId) {
-            this.parentArtifactId = parentArtifactId;
-        }
-
-        public void setParentGroupId(String parentGroupId) {
-            this.parentGroupId = parentGroupId;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
+    private List<File> findCandidates(Path startDirectory) throws IOException {
+        List<File> candidates = new ArrayList<>();
+
+        // the directories at the maximum depth are visited as files, one more level is needed to look into them
+        int walkDepth = maxDepth < Integer.MAX_VALUE ? maxDepth + 1 : maxDepth;
+        Files.walkFileTree(
+                startDirectory, EnumSet.noneOf(FileVisitOption.class), walkDepth, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                        if (dir.equals(startDirectory)) {
+                            return FileVisitResult.CONTINUE;
+                        }
+                        if (excludedDirectories.contains(String.valueOf(dir.getFileName())) || Files.isHidden(dir)) {
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
+
+                        Path pom = dir.resolve(pomFileName);
+                        if (Files.isRegularFile(pom)) {
+                            candidates.add(pom.toFile());
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
 
-            PomInfo pomInfo = (PomInfo) o;
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                        log.debug("Unable to search " + file + ": " + exc.getMessage());
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
 
-            if (artifactId != null ? !artifactId.equals(pomInfo.artifactId) : pomInfo.artifactId != null) {
-                return false;
-            }
-            if (groupId != null ? !groupId.equals(pomInfo.groupId) : pomInfo.groupId != null) {
-                return false;
-            }
-            if (parentArtifactId != null
-                    ? !parentArtifactId.equals(pomInfo.parentArtifactId)
-                    : pomInfo.parentArtifactId != null) {
-                return false;
-            }
-            if (parentGroupId != null ? !parentGroupId.equals(pomInfo.parentGroupId) : pomInfo.parentGroupId != null) {
-                return false;
-            }
+        return candidates;
+    }
 
-            return true;
+    private boolean matches(File pomFile) {
+        PomIdentity pi = null;
+        try {
+            pi = PomIdentity.read(pomFile);
+        } catch (Exception e) {
+            log.warn("Error while parsing pom file", e);
+            // do nothing, just continue with the search
+            // this might happen if a build contains unfinished pom.xml
+            // files in integration tests, etc
         }
 
-        @Override
-        public int hashCode() {
-            int result = artifactId != null ? artifactId.hashCode() : 0;
-            result = 31 * result + (groupId != null ? groupId.hashCode() : 0);
-            result = 31 * result + (parentArtifactId != null ? parentArtifactId.hashCode() : 0);
-            result = 31 * result + (parentGroupId != null ? parentGroupId.hashCode() : 0);
-            return result;
-        }
+        return pi != null && pi.equals(foundPomIdentity);
     }
 }
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The coordinates at the top of a pom: its groupId and artifactId, and the ones of its parent. They are read by
+ * streaming the pom until they are known, instead of building the whole model, which is much cheaper for large poms.
+ * The reading stops at the first large section, like the dependencies or the build, once the artifactId is known, so
+ * a parent declared after these sections is not seen. Only the values written in the pom are read, nothing is
+ * inherited nor interpolated.
+ *
+ * @since 3.4
+ */
+public final class PomIdentity {
+    /**
+     * The sections of a pom which come after its coordinates in any usual pom.
+     */
+    private static final Set<String> BODY_ELEMENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "modules",
+            "properties",
+            "dependencyManagement",
+            "dependencies",
+            "repositories",
+            "pluginRepositories",
+            "build",
+            "reporting",
+            "profiles",
+            "distributionManagement")));
+
+    /**
+     * The factories are not guaranteed to be thread safe, and poms may be read in parallel.
+     */
+    private static final ThreadLocal<XMLInputFactory> XML_INPUT_FACTORY =
+            ThreadLocal.withInitial(PomIdentity::createXmlInputFactory);
+
+    private String groupId;
+
+    private String artifactId;
+
+    private String parentGroupId;
+
+    private String parentArtifactId;
+
+    private PomIdentity() {}
+
+    /**
+     * Reads the coordinates of a pom.
+     *
+     * @param pomFile the pom file
+     * @return the coordinates, or <code>null</code> if the file does not exist or is not a pom
+     * @throws IOException if the file cannot be read
+     * @throws XMLStreamException if the file is not well-formed
+     */
+    public static PomIdentity read(File pomFile) throws IOException, XMLStreamException {
+        if (!pomFile.isFile()) {
+            return null;
+        }
+
+        try (InputStream in = Files.newInputStream(pomFile.toPath())) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.get().createXMLStreamReader(in);
+            try {
+                if (reader.nextTag() != XMLStreamConstants.START_ELEMENT || !"project".equals(reader.getLocalName())) {
+                    return null;
+                }
+
+                PomIdentity identity = new PomIdentity();
+
+                boolean parentRead = false;
+                while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+
+                    if (identity.artifactId != null && BODY_ELEMENTS.contains(name)) {
+                        break;
+                    } else if ("parent".equals(name)) {
+                        identity.readParent(reader);
+                        parentRead = true;
+                    } else if ("groupId".equals(name)) {
+                        identity.groupId = reader.getElementText().trim();
+                    } else if ("artifactId".equals(name)) {
+                        identity.artifactId = reader.getElementText().trim();
+                    } else {
+                        skipElement(reader);
+                    }
+
+                    if (identity.artifactId != null && identity.groupId != null && parentRead) {
+                        break;
+                    }
+                }
+                return identity;
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private void readParent(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String name = reader.getLocalName();
+            if ("groupId".equals(name)) {
+                parentGroupId = reader.getElementText().trim();
+            } else if ("artifactId".equals(name)) {
+                parentArtifactId = reader.getElementText().trim();
+            } else {
+                skipElement(reader);
+            }
+        }
+    }
+
+    /**
+     * Skips the current element with its content, leaving the reader on its end.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * @return the groupId written in the pom, or <code>null</code> if inherited
+     */
+    public String getGroupId() {
+        return groupId;
+    }
+
+    /**
+     * @return the groupId of the project, possibly inherited from the parent
+     */
+    public String getEffectiveGroupId() {
+        return groupId != null ? groupId : parentGroupId;
+    }
+
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    public String getParentGroupId() {
+        return parentGroupId;
+    }
+
+    public String getParentArtifactId() {
+        return parentArtifactId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        PomIdentity that = (PomIdentity) o;
+        return Objects.equals(groupId, that.groupId)
+                && Objects.equals(artifactId, that.artifactId)
+                && Objects.equals(parentGroupId, that.parentGroupId)
+                && Objects.equals(parentArtifactId, that.parentArtifactId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(groupId, artifactId, parentGroupId, parentArtifactId);
+    }
+
+    @Override
+    public String toString() {
+        return getEffectiveGroupId() + ":" + artifactId;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder.BuilderReleaseDescriptor;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Precompiled template with <code>@{name}</code> placeholders, as used by tag name formats and SCM commit comments.
+ * <p>
+ * A template is parsed once into literal and placeholder segments, so rendering it only costs a single
+ * {@link StringBuilder}. Placeholders without a (non-null) value are kept verbatim in the result.
+ *
+ * @since 3.4
+ */
+public final class ReleaseTemplate {
+    private static final String PLACEHOLDER_START = "@{";
+
+    private static final char PLACEHOLDER_END = '}';
+
+    private final String template;
+
+    /**
+     * Literal text, interleaved with placeholders: even indices are literals, odd indices placeholder names.
+     */
+    private final String[] segments;
+
+    private final int literalLength;
+
+    private ReleaseTemplate(String template) {
+        this.template = template;
+
+        List<String> parts = new ArrayList<>();
+        int length = 0;
+        int position = 0;
+        StringBuilder literal = new StringBuilder();
+        while (position < template.length()) {
+            int start = template.indexOf(PLACEHOLDER_START, position);
+            int end = start < 0 ? -1 : template.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length());
+            if (end < 0) {
+                literal.append(template, position, template.length());
+                break;
+            }
+            literal.append(template, position, start);
+            parts.add(literal.toString());
+            length += literal.length();
+            literal.setLength(0);
+            parts.add(template.substring(start + PLACEHOLDER_START.length(), end));
+            position = end + 1;
+        }
+        parts.add(literal.toString());
+        length += literal.length();
+
+        this.segments = parts.toArray(new String[0]);
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses the given template.
+     *
+     * @param template the template, not <code>null</code>
+     * @return the compiled template
+     */
+    public static ReleaseTemplate compile(String template) {
+        requireNonNull(template, "template cannot be null");
+        return new ReleaseTemplate(template);
+    }
+
+    /**
+     * Returns the compiled form of the given template for a release. The compiled templates are kept with the release
+     * descriptor, so repeated use of the same format during a release only parses it once, and they are released with
+     * it.
+     *
+     * @param releaseDescriptor the release descriptor
+     * @param template the template, not <code>null</code>
+     * @return the compiled template
+     */
+    public static ReleaseTemplate compile(ReleaseDescriptor releaseDescriptor, String template) {
+        requireNonNull(template, "template cannot be null");
+        if (releaseDescriptor instanceof BuilderReleaseDescriptor) {
+            return ((BuilderReleaseDescriptor) releaseDescriptor)
+                    .getTemplates()
+                    .computeIfAbsent(template, ReleaseTemplate::new);
+        }
+        return new ReleaseTemplate(template);
+    }
+
+    /**
+     * Renders the template, replacing every placeholder by its value.
+     *
+     * @param values placeholder values by name
+     * @return the rendered string
+     */
+    public String render(Map<String, String> values) {
+        if (segments.length == 1) {
+            return segments[0];
+        }
+
+        StringBuilder result = new StringBuilder(literalLength + 16 * (segments.length / 2));
+        for (int i = 0; i < segments.length; i++) {
+            if (i % 2 == 0) {
+                result.append(segments[i]);
+            } else {
+                String value = values.get(segments[i]);
+                if (value != null) {
+                    result.append(value);
+                } else {
+                    result.append(PLACEHOLDER_START).append(segments[i]).append(PLACEHOLDER_END);
+                }
+            }
+        }
+        return result.toString();
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
@@ -106,6 +106,20 @@ public class ReleaseUtil {
         return new File(pom.getParent(), RELEASE_POMv4);
     }
 
+    /**
+     * Records a file written by the release, so that the next commit contains it.
+     *
+     * @param releaseDescriptor the release descriptor tracking the changed files
+     * @param file the written file
+     * @since 3.4
+     */
+    public static void addChangedFile(ReleaseDescriptor releaseDescriptor, File file) {
+        String path = file.getAbsolutePath();
+        if (!releaseDescriptor.getChangedFiles().contains(path)) {
+            releaseDescriptor.addChangedFile(path);
+        }
+    }
+
     /**
      * Gets the string contents of the specified XML file. Note: In contrast to an XML processor, the line separators in
      * the returned string will be normalized to use the platform's native line separator. This is basically to save
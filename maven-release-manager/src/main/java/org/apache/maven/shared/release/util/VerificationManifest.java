@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * The content of a build verified by the preparation goals: the SHA-256 digest of each file below the build roots,
+ * i.e. the directories of the projects, relative to the root project. The build output, the metadata of the SCMs and
+ * the files written by the release itself are left out, as they are not part of the release tag. Release perform
+ * compares it with the checked-out release tag, to know whether it builds exactly what has already been verified.
+ *
+ * @since 3.4
+ */
+public final class VerificationManifest {
+    private static final String TAG = "tag";
+
+    private static final String REVISION = "revision";
+
+    private static final String ROOT_PREFIX = "root.";
+
+    private static final String FILE_PREFIX = "file.";
+
+    /**
+     * The names of the build output directories and of the metadata of the SCMs.
+     */
+    private static final Set<String> EXCLUDED_NAMES =
+            new HashSet<>(Arrays.asList("target", ".git", ".svn", ".hg", ".bzr", "CVS", "release.properties"));
+
+    /**
+     * The backups and the rewritten copies of the POMs made by the release.
+     */
+    private static final Pattern RELEASE_POM_COPY = Pattern.compile(".+\\.(releaseBackup|backup|tag|next|branch)");
+
+    private final String tag;
+
+    private final String revision;
+
+    private final List<String> roots;
+
+    private final Map<String, String> digests;
+
+    private VerificationManifest(String tag, String revision, List<String> roots, Map<String, String> digests) {
+        this.tag = tag;
+        this.revision = revision;
+        this.roots = Collections.unmodifiableList(roots);
+        this.digests = Collections.unmodifiableMap(digests);
+    }
+
+    /**
+     * Computes the manifest of a build.
+     *
+     * @param baseDirectory the directory of the root project
+     * @param roots         the build roots, relative to the base directory
+     * @param tag           the release tag
+     * @param revision      the revision of the release tag, if known
+     * @return the manifest
+     * @throws IOException if a file cannot be read
+     */
+    public static VerificationManifest create(File baseDirectory, List<String> roots, String tag, String revision)
+            throws IOException {
+        return new VerificationManifest(tag, revision, new ArrayList<>(roots), digest(baseDirectory, roots));
+    }
+
+    /**
+     * Reads a manifest written by {@link #write(File)}.
+     *
+     * @param file the manifest file
+     * @return the manifest
+     * @throws IOException if the file cannot be read
+     */
+    public static VerificationManifest read(File file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            properties.load(in);
+        }
+
+        List<String> roots = new ArrayList<>();
+        for (int i = 0; properties.containsKey(ROOT_PREFIX + i); i++) {
+            roots.add(properties.getProperty(ROOT_PREFIX + i));
+        }
+
+        Map<String, String> digests = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(FILE_PREFIX)) {
+                digests.put(key.substring(FILE_PREFIX.length()), properties.getProperty(key));
+            }
+        }
+
+        return new VerificationManifest(properties.getProperty(TAG), properties.getProperty(REVISION), roots, digests);
+    }
+
+    /**
+     * Returns the file of the manifest of a release tag in a directory.
+     *
+     * @param directory the verification directory
+     * @param tag       the release tag
+     * @return the manifest file
+     */
+    public static File getManifestFile(File directory, String tag) {
+        return new File(directory, tag.replaceAll("[^A-Za-z0-9._-]", "_") + ".properties");
+    }
+
+    /**
+     * Writes this manifest, creating the parent directories if needed.
+     *
+     * @param file the manifest file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(File file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(TAG, tag);
+        if (revision != null) {
+            properties.setProperty(REVISION, revision);
+        }
+        for (int i = 0; i < roots.size(); i++) {
+            properties.setProperty(ROOT_PREFIX + i, roots.get(i));
+        }
+        for (Map.Entry<String, String> digest : digests.entrySet()) {
+            properties.setProperty(FILE_PREFIX + digest.getKey(), digest.getValue());
+        }
+
+        Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+        try (OutputStream out = Files.newOutputStream(file.toPath())) {
+            properties.store(out, "Build verified by the preparation goals of " + tag);
+        }
+    }
+
+    /**
+     * Checks whether the build roots below a directory have the content of this manifest.
+     *
+     * @param baseDirectory the directory of the root project
+     * @return <code>true</code> if the same files exist with the same content, <code>false</code> otherwise
+     * @throws IOException if a file cannot be read
+     */
+    public boolean matches(File baseDirectory) throws IOException {
+        return digests.equals(digest(baseDirectory, roots));
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public String getRevision() {
+        return revision;
+    }
+
+    public Map<String, String> getDigests() {
+        return digests;
+    }
+
+    private static Map<String, String> digest(File baseDirectory, List<String> roots) throws IOException {
+        Map<String, String> digests = new TreeMap<>();
+        for (String root : roots) {
+            Path rootPath = baseDirectory.toPath().resolve(root);
+            if (!Files.exists(rootPath)) {
+                continue;
+            }
+
+            Files.walkFileTree(rootPath, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    return !dir.equals(rootPath) && isExcluded(dir)
+                            ? FileVisitResult.SKIP_SUBTREE
+                            : FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    if (!isExcluded(file)) {
+                        String name = rootPath.relativize(file).toString().replace(File.separatorChar, '/');
+                        digests.put(
+                                name.isEmpty() ? root : root.isEmpty() ? name : root + '/' + name, digest(file));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+        return digests;
+    }
+
+    private static boolean isExcluded(Path path) {
+        String name = path.getFileName().toString();
+        return EXCLUDED_NAMES.contains(name) || RELEASE_POM_COPY.matcher(name).matches();
+    }
+
+    private static String digest(Path file) throws IOException {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
+            }
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : messageDigest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
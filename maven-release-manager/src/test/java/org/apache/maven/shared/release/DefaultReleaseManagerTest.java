@@ -57,12 +57,16 @@ import static org.codehaus.plexus.testing.PlexusExtension.getTestPath;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -518,6 +522,149 @@ class DefaultReleaseManagerTest {
         verifyNoMoreInteractions(managerListener);
     }
 
+    @Test
+    void testPerformResume() throws Exception {
+        // prepare
+        ReleasePerformRequest performRequest = new ReleasePerformRequest();
+        performRequest.setDryRun(true);
+        performRequest.setResume(true);
+        performRequest.setReactorProjects(createReactorProjects());
+
+        ReleaseManagerListener managerListener = mock(ReleaseManagerListener.class);
+        performRequest.setReleaseManagerListener(managerListener);
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm-url");
+        builder.setWorkingDirectory(getTestFile("target/working-directory").getAbsolutePath());
+        builder.setCompletedPerformPhase("checkout-project-from-scm");
+        performRequest.setReleaseDescriptorBuilder(builder);
+
+        // test
+        releaseManagerTest.perform(performRequest);
+
+        // verify
+        verify(managerListener).phaseSkip("verify-completed-prepare-phases");
+        // the checkout is verified again, as it may have been changed since
+        verify(managerListener).phaseStart("checkout-project-from-scm");
+        verify(managerListener).phaseStart("run-perform-goals");
+        verify(managerListener, times(2)).phaseEnd();
+
+        // not part of actual test, but required to confirm 'no more interactions'
+        verify(managerListener).goalStart(anyString(), any());
+        verify(managerListener).goalEnd();
+
+        verifyNoMoreInteractions(managerListener);
+    }
+
+    @Test
+    void testPerformResumeCompleted() throws Exception {
+        // prepare
+        ReleasePerformRequest performRequest = new ReleasePerformRequest();
+        performRequest.setDryRun(true);
+        performRequest.setResume(true);
+        performRequest.setReactorProjects(createReactorProjects());
+
+        ReleaseManagerListener managerListener = mock(ReleaseManagerListener.class);
+        performRequest.setReleaseManagerListener(managerListener);
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm-url");
+        builder.setWorkingDirectory(getTestFile("target/working-directory").getAbsolutePath());
+        builder.setCompletedPerformPhase("run-perform-goals");
+        performRequest.setReleaseDescriptorBuilder(builder);
+
+        // test
+        ReleaseResult result = releaseManagerTest.performWithResult(performRequest);
+
+        // verify: not even the repeatable checkout runs again
+        assertTrue(result.getOutput().contains("Release perform already completed"));
+        verify(managerListener).goalStart(anyString(), any());
+        verify(managerListener).goalEnd();
+
+        verifyNoMoreInteractions(managerListener);
+    }
+
+    @Test
+    void testPerformRecordsProgressOfPreparedRelease() throws Exception {
+        ReleaseDescriptorStore configStoreMock = performWithFailingCheckout("end-release");
+
+        verify(configStoreMock)
+                .write(argThat(descriptor ->
+                        "verify-completed-prepare-phases".equals(descriptor.getCompletedPerformPhase())));
+    }
+
+    @Test
+    void testPerformFromScmUrlDoesNotRecordProgress() throws Exception {
+        ReleaseDescriptorStore configStoreMock = performWithFailingCheckout(null);
+
+        verify(configStoreMock, never()).write(any());
+    }
+
+    private ReleaseDescriptorStore performWithFailingCheckout(String completedPhase) throws Exception {
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm-url");
+        builder.setCompletedPhase(completedPhase);
+        builder.setCheckoutDirectory(getTestFile("target/checkout-directory").getAbsolutePath());
+        builder.setWorkingDirectory(getTestPath("target/dummy-project"));
+
+        ScmProviderStub providerStub = (ScmProviderStub) scmManager.getProviderByUrl("scm-url");
+        providerStub.setCheckOutScmResult(new CheckOutScmResult("", "", "", false));
+
+        ReleaseDescriptorStore configStoreMock = mock(ReleaseDescriptorStore.class);
+        when(configStoreMock.read(any(ReleaseDescriptorBuilder.class))).thenAnswer(i -> i.getArgument(0));
+        ((DefaultReleaseManager) releaseManagerTest).setConfigStore(configStoreMock);
+
+        DefaultReleaseEnvironment releaseEnvironment = new DefaultReleaseEnvironment();
+
+        ReleasePerformRequest performRequest = new ReleasePerformRequest();
+        performRequest.setReleaseDescriptorBuilder(builder);
+        performRequest.setReleaseEnvironment(releaseEnvironment);
+        performRequest.setReleaseManagerListener(mock(ReleaseManagerListener.class));
+        performRequest.setReactorProjects(createReactorProjects());
+
+        assertThrows(ReleaseScmCommandException.class, () -> releaseManagerTest.perform(performRequest));
+
+        // the listener only follows the builds of the failed perform
+        assertNull(releaseEnvironment.getReleaseManagerListener());
+
+        return configStoreMock;
+    }
+
+    @Test
+    void testPerformDetachesListener() throws Exception {
+        DefaultReleaseEnvironment releaseEnvironment = new DefaultReleaseEnvironment();
+
+        releaseManagerTest.perform(createDryRunPerformRequest(releaseEnvironment));
+
+        assertNull(releaseEnvironment.getReleaseManagerListener());
+    }
+
+    @Test
+    void testPerformKeepsListenerOfEnvironment() throws Exception {
+        ReleaseManagerListener environmentListener = mock(ReleaseManagerListener.class);
+        DefaultReleaseEnvironment releaseEnvironment = new DefaultReleaseEnvironment();
+        releaseEnvironment.setReleaseManagerListener(environmentListener);
+
+        releaseManagerTest.perform(createDryRunPerformRequest(releaseEnvironment));
+
+        assertSame(environmentListener, releaseEnvironment.getReleaseManagerListener());
+    }
+
+    private ReleasePerformRequest createDryRunPerformRequest(DefaultReleaseEnvironment releaseEnvironment)
+            throws Exception {
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm-url");
+        builder.setWorkingDirectory(getTestFile("target/working-directory").getAbsolutePath());
+
+        ReleasePerformRequest performRequest = new ReleasePerformRequest();
+        performRequest.setDryRun(true);
+        performRequest.setReleaseDescriptorBuilder(builder);
+        performRequest.setReleaseEnvironment(releaseEnvironment);
+        performRequest.setReleaseManagerListener(mock(ReleaseManagerListener.class));
+        performRequest.setReactorProjects(createReactorProjects());
+        return performRequest;
+    }
+
     @Test
     void testNoScmUrlPerform() throws Exception {
         ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
@@ -25,12 +25,15 @@ import java.util.Properties;
 
 import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.model.Scm;
+import org.apache.maven.shared.release.ReleaseFailureException;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder.BuilderReleaseDescriptor;
 import org.apache.maven.shared.release.phase.AbstractReleaseTestCase;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -265,6 +268,38 @@ class ReleaseUtilsTest {
         assertEquals(Arrays.asList("aProfile", "anotherOne"), builder.build().getActivateProfiles());
     }
 
+    @Test
+    void testCopyVersionMapping() throws Exception {
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        ReleaseUtils.copyVersionMappingToReleaseDescriptor(
+                new File("src/test/resources/version-mapping/valid.csv"), builder);
+        ReleaseDescriptor descriptor = builder.build();
+
+        assertEquals("1.0", descriptor.getProjectReleaseVersion("groupId:artifactId"));
+        assertEquals("1.1-SNAPSHOT", descriptor.getProjectDevelopmentVersion("groupId:artifactId"));
+        assertEquals("2.0", descriptor.getProjectReleaseVersion("groupId:module1"));
+        assertNull(descriptor.getProjectDevelopmentVersion("groupId:module1"));
+        assertNull(descriptor.getProjectReleaseVersion("groupId:module2"));
+        assertEquals("2.1-SNAPSHOT", descriptor.getProjectDevelopmentVersion("groupId:module2"));
+    }
+
+    @Test
+    void testCopyInvalidVersionMapping() {
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        ReleaseFailureException e = assertThrows(
+                ReleaseFailureException.class,
+                () -> ReleaseUtils.copyVersionMappingToReleaseDescriptor(
+                        new File("src/test/resources/version-mapping/invalid.csv"), builder));
+
+        assertTrue(e.getMessage().contains("line 22: duplicate mapping for 'groupId:artifactId'"));
+        assertTrue(e.getMessage().contains("line 23: 'module1' is not of the form groupId:artifactId"));
+        assertTrue(e.getMessage().contains("line 24: no version specified for 'groupId:module2'"));
+        assertTrue(e.getMessage().contains("line 25: versions must not contain whitespace"));
+        assertTrue(e.getMessage().contains("line 26: expected"));
+        // nothing is mapped when the file is invalid
+        assertNull(builder.build().getProjectReleaseVersion("groupId:artifactId"));
+    }
+
     private static ReleaseDescriptorBuilder copyReleaseDescriptor(ReleaseDescriptor originalReleaseDescriptor) {
         return createReleaseDescriptor(originalReleaseDescriptor.getWorkingDirectory());
     }
@@ -29,6 +29,8 @@ import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.apache.maven.shared.release.util.MavenCrypto;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -128,6 +130,17 @@ class AbstractMavenExecutorTest {
         reset(executor);
     }
 
+    @Test
+    void testSplitArguments() throws MavenExecutorException {
+        assertEquals(Arrays.asList(), AbstractMavenExecutor.splitArguments(null));
+        assertEquals(Arrays.asList(), AbstractMavenExecutor.splitArguments(""));
+        assertEquals(
+                Arrays.asList("-DskipTests", "-Dname=a b", "-Pone,two"),
+                AbstractMavenExecutor.splitArguments(" -DskipTests  -Dname=\"a b\" '-Pone,two'"));
+
+        assertThrows(MavenExecutorException.class, () -> AbstractMavenExecutor.splitArguments("-Dname=\"a b"));
+    }
+
     protected class AbstractMavenExecutorSpy extends AbstractMavenExecutor {
         public AbstractMavenExecutorSpy(MavenCrypto mavenCrypto) {
             super(mavenCrypto);
@@ -35,18 +35,26 @@ import org.apache.maven.shared.release.util.MavenCrypto;
 import org.codehaus.plexus.testing.PlexusTest;
 import org.codehaus.plexus.util.cli.Arg;
 import org.codehaus.plexus.util.cli.CommandLineException;
+import org.codehaus.plexus.util.cli.CommandLineTimeOutException;
 import org.codehaus.plexus.util.cli.Commandline;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.sonatype.plexus.components.sec.dispatcher.SecDispatcher;
 
 import static org.codehaus.plexus.testing.PlexusExtension.getTestFile;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.endsWith;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -166,6 +174,58 @@ class ForkedMavenExecutorTest {
         verifyNoMoreInteractions(mockProcess, commandLineMock, argMock, commandLineFactoryMock);
     }
 
+    @Test
+    void testExecutionWithThreads() throws Exception {
+        File workingDirectory = getTestFile("target/working-directory");
+        Process mockProcess = mock(Process.class);
+        when(mockProcess.getInputStream()).thenReturn(mock(InputStream.class));
+        when(mockProcess.getErrorStream()).thenReturn(mock(InputStream.class));
+        when(mockProcess.getOutputStream()).thenReturn(mock(OutputStream.class));
+        when(mockProcess.waitFor()).thenReturn(0);
+
+        Commandline commandLineMock = mock(Commandline.class);
+        when(commandLineMock.execute()).thenReturn(mockProcess);
+
+        Arg argMock = mock(Arg.class);
+        when(commandLineMock.createArg()).thenReturn(argMock);
+
+        CommandLineFactory commandLineFactoryMock = mock(CommandLineFactory.class);
+        when(commandLineFactoryMock.createCommandLine(isA(String.class) /* "mvn" */))
+                .thenReturn(commandLineMock);
+
+        ForkedMavenExecutor executor = new ForkedMavenExecutor(mavenCrypto, commandLineFactoryMock);
+
+        // execute
+        executor.executeGoals(
+                workingDirectory,
+                "clean integration-test",
+                new DefaultReleaseEnvironment(),
+                false,
+                "-T 1 -T 4",
+                null,
+                new ReleaseResult());
+        // verify
+        verify(mockProcess).getInputStream();
+        verify(mockProcess).getErrorStream();
+        verify(mockProcess).getOutputStream();
+        verify(mockProcess).waitFor();
+        verify(commandLineMock).setWorkingDirectory(workingDirectory.getAbsolutePath());
+        verify(commandLineMock).addEnvironment("MAVEN_TERMINATE_CMD", "on");
+        verify(commandLineMock).execute();
+        verify(commandLineMock, times(7)).createArg();
+        verify(argMock).setValue("clean");
+        verify(argMock).setValue("integration-test");
+        verify(argMock).setValue("--batch-mode");
+        InOrder inOrder = inOrder(argMock);
+        inOrder.verify(argMock).setValue("-T");
+        inOrder.verify(argMock).setValue("1");
+        inOrder.verify(argMock).setValue("-T");
+        inOrder.verify(argMock).setValue("4");
+        verify(commandLineFactoryMock).createCommandLine(endsWith("mvn"));
+
+        verifyNoMoreInteractions(mockProcess, commandLineMock, argMock, commandLineFactoryMock);
+    }
+
     @Test
     void testExecutionWithArguments() throws Exception {
         File workingDirectory = getTestFile("target/working-directory");
@@ -205,11 +265,12 @@ class ForkedMavenExecutorTest {
         verify(commandLineMock).setWorkingDirectory(workingDirectory.getAbsolutePath());
         verify(commandLineMock).addEnvironment("MAVEN_TERMINATE_CMD", "on");
         verify(commandLineMock).execute();
-        verify(commandLineMock, times(4)).createArg();
+        verify(commandLineMock, times(5)).createArg();
         verify(argMock).setValue("clean");
         verify(argMock).setValue("integration-test");
         verify(argMock).setValue("--batch-mode");
-        verify(argMock).setLine("-DperformRelease=true -Dmaven.test.skip=true");
+        verify(argMock).setValue("-DperformRelease=true");
+        verify(argMock).setValue("-Dmaven.test.skip=true");
         verify(commandLineFactoryMock).createCommandLine(endsWith("mvn"));
 
         verifyNoMoreInteractions(mockProcess, commandLineMock, argMock, commandLineFactoryMock);
@@ -316,6 +377,38 @@ class ForkedMavenExecutorTest {
         verifyNoMoreInteractions(commandLineMock, argMock, commandLineFactoryMock);
     }
 
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void testExecuteCommandLineWithTimeout() {
+        Commandline cl = new Commandline("sh");
+        cl.createArg().setValue("-c");
+        cl.createArg().setValue("sleep 60 & wait");
+
+        long start = System.currentTimeMillis();
+        assertThrows(
+                CommandLineTimeOutException.class,
+                () -> ForkedMavenExecutor.executeCommandLine(
+                        cl, null, new TeeOutputStream(System.out), new TeeOutputStream(System.err), 1, null));
+
+        assertTrue(System.currentTimeMillis() - start < 30_000, "Check the process was killed");
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    void testExecuteCommandLineMetrics() throws Exception {
+        Commandline cl = new Commandline("sh");
+        cl.createArg().setValue("-c");
+        cl.createArg().setValue("sleep 1");
+
+        ReleaseResult result = new ReleaseResult();
+        int exitCode = ForkedMavenExecutor.executeCommandLine(
+                cl, null, new TeeOutputStream(System.out), new TeeOutputStream(System.err), 0, result);
+
+        assertEquals(0, exitCode);
+        assertTrue(result.getMetrics().get("maven.rss.peak.bytes") > 0, "Check peak memory");
+        assertTrue(result.getMetrics().containsKey("maven.cpu.millis"), "Check CPU time");
+    }
+
     @Test
     void testEncryptSettings() throws Exception {
         // prepare
@@ -27,6 +27,11 @@ import org.apache.maven.settings.Proxy;
 import org.apache.maven.settings.Server;
 import org.apache.maven.settings.Settings;
 import org.apache.maven.settings.io.xpp3.SettingsXpp3Writer;
+import org.apache.maven.shared.invoker.InvocationOutputHandler;
+import org.apache.maven.shared.invoker.InvocationRequest;
+import org.apache.maven.shared.invoker.Invoker;
+import org.apache.maven.shared.invoker.MavenInvocationException;
+import org.apache.maven.shared.release.ReleaseManagerListener;
 import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
 import org.apache.maven.shared.release.util.MavenCrypto;
@@ -39,7 +44,14 @@ import static org.codehaus.plexus.testing.PlexusExtension.getTestFile;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -54,6 +66,73 @@ class InvokerMavenExecutorTest {
     @Inject
     private SecDispatcher secDispatcher;
 
+    @Test
+    void testInvokerReuse() {
+        InvokerMavenExecutor executor = new InvokerMavenExecutor(mavenCrypto);
+
+        File mavenHome = getTestFile("target/maven-home");
+        DefaultReleaseEnvironment releaseEnvironment = new DefaultReleaseEnvironment().setMavenHome(mavenHome);
+
+        assertSame(
+                executor.getInvoker(releaseEnvironment),
+                executor.getInvoker(new DefaultReleaseEnvironment().setMavenHome(mavenHome)));
+        assertNotSame(
+                executor.getInvoker(releaseEnvironment),
+                executor.getInvoker(new DefaultReleaseEnvironment()
+                        .setMavenHome(mavenHome)
+                        .setLocalRepositoryDirectory(getTestFile("target/local-repository"))));
+    }
+
+    @Test
+    void testHomesResolvedOnce() throws Exception {
+        InvokerMavenExecutor executor = new InvokerMavenExecutor(mavenCrypto);
+
+        File mavenHome = getTestFile("target/../target/maven-home");
+        File javaHome = getTestFile("target/../target/java-home");
+        DefaultReleaseEnvironment releaseEnvironment =
+                new DefaultReleaseEnvironment().setMavenHome(mavenHome).setJavaHome(javaHome);
+
+        Invoker invoker = executor.getInvoker(releaseEnvironment);
+        assertEquals(mavenHome.getCanonicalFile(), invoker.getMavenHome());
+        assertEquals(
+                new File(mavenHome.getCanonicalFile(), "bin"),
+                invoker.getMavenExecutable().getParentFile());
+
+        assertEquals(javaHome.getCanonicalFile(), executor.getJavaHome(releaseEnvironment));
+        assertSame(executor.getJavaHome(releaseEnvironment), executor.getJavaHome(releaseEnvironment));
+        assertNull(executor.getJavaHome(new DefaultReleaseEnvironment()));
+    }
+
+    @Test
+    void testProjectsEndWhenInvocationFails() throws Exception {
+        ReleaseManagerListener listener = mock(ReleaseManagerListener.class);
+        DefaultReleaseEnvironment releaseEnvironment = new DefaultReleaseEnvironment();
+        releaseEnvironment.setReleaseManagerListener(listener);
+
+        // the invocation fails after the build printed the start of a project
+        Invoker invoker = mock(Invoker.class);
+        when(invoker.execute(any(InvocationRequest.class))).thenAnswer(invocation -> {
+            InvocationOutputHandler outputHandler =
+                    invocation.getArgument(0, InvocationRequest.class).getOutputHandler(null);
+            outputHandler.consumeLine("[INFO] -----------------------< org.example:parent >------------------------");
+            outputHandler.consumeLine("[INFO] Building Parent 1.0-SNAPSHOT");
+            throw new MavenInvocationException("crashed");
+        });
+
+        InvokerMavenExecutor executorSpy = spy(new InvokerMavenExecutor(mavenCrypto));
+        doReturn(invoker).when(executorSpy).getInvoker(releaseEnvironment);
+
+        File workingDirectory = getTestFile("target/working-directory");
+        workingDirectory.mkdirs();
+        assertThrows(
+                MavenExecutorException.class,
+                () -> executorSpy.executeGoals(
+                        workingDirectory, "validate", releaseEnvironment, false, null, null, new ReleaseResult()));
+
+        verify(listener).projectStart("org.example:parent", 0, 0);
+        verify(listener).projectEnd(eq("org.example:parent"), eq(false), anyLong());
+    }
+
     @Test
     void testEncryptSettings() throws Exception {
         InvokerMavenExecutor executor = new InvokerMavenExecutor(mavenCrypto);
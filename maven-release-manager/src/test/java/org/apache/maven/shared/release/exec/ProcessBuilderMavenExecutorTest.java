@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.exec;
+
+import javax.inject.Inject;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.maven.shared.release.ReleaseResult;
+import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
+import org.apache.maven.shared.release.util.MavenCrypto;
+import org.codehaus.plexus.testing.PlexusTest;
+import org.codehaus.plexus.util.FileUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.codehaus.plexus.testing.PlexusExtension.getTestFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test the Maven executor based on {@link ProcessBuilder}, with a fake <code>mvn</code> script echoing its arguments.
+ */
+@PlexusTest
+@DisabledOnOs(OS.WINDOWS)
+class ProcessBuilderMavenExecutorTest {
+
+    @Inject
+    private MavenCrypto mavenCrypto;
+
+    private File workingDirectory;
+
+    private DefaultReleaseEnvironment releaseEnvironment;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        File testDirectory = getTestFile("target/test/process-builder-executor");
+        FileUtils.deleteDirectory(testDirectory);
+
+        File mvn = new File(testDirectory, "maven-home/bin/mvn");
+        mvn.getParentFile().mkdirs();
+        FileUtils.fileWrite(
+                mvn, "UTF-8", "#!/bin/sh\necho \"Arguments: $*\"\ncase \"$*\" in *fail*) exit 3 ;; esac\n");
+        mvn.setExecutable(true);
+
+        workingDirectory = new File(testDirectory, "working-directory");
+        workingDirectory.mkdirs();
+
+        releaseEnvironment = new DefaultReleaseEnvironment()
+                .setMavenHome(mvn.getParentFile().getParentFile())
+                .setGoalsLogFile(new File(testDirectory, "goals.log"));
+    }
+
+    @Test
+    void testExecutionToLogFile() throws Exception {
+        ProcessBuilderMavenExecutor executor = new ProcessBuilderMavenExecutor(mavenCrypto);
+        ReleaseResult result = new ReleaseResult();
+
+        executor.executeGoals(
+                workingDirectory,
+                "clean verify",
+                releaseEnvironment,
+                false,
+                "-Dname=\"a b\" -T 2",
+                "release-pom.xml",
+                result);
+
+        String log = new String(
+                Files.readAllBytes(releaseEnvironment.getGoalsLogFile().toPath()), StandardCharsets.UTF_8);
+        assertEquals("Arguments: -f release-pom.xml clean verify --batch-mode -Dname=a b -T 2\n", log);
+        assertThat(result.getOutput(), containsString(log));
+    }
+
+    @Test
+    void testExecutionWithNonZeroExitCode() throws Exception {
+        ProcessBuilderMavenExecutor executor = new ProcessBuilderMavenExecutor(mavenCrypto);
+        ReleaseResult result = new ReleaseResult();
+
+        executor.executeGoals(workingDirectory, "validate", releaseEnvironment, false, null, null, result);
+
+        MavenExecutorException e = assertThrows(
+                MavenExecutorException.class,
+                () -> executor.executeGoals(workingDirectory, "fail", releaseEnvironment, false, null, null, result));
+        assertEquals(3, e.getExitCode());
+
+        assertThat(result.getOutput(), containsString("Arguments: fail --batch-mode"));
+        assertEquals(
+                2,
+                result.getOutput().split("Arguments: ", -1).length - 1,
+                "Check the output of each execution is added once");
+    }
+}
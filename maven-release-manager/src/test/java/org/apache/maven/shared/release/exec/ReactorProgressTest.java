@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.exec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.shared.release.ReleaseManagerListener;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class ReactorProgressTest {
+    private static final String OUTPUT = "[INFO] Scanning for projects...\n"
+            + "[INFO] ------------------------------------------------------------------------\n"
+            + "[INFO] Reactor Build Order:\n"
+            + "[INFO] \n"
+            + "[INFO] ------------------< org.example:parent >-------------------\n"
+            + "[INFO] Building Parent 1.0                                          [1/2]\n"
+            + "[INFO] --------------------------------[ pom ]---------------------------------\n"
+            + "[INFO] \n"
+            + "[INFO] -------------------< org.example:core >--------------------\n"
+            + "[INFO] Building Core 1.0                                            [2/2]\n"
+            + "[INFO] --------------------------------[ jar ]---------------------------------\n"
+            + "[INFO] Building jar: /tmp/core/target/core-1.0.jar\n"
+            + "[INFO] ------------------------------------------------------------------------\n"
+            + "[INFO] Reactor Summary for Parent 1.0:\n"
+            + "[INFO] \n"
+            + "[INFO] Parent ............................................. SUCCESS [  0.500 s]\n"
+            + "[INFO] Core ............................................... FAILURE [01:02 min]\n"
+            + "[INFO] ------------------------------------------------------------------------\n"
+            + "[INFO] BUILD FAILURE\n"
+            + "[INFO] ------------------------------------------------------------------------\n";
+
+    @Test
+    void testConsumeLines() {
+        ReleaseManagerListener listener = mock(ReleaseManagerListener.class);
+        AtomicLong clock = new AtomicLong();
+        ReactorProgress progress = new ReactorProgress(listener, () -> clock.getAndAdd(100));
+
+        for (String line : OUTPUT.split("\n")) {
+            progress.consumeLine(line);
+        }
+        progress.finish(false);
+
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).projectStart("org.example:parent", 1, 2);
+        inOrder.verify(listener).projectStart("org.example:core", 2, 2);
+        inOrder.verify(listener).projectEnd("org.example:parent", true, 500);
+        inOrder.verify(listener).projectEnd("org.example:core", false, 62000);
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    void testConsumeParallelBuild() {
+        ReleaseManagerListener listener = mock(ReleaseManagerListener.class);
+        AtomicLong clock = new AtomicLong();
+        ReactorProgress progress = new ReactorProgress(listener, () -> clock.getAndAdd(100));
+
+        progress.consumeLine("[INFO] ------------------< org.example:core >-------------------");
+        progress.consumeLine("[INFO] Building Core 1.0                                            [1/3]");
+        progress.consumeLine("[INFO] -------------------< org.example:api >--------------------");
+        progress.consumeLine("[INFO] Building Api 1.0                                             [2/3]");
+        progress.consumeLine("[INFO] Compiling 12 source files to /tmp/core/target/classes");
+        progress.consumeLine("[INFO] -------------------< org.example:web >--------------------");
+        progress.consumeLine("[INFO] Building Web 1.0                                             [3/3]");
+        progress.consumeLine("[INFO] Reactor Summary for Core 1.0:");
+        progress.consumeLine("[INFO] Core ............................................... SUCCESS [  1.250 s]");
+        progress.consumeLine("[INFO] Api ................................................ FAILURE [  0,750 s]");
+        progress.consumeLine("[INFO] Web ................................................ SKIPPED");
+        progress.consumeLine("[INFO] BUILD FAILURE");
+
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).projectStart("org.example:core", 1, 3);
+        inOrder.verify(listener).projectStart("org.example:api", 2, 3);
+        inOrder.verify(listener).projectStart("org.example:web", 3, 3);
+        inOrder.verify(listener).projectEnd("org.example:core", true, 1250);
+        inOrder.verify(listener).projectEnd("org.example:api", false, 750);
+        // started, but then skipped as the build failed
+        inOrder.verify(listener).projectEnd("org.example:web", false, 100);
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    void testParseDuration() {
+        assertEquals(1234, ReactorProgress.parseDuration("1.234 s"));
+        assertEquals(1234, ReactorProgress.parseDuration("1,234 s"));
+        assertEquals(62000, ReactorProgress.parseDuration("01:02 min"));
+        assertEquals(3720000, ReactorProgress.parseDuration("01:02 h"));
+        assertEquals(-1, ReactorProgress.parseDuration("2 d 01:02 h"));
+    }
+
+    @Test
+    void testConsumeColoredSingleProject() {
+        ReleaseManagerListener listener = mock(ReleaseManagerListener.class);
+        ReactorProgress progress = new ReactorProgress(listener, () -> 0L);
+
+        progress.consumeLine("[\u001B[1;34mINFO\u001B[m] "
+                + "\u001B[1m--------------< \u001B[0;36morg.example:app\u001B[0;1m >--------------\u001B[m");
+        progress.consumeLine("[\u001B[1;34mINFO\u001B[m] \u001B[1mBuilding App 1.0\u001B[m");
+        progress.consumeLine("[\u001B[1;34mINFO\u001B[m] \u001B[1;32mBUILD SUCCESS\u001B[m");
+
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).projectStart("org.example:app", 0, 0);
+        inOrder.verify(listener).projectEnd("org.example:app", true, 0);
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    void testTee() throws Exception {
+        ReleaseManagerListener listener = mock(ReleaseManagerListener.class);
+        ReactorProgress progress = new ReactorProgress(listener, () -> 0L);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream tee = progress.tee(out)) {
+            byte[] bytes = OUTPUT.replace("BUILD FAILURE", "BUILD SUCCESS").getBytes(StandardCharsets.UTF_8);
+            // write in chunks splitting the lines
+            for (int i = 0; i < bytes.length; i += 7) {
+                tee.write(bytes, i, Math.min(7, bytes.length - i));
+            }
+        }
+
+        assertEquals(OUTPUT.replace("BUILD FAILURE", "BUILD SUCCESS"), out.toString("UTF-8"));
+
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).projectStart("org.example:parent", 1, 2);
+        inOrder.verify(listener).projectStart("org.example:core", 2, 2);
+        inOrder.verify(listener).projectEnd("org.example:parent", true, 500);
+        inOrder.verify(listener).projectEnd("org.example:core", false, 62000);
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    void testWithoutListener() {
+        OutputStream out = new ByteArrayOutputStream();
+        ReactorProgress progress = new ReactorProgress(null);
+
+        assertEquals(out, progress.tee(out));
+        progress.consumeLine("[INFO] BUILD SUCCESS");
+        progress.finish(true);
+    }
+}
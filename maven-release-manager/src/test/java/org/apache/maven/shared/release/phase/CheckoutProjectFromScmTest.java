@@ -22,33 +22,54 @@ import javax.inject.Inject;
 import javax.inject.Named;
 
 import java.io.File;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.scm.CommandParameter;
+import org.apache.maven.scm.CommandParameters;
+import org.apache.maven.scm.ScmFile;
 import org.apache.maven.scm.ScmFileSet;
+import org.apache.maven.scm.ScmFileStatus;
 import org.apache.maven.scm.ScmTag;
 import org.apache.maven.scm.command.checkout.CheckOutScmResult;
+import org.apache.maven.scm.command.info.InfoItem;
+import org.apache.maven.scm.command.info.InfoScmResult;
+import org.apache.maven.scm.command.status.StatusScmResult;
 import org.apache.maven.scm.manager.NoSuchScmProviderException;
 import org.apache.maven.scm.provider.ScmProvider;
 import org.apache.maven.scm.provider.svn.repository.SvnScmProviderRepository;
 import org.apache.maven.scm.repository.ScmRepository;
 import org.apache.maven.scm.repository.ScmRepositoryException;
 import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.apache.maven.shared.release.ReleaseResult;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
 import org.apache.maven.shared.release.config.ReleaseUtils;
 import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
+import org.apache.maven.shared.release.util.ReleaseUtil;
 import org.codehaus.plexus.testing.PlexusTest;
+import org.codehaus.plexus.util.FileUtils;
 import org.junit.jupiter.api.Test;
 
+import static org.apache.maven.shared.release.phase.GitTestUtils.git;
+import static org.apache.maven.shared.release.phase.GitTestUtils.isGitAvailable;
 import static org.codehaus.plexus.testing.PlexusExtension.getTestFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -103,9 +124,255 @@ class CheckoutProjectFromScmTest extends AbstractReleaseTestCase {
                         argThat(new IsScmFileSetEquals(new ScmFileSet(checkoutDirectory))),
                         argThat(new IsScmTagEquals(new ScmTag("release-label"))),
                         argThat(new HasCommandParameter(CommandParameter.SHALLOW, true)));
+        verify(scmProviderMock).info(any(), any(ScmFileSet.class), any(CommandParameters.class));
         verifyNoMoreInteractions(scmProviderMock);
     }
 
+    @Test
+    void testExecuteReuseCheckout() throws Exception {
+        // prepare
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        File checkoutDirectory = getTestFile("target/checkout-test/reuse");
+        checkoutDirectory.mkdirs();
+        builder.setCheckoutDirectory(checkoutDirectory.getAbsolutePath());
+        builder.setScmReleaseLabel("release-label");
+        builder.setReuseCheckout(true);
+        builder.setScmCheckoutRevision("1234");
+        builder.setScmRelativePathProjectDirectory("");
+        String sourceUrl = "file://localhost/tmp/scm-repo/trunk";
+        String scmUrl = "scm:svn:" + sourceUrl;
+        builder.setScmSourceUrl(scmUrl);
+
+        ScmProvider scmProviderMock = mock(ScmProvider.class);
+        SvnScmProviderRepository scmProviderRepository = new SvnScmProviderRepository(sourceUrl);
+        ScmRepository repository = new ScmRepository("svn", scmProviderRepository);
+        InfoItem infoItem = new InfoItem();
+        infoItem.setRevision("1234");
+        when(scmProviderMock.info(eq(scmProviderRepository), any(ScmFileSet.class), any(CommandParameters.class)))
+                .thenReturn(new InfoScmResult("", Collections.singletonList(infoItem)));
+        when(scmProviderMock.status(eq(repository), any(ScmFileSet.class)))
+                .thenReturn(new StatusScmResult("", Collections.emptyList()));
+
+        scmManager.setScmProvider(scmProviderMock);
+        scmManager.addScmRepositoryForUrl(scmUrl, repository);
+
+        String dir = "scm-commit/single-pom";
+        List<MavenProject> reactorProjects = createReactorProjects(dir, dir, null);
+        builder.setWorkingDirectory(getWorkingDirectory(dir).toString());
+        FileUtils.copyFileToDirectory(ReleaseUtil.getRootProject(reactorProjects).getFile(), checkoutDirectory);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        verify(scmProviderMock, never())
+                .checkOut(any(ScmRepository.class), any(ScmFileSet.class), any(ScmTag.class), any());
+    }
+
+    @Test
+    void testExecuteReuseCheckoutOfOtherProject() throws Exception {
+        // prepare
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        File checkoutDirectory = getTestFile("target/checkout-test/reuse-other-project");
+        checkoutDirectory.mkdirs();
+        builder.setCheckoutDirectory(checkoutDirectory.getAbsolutePath());
+        builder.setScmReleaseLabel("release-label");
+        builder.setReuseCheckout(true);
+        builder.setScmCheckoutRevision("1234");
+        builder.setScmRelativePathProjectDirectory("");
+        String sourceUrl = "file://localhost/tmp/scm-repo/trunk";
+        String scmUrl = "scm:svn:" + sourceUrl;
+        builder.setScmSourceUrl(scmUrl);
+
+        ScmProvider scmProviderMock = mock(ScmProvider.class);
+        SvnScmProviderRepository scmProviderRepository = new SvnScmProviderRepository(sourceUrl);
+        ScmRepository repository = new ScmRepository("svn", scmProviderRepository);
+        when(scmProviderMock.checkOut(
+                        eq(repository),
+                        argThat(new IsScmFileSetEquals(new ScmFileSet(checkoutDirectory))),
+                        argThat(new IsScmTagEquals(new ScmTag("release-label"))),
+                        any(CommandParameters.class)))
+                .thenReturn(new CheckOutScmResult("", null));
+
+        scmManager.setScmProvider(scmProviderMock);
+        scmManager.addScmRepositoryForUrl(scmUrl, repository);
+
+        String dir = "scm-commit/single-pom";
+        List<MavenProject> reactorProjects = createReactorProjects(dir, dir, null);
+        builder.setWorkingDirectory(getWorkingDirectory(dir).toString());
+        // another project of the same SCM repository, e.g. after the checkout directory was reused by hand
+        FileUtils.copyFile(
+                getTestFile("src/test/resources/pomfinder/pom1.xml"), new File(checkoutDirectory, "pom.xml"));
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        verify(scmProviderMock)
+                .checkOut(
+                        eq(repository),
+                        argThat(new IsScmFileSetEquals(new ScmFileSet(checkoutDirectory))),
+                        argThat(new IsScmTagEquals(new ScmTag("release-label"))),
+                        any(CommandParameters.class));
+        verify(scmProviderMock, never()).status(any(ScmRepository.class), any(ScmFileSet.class));
+    }
+
+    @Test
+    void testExecuteReuseCheckoutWithUnversionedFiles() throws Exception {
+        // prepare
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        File checkoutDirectory = getTestFile("target/checkout-test/reuse-unversioned");
+        checkoutDirectory.mkdirs();
+        builder.setCheckoutDirectory(checkoutDirectory.getAbsolutePath());
+        builder.setScmReleaseLabel("release-label");
+        builder.setReuseCheckout(true);
+        builder.setScmCheckoutRevision("1234");
+        builder.setScmRelativePathProjectDirectory("");
+        String sourceUrl = "file://localhost/tmp/scm-repo/trunk";
+        String scmUrl = "scm:svn:" + sourceUrl;
+        builder.setScmSourceUrl(scmUrl);
+
+        ScmProvider scmProviderMock = mock(ScmProvider.class);
+        SvnScmProviderRepository scmProviderRepository = new SvnScmProviderRepository(sourceUrl);
+        ScmRepository repository = new ScmRepository("svn", scmProviderRepository);
+        InfoItem infoItem = new InfoItem();
+        infoItem.setRevision("1234");
+        when(scmProviderMock.info(eq(scmProviderRepository), any(ScmFileSet.class), any(CommandParameters.class)))
+                .thenReturn(new InfoScmResult("", Collections.singletonList(infoItem)));
+        when(scmProviderMock.status(eq(repository), any(ScmFileSet.class)))
+                .thenReturn(new StatusScmResult(
+                        "", Collections.singletonList(new ScmFile("target/build.log", ScmFileStatus.UNKNOWN))));
+        when(scmProviderMock.checkOut(
+                        eq(repository),
+                        argThat(new IsScmFileSetEquals(new ScmFileSet(checkoutDirectory))),
+                        argThat(new IsScmTagEquals(new ScmTag("release-label"))),
+                        any(CommandParameters.class)))
+                .thenReturn(new CheckOutScmResult("", null));
+
+        scmManager.setScmProvider(scmProviderMock);
+        scmManager.addScmRepositoryForUrl(scmUrl, repository);
+
+        String dir = "scm-commit/single-pom";
+        List<MavenProject> reactorProjects = createReactorProjects(dir, dir, null);
+        builder.setWorkingDirectory(getWorkingDirectory(dir).toString());
+        FileUtils.copyFileToDirectory(ReleaseUtil.getRootProject(reactorProjects).getFile(), checkoutDirectory);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        verify(scmProviderMock)
+                .checkOut(
+                        eq(repository),
+                        argThat(new IsScmFileSetEquals(new ScmFileSet(checkoutDirectory))),
+                        argThat(new IsScmTagEquals(new ScmTag("release-label"))),
+                        any(CommandParameters.class));
+    }
+
+    @Test
+    void testExecuteReuseCheckoutAtOtherRevision() throws Exception {
+        // prepare
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        File checkoutDirectory = getTestFile("target/checkout-test/reuse-other-revision");
+        checkoutDirectory.mkdirs();
+        builder.setCheckoutDirectory(checkoutDirectory.getAbsolutePath());
+        builder.setScmReleaseLabel("release-label");
+        builder.setReuseCheckout(true);
+        builder.setScmCheckoutRevision("1234");
+        builder.setScmRelativePathProjectDirectory("");
+        String sourceUrl = "file://localhost/tmp/scm-repo/trunk";
+        String scmUrl = "scm:svn:" + sourceUrl;
+        builder.setScmSourceUrl(scmUrl);
+
+        ScmProvider scmProviderMock = mock(ScmProvider.class);
+        SvnScmProviderRepository scmProviderRepository = new SvnScmProviderRepository(sourceUrl);
+        ScmRepository repository = new ScmRepository("svn", scmProviderRepository);
+        InfoItem infoItem = new InfoItem();
+        infoItem.setRevision("1235");
+        when(scmProviderMock.info(eq(scmProviderRepository), any(ScmFileSet.class), any(CommandParameters.class)))
+                .thenReturn(new InfoScmResult("", Collections.singletonList(infoItem)));
+        when(scmProviderMock.checkOut(
+                        eq(repository),
+                        argThat(new IsScmFileSetEquals(new ScmFileSet(checkoutDirectory))),
+                        argThat(new IsScmTagEquals(new ScmTag("release-label"))),
+                        any(CommandParameters.class)))
+                .thenReturn(new CheckOutScmResult("", null));
+
+        scmManager.setScmProvider(scmProviderMock);
+        scmManager.addScmRepositoryForUrl(scmUrl, repository);
+
+        String dir = "scm-commit/single-pom";
+        List<MavenProject> reactorProjects = createReactorProjects(dir, dir, null);
+        builder.setWorkingDirectory(getWorkingDirectory(dir).toString());
+
+        // execute
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(builder);
+        phase.execute(releaseDescriptor, new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        verify(scmProviderMock)
+                .checkOut(
+                        eq(repository),
+                        argThat(new IsScmFileSetEquals(new ScmFileSet(checkoutDirectory))),
+                        argThat(new IsScmTagEquals(new ScmTag("release-label"))),
+                        any(CommandParameters.class));
+        verify(scmProviderMock, never()).status(any(ScmRepository.class), any(ScmFileSet.class));
+        assertEquals("1235", releaseDescriptor.getScmCheckoutRevision());
+    }
+
+    @Test
+    void testExecuteLocalGitClone() throws Exception {
+        assumeTrue(isGitAvailable(), "git executable required");
+
+        // prepare
+        FileUtils.deleteDirectory(getWorkingDirectory("local-clone").toFile());
+        List<MavenProject> reactorProjects =
+                createReactorProjects("scm-commit/single-pom", "local-clone/single-pom", null);
+        File workingDirectory = getWorkingDirectory("local-clone/single-pom").toFile();
+        git(workingDirectory, "init", "-q");
+        git(workingDirectory, "add", "-A");
+        git(
+                workingDirectory,
+                "-c",
+                "user.name=Release",
+                "-c",
+                "user.email=release@example.com",
+                "commit",
+                "-q",
+                "-m",
+                "release");
+        git(workingDirectory, "tag", "release-label");
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setCheckoutDirectory("target/checkout");
+        builder.setScmReleaseLabel("release-label");
+        builder.setScmSourceUrl("scm:git:https://git.example.com/project.git");
+        builder.setLocalCheckout(true);
+        builder.setWorkingDirectory(workingDirectory.getPath());
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        File checkoutDirectory = new File(workingDirectory, "target/checkout");
+        assertTrue(new File(checkoutDirectory, "pom.xml").exists());
+        assertEquals("", ReleaseUtils.buildReleaseDescriptor(builder).getScmRelativePathProjectDirectory());
+
+        // a retry reuses the clone, but without the output of the previous build or local modifications
+        File buildOutput = new File(checkoutDirectory, "target/build-output");
+        assertTrue(buildOutput.getParentFile().mkdirs());
+        assertTrue(buildOutput.createNewFile());
+        File pomFile = new File(checkoutDirectory, "pom.xml");
+        FileUtils.fileWrite(pomFile, "modified");
+
+        ReleaseResult result = phase.execute(
+                ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        assertThat(result.getOutput(), containsString("Reusing the existing checkout"));
+        assertFalse(buildOutput.exists());
+        assertNotEquals("modified", FileUtils.fileRead(pomFile));
+    }
+
     @Test
     void testExecuteMultiModuleWithDeepSubprojects() throws Exception {
         // prepare
@@ -146,6 +413,7 @@ class CheckoutProjectFromScmTest extends AbstractReleaseTestCase {
                         argThat(new IsScmFileSetEquals(new ScmFileSet(checkoutDirectory))),
                         argThat(new IsScmTagEquals(new ScmTag("release-label"))),
                         argThat(new HasCommandParameter(CommandParameter.SHALLOW, true)));
+        verify(scmProviderMock).info(any(), any(ScmFileSet.class), any(CommandParameters.class));
         verifyNoMoreInteractions(scmProviderMock);
     }
 
@@ -194,6 +462,7 @@ class CheckoutProjectFromScmTest extends AbstractReleaseTestCase {
                         argThat(new IsScmFileSetEquals(new ScmFileSet(checkoutDirectory))),
                         argThat(new IsScmTagEquals(new ScmTag("release-label"))),
                         argThat(new HasCommandParameter(CommandParameter.SHALLOW, true)));
+        verify(scmProviderMock).info(any(), any(ScmFileSet.class), any(CommandParameters.class));
         verifyNoMoreInteractions(scmProviderMock);
     }
 
@@ -35,6 +35,7 @@ import org.apache.maven.scm.ScmFileStatus;
 import org.apache.maven.scm.command.add.AddScmResult;
 import org.apache.maven.scm.provider.ScmProvider;
 import org.apache.maven.scm.repository.ScmRepository;
+import org.apache.maven.shared.release.ReleaseResult;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
 import org.apache.maven.shared.release.config.ReleaseUtils;
 import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
@@ -43,6 +44,7 @@ import org.codehaus.plexus.testing.PlexusTest;
 import org.junit.jupiter.api.Test;
 
 import static org.codehaus.plexus.testing.PlexusExtension.getTestFile;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
@@ -141,6 +143,30 @@ class GenerateReleasePomsPhaseTest extends AbstractRewritingReleasePhaseTestCase
         comparePomFiles(reactorProjects);
     }
 
+    @Test
+    void testMultiModuleWithDirectories() throws Exception {
+        List<MavenProject> reactorProjects = createReactorProjects("multimodule-with-directories");
+        ReleaseDescriptorBuilder builder =
+                createDescriptorFromProjects(reactorProjects, "multimodule-with-directories");
+        for (MavenProject project : reactorProjects) {
+            mapNextVersion(builder, project.getGroupId() + ':' + project.getArtifactId());
+        }
+
+        ReleaseResult result = phase.execute(
+                ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // the modules share the super POM, but keep their own default and custom directories
+        comparePomFiles(reactorProjects);
+
+        // the output of the modules is in reactor order
+        int previous = -1;
+        for (MavenProject project : reactorProjects) {
+            int index = result.getOutput().indexOf("Generating release POM for '" + project.getName() + "'...");
+            assertTrue(index > previous, project.getName());
+            previous = index;
+        }
+    }
+
     /*
      * @see
      * org.apache.maven.shared.release.phase.AbstractRewritingReleasePhaseTestCase#createDescriptorFromProjects(java.
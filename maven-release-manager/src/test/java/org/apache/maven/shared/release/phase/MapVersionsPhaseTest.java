@@ -30,11 +30,15 @@ import java.util.Map;
 import org.apache.maven.model.Model;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
 import org.apache.maven.shared.release.config.ReleaseUtils;
 import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
 import org.apache.maven.shared.release.policy.PolicyException;
+import org.apache.maven.shared.release.policy.version.StatefulVersionPolicy;
 import org.apache.maven.shared.release.policy.version.VersionPolicy;
+import org.apache.maven.shared.release.policy.version.VersionPolicyRequest;
+import org.apache.maven.shared.release.policy.version.VersionPolicyResult;
 import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 import org.apache.maven.shared.release.versions.VersionParseException;
 import org.codehaus.plexus.components.interactivity.Prompter;
@@ -52,9 +56,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -2480,6 +2487,149 @@ class MapVersionsPhaseTest {
                 "Check development versions");
     }
 
+    @Test
+    void testSuggestedVersionIsReusedForSameBaseVersion() throws Exception {
+        // prepare
+        VersionPolicy policy = mock(VersionPolicy.class);
+        when(policy.getReleaseVersion(any(VersionPolicyRequest.class)))
+                .thenReturn(new VersionPolicyResult().setVersion("1.0"));
+        MapReleaseVersionsPhase phase = new MapReleaseVersionsPhase(
+                scmRepositoryConfigurator, mockPrompter, Collections.singletonMap("default", policy));
+
+        List<MavenProject> reactorProjects = Arrays.asList(
+                createProject("artifactId", "1.0-SNAPSHOT"),
+                createProject("module1", "1.0-SNAPSHOT"),
+                createProject("module2", "1.0-SNAPSHOT"));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setInteractive(false);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        assertEquals("1.0", ReleaseUtils.buildReleaseDescriptor(builder).getProjectReleaseVersion("groupId:module2"));
+        verify(policy).getReleaseVersion(any(VersionPolicyRequest.class));
+        verifyNoMoreInteractions(policy);
+    }
+
+    @Test
+    void testSuggestedVersionOfStatefulPolicyIsNotReused() throws Exception {
+        // prepare
+        VersionPolicy policy = mock(StatefulVersionPolicy.class);
+        when(policy.getReleaseVersion(any(VersionPolicyRequest.class)))
+                .thenReturn(new VersionPolicyResult().setVersion("1.0"));
+        MapReleaseVersionsPhase phase = new MapReleaseVersionsPhase(
+                scmRepositoryConfigurator, mockPrompter, Collections.singletonMap("default", policy));
+
+        List<MavenProject> reactorProjects = Arrays.asList(
+                createProject("artifactId", "1.0-SNAPSHOT"),
+                createProject("module1", "1.0-SNAPSHOT"),
+                createProject("module2", "1.0-SNAPSHOT"));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setInteractive(false);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        verify(policy, times(3)).getReleaseVersion(any(VersionPolicyRequest.class));
+    }
+
+    @Test
+    void testExecuteVersionStreamsMapRelease() throws Exception {
+        // prepare
+        MapReleaseVersionsPhase phase =
+                new MapReleaseVersionsPhase(scmRepositoryConfigurator, mockPrompter, versionPolicies);
+
+        List<MavenProject> reactorProjects = Arrays.asList(
+                createProjectWithPomFile("artifactId", "5.0-SNAPSHOT", "target/release-train/pom.xml"),
+                createProjectWithPomFile("module1", "1.0-SNAPSHOT", "target/release-train/stream-a/module1/pom.xml"),
+                createProjectWithPomFile("module2", "1.3-SNAPSHOT", "target/release-train/stream-a/module2/pom.xml"),
+                createProjectWithPomFile("stream-a", "1.2-SNAPSHOT", "target/release-train/stream-a/pom.xml"),
+                createProjectWithPomFile("module3", "2.0-SNAPSHOT", "target/release-train/stream-b/module3/pom.xml"));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setVersionStreamPattern("^[^:]+:([^/]+)");
+        builder.addReleaseVersion("groupId:module3", "2.1");
+        builder.setInteractive(false);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(builder);
+        assertEquals("5.0", releaseDescriptor.getProjectReleaseVersion("groupId:artifactId"));
+        assertEquals("1.0", releaseDescriptor.getProjectReleaseVersion("groupId:module1"));
+        assertEquals("1.0", releaseDescriptor.getProjectReleaseVersion("groupId:module2"));
+        // the module in the top-level directory belongs to the stream too
+        assertEquals("1.0", releaseDescriptor.getProjectReleaseVersion("groupId:stream-a"));
+        assertEquals("2.1", releaseDescriptor.getProjectReleaseVersion("groupId:module3"));
+    }
+
+    @Test
+    void testExecuteVersionStreamsMapDevelopment() throws Exception {
+        // prepare
+        MapDevelopmentVersionsPhase phase =
+                new MapDevelopmentVersionsPhase(scmRepositoryConfigurator, mockPrompter, versionPolicies);
+
+        List<MavenProject> reactorProjects = Arrays.asList(
+                createProjectWithPomFile("artifactId", "5.0-SNAPSHOT", "target/release-train/pom.xml"),
+                createProjectWithPomFile("module1", "1.0-SNAPSHOT", "target/release-train/stream-a/module1/pom.xml"),
+                createProjectWithPomFile("module2", "1.3-SNAPSHOT", "target/release-train/stream-a/module2/pom.xml"),
+                createProjectWithPomFile("module3", "1.2", "target/release-train/stream-a/module3/pom.xml"));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setVersionStreamPattern("^[^:]+:([^/]+)");
+        builder.setInteractive(true);
+
+        when(mockPrompter.prompt(
+                        startsWith("What is the new development version for \""
+                                + reactorProjects.get(0).getName() + "\"?"),
+                        eq("5.1-SNAPSHOT")))
+                .thenReturn("5.1-SNAPSHOT");
+        when(mockPrompter.prompt(
+                        startsWith("What is the new development version for \""
+                                + reactorProjects.get(1).getName() + "\"?"),
+                        eq("1.1-SNAPSHOT")))
+                .thenReturn("1.1-SNAPSHOT");
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(builder);
+        assertEquals("5.1-SNAPSHOT", releaseDescriptor.getProjectDevelopmentVersion("groupId:artifactId"));
+        assertEquals("1.1-SNAPSHOT", releaseDescriptor.getProjectDevelopmentVersion("groupId:module1"));
+        assertEquals("1.1-SNAPSHOT", releaseDescriptor.getProjectDevelopmentVersion("groupId:module2"));
+        assertEquals("1.2", releaseDescriptor.getProjectDevelopmentVersion("groupId:module3"));
+        verify(mockPrompter, times(2)).prompt(anyString(), anyString());
+        verifyNoMoreInteractions(mockPrompter);
+    }
+
+    @Test
+    void testInvalidVersionStreamPattern() {
+        // prepare
+        MapReleaseVersionsPhase phase =
+                new MapReleaseVersionsPhase(scmRepositoryConfigurator, mockPrompter, versionPolicies);
+
+        List<MavenProject> reactorProjects = Collections.singletonList(createProject("artifactId", "1.0-SNAPSHOT"));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setVersionStreamPattern("([^/]+");
+        builder.setInteractive(false);
+
+        // execute
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(builder);
+        ReleaseExecutionException e = assertThrows(
+                ReleaseExecutionException.class,
+                () -> phase.execute(releaseDescriptor, new DefaultReleaseEnvironment(), reactorProjects));
+
+        // verify
+        assertThat(e.getMessage(), CoreMatchers.startsWith("Invalid version stream pattern: "));
+    }
+
     private static MavenProject createProject(String artifactId, String version) {
         Model model = new Model();
         model.setGroupId("groupId");
@@ -28,24 +28,34 @@ import org.apache.maven.scm.CommandParameters;
 import org.apache.maven.scm.ScmFileSet;
 import org.apache.maven.scm.command.untag.UntagScmResult;
 import org.apache.maven.scm.provider.ScmProvider;
+import org.apache.maven.scm.provider.git.repository.GitScmProviderRepository;
 import org.apache.maven.scm.repository.ScmRepository;
+import org.apache.maven.settings.Settings;
 import org.apache.maven.shared.release.ReleaseResult;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
 import org.apache.maven.shared.release.config.ReleaseUtils;
 import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
+import org.apache.maven.shared.release.exec.CommandLineFactory;
 import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
+import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 import org.codehaus.plexus.testing.PlexusTest;
+import org.codehaus.plexus.util.cli.Commandline;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.nullable;
 
 /**
  * Test the remove SCM tag phase.
@@ -185,6 +195,47 @@ class RemoveScmTagPhaseTest extends AbstractReleaseTestCase {
         assertEquals(0, actual.getResultCode());
     }
 
+    @Test
+    void testExecuteDeferredPush() throws Exception {
+
+        // prepare
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmReleaseLabel("release-label");
+        builder.setScmSourceUrl("scm:git:file:///tmp/repo.git");
+        builder.setPushChanges(true);
+        builder.setDeferPush(true);
+        List<MavenProject> reactorProjects = createReactorProjects();
+        MavenProject rootProject = ReleaseUtil.getRootProject(reactorProjects);
+        builder.setWorkingDirectory(getPath(rootProject.getFile().getParentFile()));
+        builder.setPomFileName(rootProject.getFile().getName());
+
+        ScmRepository repository = new ScmRepository("git", new GitScmProviderRepository("file:///tmp/repo.git"));
+        ScmProvider scmProviderMock = Mockito.mock(ScmProvider.class);
+        ScmRepositoryConfigurator scmRepositoryConfigurator = Mockito.mock(ScmRepositoryConfigurator.class);
+        Mockito.when(scmRepositoryConfigurator.getConfiguredRepository(
+                        anyString(), any(ReleaseDescriptor.class), nullable(Settings.class)))
+                .thenReturn(repository);
+        Mockito.when(scmRepositoryConfigurator.getRepositoryProvider(repository)).thenReturn(scmProviderMock);
+
+        // echo the git arguments instead of running them, the tag is found on the remote
+        CommandLineFactory commandLineFactory = Mockito.mock(CommandLineFactory.class);
+        Mockito.when(commandLineFactory.createCommandLine("git")).thenReturn(echo(), echo(), echo());
+
+        // execute
+        ReleaseResult actual = new RemoveScmTagPhase(scmRepositoryConfigurator, commandLineFactory)
+                .execute(
+                        ReleaseUtils.buildReleaseDescriptor(builder),
+                        new DefaultReleaseEnvironment(),
+                        reactorProjects);
+
+        // verify
+        assertThat(
+                actual.getOutput(),
+                containsString("push --atomic file:///tmp/repo.git HEAD :refs/tags/release-label"));
+        Mockito.verify(commandLineFactory, Mockito.times(3)).createCommandLine("git");
+        Mockito.verifyNoInteractions(scmProviderMock);
+    }
+
     @Test
     void testSimulateOutput() throws Exception {
 
@@ -229,4 +280,10 @@ class RemoveScmTagPhaseTest extends AbstractReleaseTestCase {
     private List<MavenProject> createReactorProjects() throws Exception {
         return createReactorProjects("scm-commit/single-pom", "");
     }
+
+    private static Commandline echo() {
+        Commandline cl = new Commandline();
+        cl.setExecutable("echo");
+        return cl;
+    }
 }
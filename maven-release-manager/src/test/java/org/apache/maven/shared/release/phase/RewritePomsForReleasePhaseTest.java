@@ -33,6 +33,7 @@ import java.util.Objects;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.scm.provider.svn.repository.SvnScmProviderRepository;
 import org.apache.maven.scm.repository.ScmRepository;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
 import org.apache.maven.shared.release.config.ReleaseUtils;
 import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
@@ -99,6 +100,20 @@ class RewritePomsForReleasePhaseTest extends AbstractEditModeRewritingReleasePha
         assertEquals(expected, actual, "Check the transformed POM");
     }
 
+    @Test
+    void testRewriteRecordsChangedFiles() throws Exception {
+        List<MavenProject> reactorProjects = createReactorProjects("basic-pom");
+        ReleaseDescriptorBuilder builder = createDescriptorFromBasicPom(reactorProjects, "basic-pom");
+        builder.addReleaseVersion("groupId:artifactId", NEXT_VERSION);
+
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(builder);
+        phase.execute(releaseDescriptor, new DefaultReleaseEnvironment(), reactorProjects);
+
+        assertEquals(
+                Collections.singletonList(reactorProjects.get(0).getFile().getAbsolutePath()),
+                releaseDescriptor.getChangedFiles());
+    }
+
     @Test
     void testRewriteWithDashedComments() throws Exception {
         List<MavenProject> reactorProjects = createReactorProjects("basic-pom-with-dashes-in-comment");
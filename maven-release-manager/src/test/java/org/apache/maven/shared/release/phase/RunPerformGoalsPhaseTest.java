@@ -22,6 +22,7 @@ import javax.inject.Inject;
 import javax.inject.Named;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -35,7 +36,9 @@ import org.apache.maven.shared.release.env.ReleaseEnvironment;
 import org.apache.maven.shared.release.exec.MavenExecutor;
 import org.apache.maven.shared.release.exec.MavenExecutorException;
 import org.apache.maven.shared.release.stubs.MavenExecutorWrapper;
+import org.apache.maven.shared.release.util.VerificationManifest;
 import org.codehaus.plexus.testing.PlexusTest;
+import org.codehaus.plexus.util.FileUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -290,6 +293,79 @@ class RunPerformGoalsPhaseTest {
                         isA(ReleaseResult.class));
     }
 
+    @Test
+    void testReleasePerformVerifiedOnce() throws Exception {
+        // prepare
+        File checkoutDirectory = createVerifiedCheckout();
+        ReleaseDescriptorBuilder builder = createVerifyOnceReleaseDescriptorBuilder(checkoutDirectory);
+
+        MavenExecutor mock = mock(MavenExecutor.class);
+        mavenExecutorWrapper.setMavenExecutor(mock);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), releaseEnvironment, createReactorProjects());
+
+        // verify
+        verify(mock)
+                .executeGoals(
+                        eq(checkoutDirectory),
+                        eq("goal1 goal2"),
+                        isA(ReleaseEnvironment.class),
+                        eq(true),
+                        eq("-DperformRelease=true -f pom.xml -DskipTests"),
+                        isNull(),
+                        isA(ReleaseResult.class));
+    }
+
+    @Test
+    void testReleasePerformVerifiedOnceWithModifiedCheckout() throws Exception {
+        // prepare
+        File checkoutDirectory = createVerifiedCheckout();
+        ReleaseDescriptorBuilder builder = createVerifyOnceReleaseDescriptorBuilder(checkoutDirectory);
+        FileUtils.fileWrite(new File(checkoutDirectory, "src/main/java/Foo.java"), "class Foo { int bar; }");
+
+        MavenExecutor mock = mock(MavenExecutor.class);
+        mavenExecutorWrapper.setMavenExecutor(mock);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), releaseEnvironment, createReactorProjects());
+
+        // verify
+        verify(mock)
+                .executeGoals(
+                        eq(checkoutDirectory),
+                        eq("goal1 goal2"),
+                        isA(ReleaseEnvironment.class),
+                        eq(true),
+                        eq("-DperformRelease=true -f pom.xml"),
+                        isNull(),
+                        isA(ReleaseResult.class));
+    }
+
+    private static File createVerifiedCheckout() throws Exception {
+        File checkoutDirectory = getTestFile("target/test/verified-checkout");
+        FileUtils.deleteDirectory(checkoutDirectory);
+        new File(checkoutDirectory, "src/main/java").mkdirs();
+        FileUtils.fileWrite(new File(checkoutDirectory, "pom.xml"), "<project/>");
+        FileUtils.fileWrite(new File(checkoutDirectory, "src/main/java/Foo.java"), "class Foo {}");
+
+        VerificationManifest.create(checkoutDirectory, Arrays.asList("pom.xml", "src"), "release-1.0", null)
+                .write(VerificationManifest.getManifestFile(getTestFile("target/test/verification"), "release-1.0"));
+
+        return checkoutDirectory;
+    }
+
+    private static ReleaseDescriptorBuilder createVerifyOnceReleaseDescriptorBuilder(File checkoutDirectory) {
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm-url");
+        builder.setScmReleaseLabel("release-1.0");
+        builder.setPerformGoals("goal1 goal2");
+        builder.setCheckoutDirectory(checkoutDirectory.getAbsolutePath());
+        builder.setVerifyOnce(true);
+        builder.setVerificationDirectory(getTestFile("target/test/verification").getAbsolutePath());
+        return builder;
+    }
+
     private static List<MavenProject> createReactorProjects() {
         MavenProject project = new MavenProject();
         project.setFile(getTestFile("target/dummy-project/pom.xml"));
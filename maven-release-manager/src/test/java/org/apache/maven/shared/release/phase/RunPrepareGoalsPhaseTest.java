@@ -22,6 +22,7 @@ import javax.inject.Inject;
 import javax.inject.Named;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.maven.project.MavenProject;
@@ -102,6 +103,138 @@ class RunPrepareGoalsPhaseTest {
         verifyNoMoreInteractions(mock);
     }
 
+    @Test
+    void testExecuteWithThreads() throws ReleaseExecutionException, MavenExecutorException {
+        // prepare
+        File testFile = getTestFile("target/working-directory");
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setPreparationGoals("clean integration-test");
+        builder.setPreparationThreads("1C");
+        builder.setWorkingDirectory(testFile.getAbsolutePath());
+
+        MavenExecutor mock = mock(MavenExecutor.class);
+
+        mavenExecutorWrapper.setMavenExecutor(mock);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), releaseEnvironment, (List<MavenProject>) null);
+
+        // verify
+        verify(mock)
+                .executeGoals(
+                        eq(testFile),
+                        eq("clean integration-test"),
+                        isA(ReleaseEnvironment.class),
+                        eq(true),
+                        eq("-T 1C"),
+                        isNull(),
+                        isA(ReleaseResult.class));
+        verifyNoMoreInteractions(mock);
+    }
+
+    @Test
+    void testExecuteWithThreadsInAdditionalArguments() throws ReleaseExecutionException, MavenExecutorException {
+        // prepare
+        File testFile = getTestFile("target/working-directory");
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setPreparationGoals("clean integration-test");
+        builder.setPreparationThreads("1C");
+        builder.setAdditionalArguments("-T 1");
+        builder.setWorkingDirectory(testFile.getAbsolutePath());
+
+        MavenExecutor mock = mock(MavenExecutor.class);
+
+        mavenExecutorWrapper.setMavenExecutor(mock);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), releaseEnvironment, (List<MavenProject>) null);
+
+        // verify: Maven uses the first -T option, so the one of the additional arguments wins
+        verify(mock)
+                .executeGoals(
+                        eq(testFile),
+                        eq("clean integration-test"),
+                        isA(ReleaseEnvironment.class),
+                        eq(true),
+                        eq("-T 1 -T 1C"),
+                        isNull(),
+                        isA(ReleaseResult.class));
+        verifyNoMoreInteractions(mock);
+    }
+
+    @Test
+    void testExecuteIncremental() throws ReleaseExecutionException, MavenExecutorException {
+        // prepare
+        File testFile = getTestFile("target/working-directory");
+        List<MavenProject> reactorProjects = Arrays.asList(
+                createProject(testFile, "root", ""),
+                createProject(testFile, "core", "core/"),
+                createProject(testFile, "cli", "cli/"));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setPreparationGoals("clean integration-test");
+        builder.setWorkingDirectory(testFile.getAbsolutePath());
+        builder.setIncrementalPreparationGoals(true);
+        builder.setAdditionalArguments("-Dfoo=bar");
+        builder.setChangedFiles(Arrays.asList(new File(testFile, "core/pom.xml").getAbsolutePath()));
+
+        MavenExecutor mock = mock(MavenExecutor.class);
+
+        mavenExecutorWrapper.setMavenExecutor(mock);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), releaseEnvironment, reactorProjects);
+
+        // verify
+        verify(mock)
+                .executeGoals(
+                        eq(testFile),
+                        eq("clean integration-test"),
+                        isA(ReleaseEnvironment.class),
+                        eq(true),
+                        eq("-Dfoo=bar -pl groupId:core -amd"),
+                        isNull(),
+                        isA(ReleaseResult.class));
+        verifyNoMoreInteractions(mock);
+    }
+
+    @Test
+    void testExecuteIncrementalAllProjectsRewritten() throws ReleaseExecutionException, MavenExecutorException {
+        // prepare
+        File testFile = getTestFile("target/working-directory");
+        List<MavenProject> reactorProjects =
+                Arrays.asList(createProject(testFile, "root", ""), createProject(testFile, "core", "core/"));
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setPreparationGoals("clean integration-test");
+        builder.setWorkingDirectory(testFile.getAbsolutePath());
+        builder.setIncrementalPreparationGoals(true);
+        builder.setChangedFiles(Arrays.asList(
+                new File(testFile, "pom.xml").getAbsolutePath(),
+                new File(testFile, "core/pom.xml").getAbsolutePath()));
+
+        MavenExecutor mock = mock(MavenExecutor.class);
+
+        mavenExecutorWrapper.setMavenExecutor(mock);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), releaseEnvironment, reactorProjects);
+
+        // verify
+        verify(mock)
+                .executeGoals(
+                        eq(testFile),
+                        eq("clean integration-test"),
+                        isA(ReleaseEnvironment.class),
+                        eq(true),
+                        isNull(),
+                        isNull(),
+                        isA(ReleaseResult.class));
+        verifyNoMoreInteractions(mock);
+    }
+
     @Test
     void testSimulate() throws ReleaseExecutionException, MavenExecutorException {
         // prepare
@@ -241,4 +374,12 @@ class RunPrepareGoalsPhaseTest {
         // no invocations of mock
         verifyNoMoreInteractions(mock);
     }
+
+    private static MavenProject createProject(File workingDirectory, String artifactId, String path) {
+        MavenProject project = new MavenProject();
+        project.setGroupId("groupId");
+        project.setArtifactId(artifactId);
+        project.setFile(new File(workingDirectory, path + "pom.xml"));
+        return project;
+    }
 }
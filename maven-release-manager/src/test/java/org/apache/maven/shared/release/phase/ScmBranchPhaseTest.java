@@ -37,28 +37,34 @@ import org.apache.maven.scm.command.branch.BranchScmResult;
 import org.apache.maven.scm.manager.NoSuchScmProviderException;
 import org.apache.maven.scm.provider.ScmProvider;
 import org.apache.maven.scm.provider.ScmProviderStub;
+import org.apache.maven.scm.provider.git.repository.GitScmProviderRepository;
 import org.apache.maven.scm.provider.svn.repository.SvnScmProviderRepository;
 import org.apache.maven.scm.repository.ScmRepository;
 import org.apache.maven.scm.repository.ScmRepositoryException;
 import org.apache.maven.shared.release.ReleaseExecutionException;
 import org.apache.maven.shared.release.ReleaseFailureException;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
 import org.apache.maven.shared.release.config.ReleaseUtils;
 import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
 import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
+import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 import org.apache.maven.shared.release.util.ReleaseUtil;
+import org.apache.maven.settings.Settings;
 import org.codehaus.plexus.testing.PlexusTest;
 import org.junit.jupiter.api.Test;
 
 import static org.codehaus.plexus.testing.PlexusExtension.getTestFile;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -120,6 +126,43 @@ class ScmBranchPhaseTest extends AbstractReleaseTestCase {
         verifyNoMoreInteractions(scmProviderMock);
     }
 
+    @Test
+    void testDeferredPushOnlyBranchesLocally() throws Exception {
+        // prepare
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        List<MavenProject> reactorProjects = createReactorProjects();
+        builder.setScmSourceUrl("scm:git:file:///tmp/repo.git");
+        MavenProject rootProject = ReleaseUtil.getRootProject(reactorProjects);
+        builder.setWorkingDirectory(getPath(rootProject.getFile().getParentFile()));
+        builder.setPomFileName("pom.xml");
+        builder.setScmReleaseLabel("release-label");
+        builder.setPushChanges(true);
+        builder.setDeferPush(true);
+
+        ScmRepository repository = new ScmRepository("git", new GitScmProviderRepository("file:///tmp/repo.git"));
+        ScmProvider scmProviderMock = mock(ScmProvider.class);
+        when(scmProviderMock.branch(
+                        eq(repository), isA(ScmFileSet.class), eq("release-label"), isA(ScmBranchParameters.class)))
+                .thenReturn(new BranchScmResult("...", Collections.emptyList()));
+        ScmRepositoryConfigurator scmRepositoryConfigurator = mock(ScmRepositoryConfigurator.class);
+        when(scmRepositoryConfigurator.getConfiguredRepository(
+                        isA(String.class), isA(ReleaseDescriptor.class), nullable(Settings.class)))
+                .thenReturn(repository);
+        when(scmRepositoryConfigurator.getRepositoryProvider(repository)).thenReturn(scmProviderMock);
+
+        // execute
+        new ScmBranchPhase(scmRepositoryConfigurator)
+                .execute(
+                        ReleaseUtils.buildReleaseDescriptor(builder),
+                        new DefaultReleaseEnvironment(),
+                        reactorProjects);
+
+        // verify
+        verify(scmProviderMock)
+                .branch(eq(repository), isA(ScmFileSet.class), eq("release-label"), isA(ScmBranchParameters.class));
+        assertFalse(repository.getProviderRepository().isPushChanges());
+    }
+
     @Test
     void testCommitMultiModuleDeepFolders() throws Exception {
         // prepare
@@ -21,6 +21,7 @@ package org.apache.maven.shared.release.phase;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -50,13 +51,18 @@ import org.apache.maven.shared.release.stubs.ScmManagerStub;
 import org.codehaus.plexus.PlexusContainer;
 import org.codehaus.plexus.testing.PlexusTest;
 import org.codehaus.plexus.testing.PlexusTestConfiguration;
+import org.codehaus.plexus.util.FileUtils;
 import org.junit.jupiter.api.Test;
 
+import static org.apache.maven.shared.release.phase.GitTestUtils.git;
+import static org.apache.maven.shared.release.phase.GitTestUtils.isGitAvailable;
 import static org.codehaus.plexus.testing.PlexusExtension.getTestFile;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -366,6 +372,51 @@ class ScmCheckModificationsPhaseTest implements PlexusTestConfiguration {
                         .getResultCode());
     }
 
+    @Test
+    void testGitWorkingCopy() throws Exception {
+        assumeTrue(isGitAvailable(), "git executable required");
+
+        // prepare
+        File repository = getTestFile("target/test/git-status");
+        FileUtils.deleteDirectory(repository);
+        File workingDirectory = new File(repository, "project");
+        workingDirectory.mkdirs();
+        FileUtils.fileWrite(new File(workingDirectory, "pom.xml"), "<project/>");
+        FileUtils.fileWrite(new File(workingDirectory, "README.txt"), "readme");
+        git(repository, "init", "-q");
+        git(repository, "add", "-A");
+        git(repository, "-c", "user.name=Release", "-c", "user.email=release@example.com", "commit", "-q", "-m", "1");
+
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm:git:file://" + repository.getAbsolutePath());
+        builder.setWorkingDirectory(workingDirectory.getAbsolutePath());
+        builder.setCheckModificationExcludes(Collections.singletonList("README.txt"));
+
+        // the status of the SCM provider is not used for a Git working copy
+        setChangedFiles(builder, Collections.singletonList("pom.xml"));
+
+        FileUtils.fileWrite(new File(workingDirectory, "release.properties"), "completedPhase=scm-check-modifications");
+        FileUtils.fileWrite(new File(workingDirectory, "README.txt"), "modified readme");
+        // untracked files are not modifications of the working copy
+        FileUtils.fileWrite(new File(workingDirectory, "notes.txt"), "notes");
+
+        // execute
+        assertEquals(
+                ReleaseResult.SUCCESS,
+                phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), null)
+                        .getResultCode());
+
+        FileUtils.fileWrite(new File(workingDirectory, "pom.xml"), "<project></project>");
+        try {
+            phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), null);
+
+            fail("Status check should have failed");
+        } catch (ReleaseFailureException e) {
+            assertTrue(e.getMessage().contains("pom.xml"));
+            assertFalse(e.getMessage().contains("README.txt"));
+        }
+    }
+
     private void setChangedFiles(ReleaseDescriptorBuilder builder, List<String> changedFiles) throws Exception {
         ScmProviderStub providerStub =
                 (ScmProviderStub) scmManagerStub.getProviderByUrl("scm:svn:file://localhost/tmp/scm-repo");
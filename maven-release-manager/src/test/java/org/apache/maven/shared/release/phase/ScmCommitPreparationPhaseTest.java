@@ -37,21 +37,30 @@ import org.apache.maven.scm.command.checkin.CheckInScmResult;
 import org.apache.maven.scm.manager.NoSuchScmProviderException;
 import org.apache.maven.scm.provider.ScmProvider;
 import org.apache.maven.scm.provider.ScmProviderStub;
+import org.apache.maven.scm.provider.git.repository.GitScmProviderRepository;
+import org.apache.maven.scm.provider.svn.repository.SvnScmProviderRepository;
 import org.apache.maven.scm.repository.ScmRepository;
 import org.apache.maven.scm.repository.ScmRepositoryException;
+import org.apache.maven.settings.Settings;
 import org.apache.maven.shared.release.ReleaseExecutionException;
 import org.apache.maven.shared.release.ReleaseFailureException;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
 import org.apache.maven.shared.release.config.ReleaseUtils;
 import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
+import org.apache.maven.shared.release.exec.CommandLineFactory;
 import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
+import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 import org.apache.maven.shared.release.util.ReleaseUtil;
 import org.codehaus.plexus.testing.PlexusTest;
+import org.codehaus.plexus.util.cli.Commandline;
 import org.junit.jupiter.api.Test;
 
 import static org.codehaus.plexus.testing.PlexusExtension.getTestFile;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -60,7 +69,9 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -211,6 +222,167 @@ class ScmCommitPreparationPhaseTest extends AbstractReleaseTestCase {
         verifyNoMoreInteractions(scmProviderMock);
     }
 
+    @Test
+    void testCommitMultiModuleChangedFiles() throws Exception {
+        // prepare
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        String dir = "scm-commit/multiple-poms";
+        List<MavenProject> reactorProjects = createReactorProjects(dir, dir, null);
+        builder.setScmSourceUrl("scm-url");
+        MavenProject rootProject = ReleaseUtil.getRootProject(reactorProjects);
+        builder.setWorkingDirectory(rootProject.getFile().getParentFile().getAbsolutePath());
+        builder.setScmReleaseLabel("release-label");
+        // only the root POM has been written by the release
+        builder.setChangedFiles(
+                new ArrayList<>(Collections.singletonList(rootProject.getFile().getAbsolutePath())));
+
+        ScmFileSet fileSet = new ScmFileSet(rootProject.getFile().getParentFile(), rootProject.getFile());
+
+        ScmProvider scmProviderMock = mock(ScmProvider.class);
+        when(scmProviderMock.checkIn(
+                        isA(ScmRepository.class),
+                        argThat(new IsScmFileSetEquals(fileSet)),
+                        isNull(ScmVersion.class),
+                        eq(PREFIX + "release-label")))
+                .thenReturn(new CheckInScmResult(
+                        "...",
+                        Collections.singletonList(
+                                new ScmFile(rootProject.getFile().getPath(), ScmFileStatus.CHECKED_IN))));
+        scmManager.setScmProvider(scmProviderMock);
+
+        // execute
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(builder);
+        phaseScmCommitRelease.execute(releaseDescriptor, new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        verify(scmProviderMock)
+                .checkIn(
+                        isA(ScmRepository.class), argThat(new IsScmFileSetEquals(fileSet)),
+                        isNull(ScmVersion.class), eq(PREFIX + "release-label"));
+        verifyNoMoreInteractions(scmProviderMock);
+        assertTrue(releaseDescriptor.getChangedFiles().isEmpty());
+    }
+
+    @Test
+    void testCommitByProjectPushesOnce() throws Exception {
+        // prepare
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        String dir = "scm-commit/multiple-poms";
+        List<MavenProject> reactorProjects = createReactorProjects(dir, dir, null);
+        builder.setScmSourceUrl("scm-url");
+        MavenProject rootProject = ReleaseUtil.getRootProject(reactorProjects);
+        builder.setWorkingDirectory(rootProject.getFile().getParentFile().getAbsolutePath());
+        builder.setScmReleaseLabel("release-label");
+        builder.setCommitByProject(true);
+
+        GitScmProviderRepository gitRepository = new GitScmProviderRepository("file:///tmp/repo.git");
+        ScmRepository repository = new ScmRepository("git", gitRepository);
+        ScmProvider scmProviderMock = mock(ScmProvider.class);
+        when(scmProviderMock.checkIn(
+                        eq(repository), isA(ScmFileSet.class), isNull(ScmVersion.class), eq(PREFIX + "release-label")))
+                .thenReturn(new CheckInScmResult("...", Collections.emptyList()));
+
+        ScmRepositoryConfigurator scmRepositoryConfigurator = mock(ScmRepositoryConfigurator.class);
+        when(scmRepositoryConfigurator.getConfiguredRepository(
+                        isA(ReleaseDescriptor.class), nullable(Settings.class)))
+                .thenReturn(repository);
+        when(scmRepositoryConfigurator.getRepositoryProvider(repository)).thenReturn(scmProviderMock);
+
+        // echo the git arguments instead of pushing
+        Commandline cl = new Commandline();
+        cl.setExecutable("echo");
+        CommandLineFactory commandLineFactory = mock(CommandLineFactory.class);
+        when(commandLineFactory.createCommandLine("git")).thenReturn(cl);
+
+        // execute
+        ReleasePhase phase = new ScmCommitReleasePhase(scmRepositoryConfigurator, commandLineFactory);
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        verify(scmProviderMock, times(reactorProjects.size()))
+                .checkIn(eq(repository), isA(ScmFileSet.class), isNull(ScmVersion.class), eq(PREFIX + "release-label"));
+        verifyNoMoreInteractions(scmProviderMock);
+        assertFalse(gitRepository.isPushChanges());
+        verify(commandLineFactory).createCommandLine("git");
+        assertArrayEquals(new String[] {"push", "file:///tmp/repo.git", "HEAD"}, cl.getArguments());
+    }
+
+    @Test
+    void testDeferredPushRecordsPreReleaseRevision() throws Exception {
+        // prepare
+        ReleaseDescriptorBuilder builder = createDeferredPushReleaseDescriptorBuilder();
+        List<MavenProject> reactorProjects = createReactorProjects();
+        MavenProject rootProject = ReleaseUtil.getRootProject(reactorProjects);
+        builder.setWorkingDirectory(rootProject.getFile().getParentFile().getAbsolutePath());
+
+        // echo the git arguments instead of reading the revision
+        Commandline cl = new Commandline();
+        cl.setExecutable("echo");
+        CommandLineFactory commandLineFactory = mock(CommandLineFactory.class);
+        when(commandLineFactory.createCommandLine("git")).thenReturn(cl);
+
+        // execute
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(builder);
+        new ScmCommitReleasePhase(createGitRepositoryConfigurator(), commandLineFactory)
+                .execute(releaseDescriptor, new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        assertEquals("rev-parse HEAD", releaseDescriptor.getScmPreReleaseRevision());
+    }
+
+    @Test
+    void testDeferredPushRollbackResetsPoms() throws Exception {
+        // prepare
+        ReleaseDescriptorBuilder builder = createDeferredPushReleaseDescriptorBuilder();
+        builder.setScmPreReleaseRevision("abc123");
+        List<MavenProject> reactorProjects = createReactorProjects();
+        MavenProject rootProject = ReleaseUtil.getRootProject(reactorProjects);
+        builder.setWorkingDirectory(rootProject.getFile().getParentFile().getAbsolutePath());
+
+        Commandline cl = new Commandline();
+        cl.setExecutable("echo");
+        CommandLineFactory commandLineFactory = mock(CommandLineFactory.class);
+        when(commandLineFactory.createCommandLine("git")).thenReturn(cl);
+
+        // execute
+        ScmRepositoryConfigurator scmRepositoryConfigurator = createGitRepositoryConfigurator();
+        new ScmCommitRollbackPhase(scmRepositoryConfigurator, commandLineFactory)
+                .execute(
+                        ReleaseUtils.buildReleaseDescriptor(builder),
+                        new DefaultReleaseEnvironment(),
+                        reactorProjects);
+
+        // verify
+        assertArrayEquals(
+                new String[] {"checkout", "abc123", "--", rootProject.getFile().getAbsolutePath()}, cl.getArguments());
+        ScmRepository repository = scmRepositoryConfigurator.getConfiguredRepository(null, null);
+        assertFalse(repository.getProviderRepository().isPushChanges());
+    }
+
+    private static ReleaseDescriptorBuilder createDeferredPushReleaseDescriptorBuilder() {
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm:git:file:///tmp/repo.git");
+        builder.setScmReleaseLabel("release-label");
+        builder.setPushChanges(true);
+        builder.setDeferPush(true);
+        return builder;
+    }
+
+    private static ScmRepositoryConfigurator createGitRepositoryConfigurator() throws Exception {
+        ScmRepository repository = new ScmRepository("git", new GitScmProviderRepository("file:///tmp/repo.git"));
+        ScmProvider scmProviderMock = mock(ScmProvider.class);
+        when(scmProviderMock.checkIn(
+                        eq(repository), isA(ScmFileSet.class), isNull(ScmVersion.class), isA(String.class)))
+                .thenReturn(new CheckInScmResult("...", Collections.emptyList()));
+
+        ScmRepositoryConfigurator scmRepositoryConfigurator = mock(ScmRepositoryConfigurator.class);
+        when(scmRepositoryConfigurator.getConfiguredRepository(
+                        nullable(ReleaseDescriptor.class), nullable(Settings.class)))
+                .thenReturn(repository);
+        when(scmRepositoryConfigurator.getRepositoryProvider(repository)).thenReturn(scmProviderMock);
+        return scmRepositoryConfigurator;
+    }
+
     @Test
     void testCommitDevelopment() throws Exception {
         // prepare
@@ -517,6 +689,50 @@ class ScmCommitPreparationPhaseTest extends AbstractReleaseTestCase {
         verifyNoMoreInteractions(scmProviderMock);
     }
 
+    @Test
+    void testNoCommitBeforeTagWithModifications() throws Exception {
+        ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder();
+        List<MavenProject> reactorProjects = createReactorProjects();
+
+        builder.setScmSourceUrl("scm:svn:http://svn.example.com/repos/project/trunk");
+        builder.setRemoteTaggingWithModifications(true);
+
+        ScmProvider scmProviderMock = mock(ScmProvider.class);
+
+        scmManager.setScmProvider(scmProviderMock);
+        scmManager.addScmRepositoryForUrl(
+                "scm:svn:http://svn.example.com/repos/project/trunk",
+                new ScmRepository(
+                        "svn", new SvnScmProviderRepository("http://svn.example.com/repos/project/trunk")));
+
+        phaseScmCommitRelease.execute(
+                ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // the release POMs are committed by the tag
+        verifyNoMoreInteractions(scmProviderMock);
+    }
+
+    @Test
+    void testCommitBeforeTagWithModificationsOfNonSvnRepository() throws Exception {
+        ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder();
+        List<MavenProject> reactorProjects = createReactorProjects();
+
+        builder.setScmSourceUrl("scm:git:file:///tmp/repo.git");
+        builder.setRemoteTaggingWithModifications(true);
+
+        ScmRepositoryConfigurator scmRepositoryConfigurator = createGitRepositoryConfigurator();
+        new ScmCommitReleasePhase(scmRepositoryConfigurator, mock(CommandLineFactory.class))
+                .execute(
+                        ReleaseUtils.buildReleaseDescriptor(builder),
+                        new DefaultReleaseEnvironment(),
+                        reactorProjects);
+
+        // only Subversion tags with modifications, so the release POMs are committed
+        ScmRepository repository = scmRepositoryConfigurator.getConfiguredRepository(null, null);
+        verify(scmRepositoryConfigurator.getRepositoryProvider(repository))
+                .checkIn(eq(repository), isA(ScmFileSet.class), isNull(ScmVersion.class), isA(String.class));
+    }
+
     @Test
     void testCommitMultiModuleWithCheckModificationExcludes() throws Exception {
         // prepare
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.phase;
+
+import java.io.File;
+import java.util.Collections;
+
+import org.apache.maven.scm.provider.git.repository.GitScmProviderRepository;
+import org.apache.maven.scm.provider.svn.repository.SvnScmProviderRepository;
+import org.apache.maven.scm.repository.ScmRepository;
+import org.apache.maven.settings.Settings;
+import org.apache.maven.shared.release.ReleaseResult;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
+import org.apache.maven.shared.release.config.ReleaseUtils;
+import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
+import org.apache.maven.shared.release.exec.CommandLineFactory;
+import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
+import org.codehaus.plexus.util.cli.Commandline;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the SCM push phase.
+ */
+@ExtendWith(MockitoExtension.class)
+class ScmPushPhaseTest {
+    @Mock
+    private ScmRepositoryConfigurator scmRepositoryConfigurator;
+
+    @Mock
+    private CommandLineFactory commandLineFactory;
+
+    @Test
+    void testPushNotDeferred() throws Exception {
+        // prepare
+        ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder();
+        builder.setDeferPush(false);
+
+        // execute
+        ReleaseResult result = new ScmPushPhase(scmRepositoryConfigurator, commandLineFactory)
+                .execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), null);
+
+        // verify
+        assertEquals(ReleaseResult.SUCCESS, result.getResultCode());
+        verifyNoInteractions(scmRepositoryConfigurator, commandLineFactory);
+    }
+
+    @Test
+    void testPushNotDeferredWithoutPushChanges() throws Exception {
+        // prepare
+        ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder();
+        builder.setPushChanges(false);
+
+        // execute
+        new ScmPushPhase(scmRepositoryConfigurator, commandLineFactory)
+                .execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), null);
+
+        // verify
+        verifyNoInteractions(scmRepositoryConfigurator, commandLineFactory);
+    }
+
+    @Test
+    void testPushNotDeferredForSvn() throws Exception {
+        // prepare
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(createReleaseDescriptorBuilder());
+        when(scmRepositoryConfigurator.getConfiguredRepository(any(ReleaseDescriptor.class), nullable(Settings.class)))
+                .thenReturn(new ScmRepository("svn", new SvnScmProviderRepository("file:///tmp/repo/trunk")));
+
+        // execute
+        new ScmPushPhase(scmRepositoryConfigurator, commandLineFactory)
+                .execute(releaseDescriptor, new DefaultReleaseEnvironment(), null);
+
+        // verify
+        verifyNoInteractions(commandLineFactory);
+    }
+
+    @Test
+    void testDeferredPush() throws Exception {
+        // prepare
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(createReleaseDescriptorBuilder());
+        when(scmRepositoryConfigurator.getConfiguredRepository(any(ReleaseDescriptor.class), nullable(Settings.class)))
+                .thenReturn(new ScmRepository("git", new GitScmProviderRepository("file:///tmp/repo.git")));
+
+        // echo the git arguments instead of pushing
+        Commandline cl = new Commandline();
+        cl.setExecutable("echo");
+        when(commandLineFactory.createCommandLine("git")).thenReturn(cl);
+
+        // execute
+        ReleaseResult result = new ScmPushPhase(scmRepositoryConfigurator, commandLineFactory)
+                .execute(releaseDescriptor, new DefaultReleaseEnvironment(), null);
+
+        // verify
+        assertEquals(ReleaseResult.SUCCESS, result.getResultCode());
+        assertThat(
+                result.getOutput(), containsString("push --atomic file:///tmp/repo.git HEAD refs/tags/release-label"));
+        assertEquals(new File("target").getAbsoluteFile(), cl.getWorkingDirectory());
+    }
+
+    @Test
+    void testDeferredPushForBranch() throws Exception {
+        // prepare
+        ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder();
+        builder.setBranchCreation(true);
+        when(scmRepositoryConfigurator.getConfiguredRepository(any(ReleaseDescriptor.class), nullable(Settings.class)))
+                .thenReturn(new ScmRepository("git", new GitScmProviderRepository("file:///tmp/repo.git")));
+
+        Commandline cl = new Commandline();
+        cl.setExecutable("echo");
+        when(commandLineFactory.createCommandLine("git")).thenReturn(cl);
+
+        // execute
+        ReleaseResult result = new ScmPushPhase(scmRepositoryConfigurator, commandLineFactory)
+                .execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), null);
+
+        // verify
+        assertThat(
+                result.getOutput(),
+                containsString("push --atomic file:///tmp/repo.git HEAD refs/heads/release-label"));
+        assertThat(result.getOutput(), not(containsString("refs/tags/")));
+    }
+
+    private static ReleaseDescriptorBuilder createReleaseDescriptorBuilder() {
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm:git:file:///tmp/repo.git");
+        builder.setWorkingDirectory(new File("target").getAbsolutePath());
+        builder.setPomFileName("pom.xml");
+        builder.setScmReleaseLabel("release-label");
+        builder.setPushChanges(true);
+        builder.setDeferPush(true);
+        return builder;
+    }
+}
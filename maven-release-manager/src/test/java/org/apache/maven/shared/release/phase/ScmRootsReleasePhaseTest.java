@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.phase;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.model.Scm;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.release.ReleaseExecutionException;
+import org.apache.maven.shared.release.ReleaseResult;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
+import org.apache.maven.shared.release.config.ReleaseUtils;
+import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
+import org.apache.maven.shared.release.env.ReleaseEnvironment;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the execution of a phase for each SCM root.
+ */
+class ScmRootsReleasePhaseTest {
+    @Test
+    void testSingleScmRoot() throws Exception {
+        // prepare
+        List<MavenProject> reactorProjects = Arrays.asList(createProject("root", "pom.xml"));
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(createReleaseDescriptorBuilder());
+        ReleaseEnvironment releaseEnvironment = new DefaultReleaseEnvironment();
+        ReleaseResult phaseResult = new ReleaseResult();
+
+        ReleasePhase phase = mock(ReleasePhase.class);
+        when(phase.execute(releaseDescriptor, releaseEnvironment, reactorProjects)).thenReturn(phaseResult);
+
+        // execute
+        ReleaseResult result =
+                new ScmRootsReleasePhase(phase).execute(releaseDescriptor, releaseEnvironment, reactorProjects);
+
+        // verify
+        assertSame(phaseResult, result);
+    }
+
+    @Test
+    void testMultipleScmRoots() throws Exception {
+        // prepare
+        MavenProject root = createProject("root", "pom.xml");
+        MavenProject module = createProject("module", "module/pom.xml");
+        MavenProject other = createProject("other", "other/pom.xml");
+        ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder();
+        builder.setScmTagBase("file:///repo-a/tags");
+        builder.addOriginalScmInfo("groupId:other", createScm("scm:svn:file:///repo-b/trunk"));
+        builder.setChangedFiles(new ArrayList<>(Arrays.asList("pom.xml", "other/pom.xml")));
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(builder);
+
+        Map<String, ReleaseDescriptor> rootDescriptors = new ConcurrentHashMap<>();
+        Map<String, List<MavenProject>> rootProjects = new ConcurrentHashMap<>();
+        ReleasePhase phase = mock(ReleasePhase.class);
+        when(phase.execute(any(ReleaseDescriptor.class), any(ReleaseEnvironment.class), anyList()))
+                .thenAnswer(invocation -> {
+                    ReleaseDescriptor rootDescriptor = invocation.getArgument(0);
+                    rootDescriptors.put(rootDescriptor.getScmSourceUrl(), rootDescriptor);
+                    rootProjects.put(rootDescriptor.getScmSourceUrl(), invocation.getArgument(2));
+                    if (rootDescriptor.getScmSourceUrl().contains("repo-b")) {
+                        // as a commit does
+                        rootDescriptor.setChangedFiles(new ArrayList<>());
+                    }
+
+                    ReleaseResult result = new ReleaseResult();
+                    result.appendInfo("Tagged " + rootDescriptor.getScmSourceUrl());
+                    return result;
+                });
+
+        // execute
+        ReleaseResult result = new ScmRootsReleasePhase(phase)
+                .execute(releaseDescriptor, new DefaultReleaseEnvironment(), Arrays.asList(root, module, other));
+
+        // verify
+        assertEquals(ReleaseResult.SUCCESS, result.getResultCode());
+        assertThat(result.getOutput(), containsString("SCM root groupId:other (scm:svn:file:///repo-b/trunk):"));
+        assertThat(result.getOutput(), containsString("Tagged scm:svn:file:///repo-b/trunk"));
+
+        assertEquals(Arrays.asList(root, module), rootProjects.get("scm:svn:file:///repo-a/trunk"));
+        assertEquals(Collections.singletonList(other), rootProjects.get("scm:svn:file:///repo-b/trunk"));
+
+        ReleaseDescriptor reactorRootDescriptor = rootDescriptors.get("scm:svn:file:///repo-a/trunk");
+        assertEquals(releaseDescriptor.getWorkingDirectory(), reactorRootDescriptor.getWorkingDirectory());
+        assertEquals("file:///repo-a/tags", reactorRootDescriptor.getScmTagBase());
+
+        ReleaseDescriptor otherRootDescriptor = rootDescriptors.get("scm:svn:file:///repo-b/trunk");
+        assertEquals(other.getFile().getAbsoluteFile().getParent(), otherRootDescriptor.getWorkingDirectory());
+        assertEquals("pom.xml", otherRootDescriptor.getPomFileName());
+        assertNull(otherRootDescriptor.getScmTagBase());
+
+        // the configuration of the release itself is untouched, except for the files left to commit
+        assertEquals("scm:svn:file:///repo-a/trunk", releaseDescriptor.getScmSourceUrl());
+        assertTrue(releaseDescriptor.getChangedFiles().isEmpty());
+    }
+
+    @Test
+    void testReleasedPomRevisionPerScmRoot() throws Exception {
+        // prepare
+        MavenProject root = createProject("root", "pom.xml");
+        MavenProject other = createProject("other", "other/pom.xml");
+        List<MavenProject> reactorProjects = Arrays.asList(root, other);
+        ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder();
+        builder.addOriginalScmInfo("groupId:other", createScm("scm:svn:file:///repo-b/trunk"));
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(builder);
+
+        ReleasePhase commitPhase = mock(ReleasePhase.class);
+        when(commitPhase.execute(any(ReleaseDescriptor.class), any(ReleaseEnvironment.class), anyList()))
+                .thenAnswer(invocation -> {
+                    ReleaseDescriptor rootDescriptor = invocation.getArgument(0);
+                    rootDescriptor.setScmReleasedPomRevision(
+                            rootDescriptor.getScmSourceUrl().contains("repo-b") ? "12" : "34");
+                    return new ReleaseResult();
+                });
+
+        Map<String, String> taggedRevisions = new ConcurrentHashMap<>();
+        ReleasePhase tagPhase = mock(ReleasePhase.class);
+        when(tagPhase.execute(any(ReleaseDescriptor.class), any(ReleaseEnvironment.class), anyList()))
+                .thenAnswer(invocation -> {
+                    ReleaseDescriptor rootDescriptor = invocation.getArgument(0);
+                    taggedRevisions.put(rootDescriptor.getScmSourceUrl(), rootDescriptor.getScmReleasedPomRevision());
+                    return new ReleaseResult();
+                });
+
+        // execute
+        new ScmRootsReleasePhase(commitPhase)
+                .execute(releaseDescriptor, new DefaultReleaseEnvironment(), reactorProjects);
+        new ScmRootsReleasePhase(tagPhase).execute(releaseDescriptor, new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        assertEquals("34", releaseDescriptor.getScmReleasedPomRevision());
+        assertEquals("34", taggedRevisions.get("scm:svn:file:///repo-a/trunk"));
+        assertEquals("12", taggedRevisions.get("scm:svn:file:///repo-b/trunk"));
+    }
+
+    @Test
+    void testMultipleScmRootsFailure() throws Exception {
+        // prepare
+        MavenProject root = createProject("root", "pom.xml");
+        MavenProject other = createProject("other", "other/pom.xml");
+        ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder();
+        builder.addOriginalScmInfo("groupId:other", createScm("scm:svn:file:///repo-b/trunk"));
+        ReleaseDescriptor releaseDescriptor = ReleaseUtils.buildReleaseDescriptor(builder);
+
+        ReleasePhase phase = mock(ReleasePhase.class);
+        when(phase.execute(any(ReleaseDescriptor.class), any(ReleaseEnvironment.class), anyList()))
+                .thenAnswer(invocation -> {
+                    ReleaseDescriptor rootDescriptor = invocation.getArgument(0);
+                    if (rootDescriptor.getScmSourceUrl().contains("repo-b")) {
+                        throw new ReleaseExecutionException("Unable to tag repo-b");
+                    }
+                    return new ReleaseResult();
+                });
+
+        // execute
+        ReleaseExecutionException e = assertThrows(
+                ReleaseExecutionException.class,
+                () -> new ScmRootsReleasePhase(phase)
+                        .execute(releaseDescriptor, new DefaultReleaseEnvironment(), Arrays.asList(root, other)));
+
+        // verify
+        assertEquals("Unable to tag repo-b", e.getMessage());
+        // the other root has been worked on regardless
+        verify(phase, times(2)).execute(any(ReleaseDescriptor.class), any(ReleaseEnvironment.class), anyList());
+    }
+
+    private static ReleaseDescriptorBuilder createReleaseDescriptorBuilder() {
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm:svn:file:///repo-a/trunk");
+        builder.setWorkingDirectory(new File("target/scm-roots").getAbsolutePath());
+        builder.setMultipleScmRoots(true);
+        return builder;
+    }
+
+    private static MavenProject createProject(String artifactId, String path) {
+        MavenProject project = new MavenProject();
+        project.setGroupId("groupId");
+        project.setArtifactId(artifactId);
+        project.setFile(new File("target/scm-roots", path));
+        project.setExecutionRoot("root".equals(artifactId));
+        return project;
+    }
+
+    private static Scm createScm(String developerConnection) {
+        Scm scm = new Scm();
+        scm.setDeveloperConnection(developerConnection);
+        return scm;
+    }
+}
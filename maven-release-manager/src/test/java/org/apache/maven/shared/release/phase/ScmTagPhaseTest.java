@@ -28,41 +28,66 @@ import java.util.Collections;
 import java.util.List;
 
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.scm.ChangeSet;
+import org.apache.maven.scm.CommandParameters;
 import org.apache.maven.scm.ScmException;
 import org.apache.maven.scm.ScmFile;
 import org.apache.maven.scm.ScmFileSet;
 import org.apache.maven.scm.ScmFileStatus;
 import org.apache.maven.scm.ScmTagParameters;
+import org.apache.maven.scm.command.changelog.ChangeLogScmRequest;
+import org.apache.maven.scm.command.changelog.ChangeLogScmResult;
+import org.apache.maven.scm.command.changelog.ChangeLogSet;
+import org.apache.maven.scm.command.info.InfoItem;
+import org.apache.maven.scm.command.info.InfoScmResult;
 import org.apache.maven.scm.command.tag.TagScmResult;
 import org.apache.maven.scm.manager.NoSuchScmProviderException;
 import org.apache.maven.scm.provider.ScmProvider;
 import org.apache.maven.scm.provider.ScmProviderStub;
+import org.apache.maven.scm.provider.git.repository.GitScmProviderRepository;
 import org.apache.maven.scm.provider.svn.repository.SvnScmProviderRepository;
 import org.apache.maven.scm.repository.ScmRepository;
 import org.apache.maven.scm.repository.ScmRepositoryException;
 import org.apache.maven.shared.release.ReleaseExecutionException;
 import org.apache.maven.shared.release.ReleaseFailureException;
+import org.apache.maven.shared.release.ReleaseResult;
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
 import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
 import org.apache.maven.shared.release.config.ReleaseDescriptorStore;
 import org.apache.maven.shared.release.config.ReleaseDescriptorStoreStub;
 import org.apache.maven.shared.release.config.ReleaseUtils;
 import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
+import org.apache.maven.shared.release.exec.CommandLineFactory;
+import org.apache.maven.shared.release.exec.DefaultCommandLineFactory;
 import org.apache.maven.shared.release.scm.ReleaseScmCommandException;
 import org.apache.maven.shared.release.scm.ReleaseScmRepositoryException;
+import org.apache.maven.shared.release.scm.ScmRepositoryConfigurator;
 import org.apache.maven.shared.release.util.ReleaseUtil;
+import org.apache.maven.settings.Settings;
 import org.codehaus.plexus.PlexusContainer;
 import org.codehaus.plexus.testing.PlexusTest;
+import org.codehaus.plexus.util.FileUtils;
+import org.codehaus.plexus.util.cli.Commandline;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import static org.apache.maven.shared.release.phase.GitTestUtils.git;
+import static org.apache.maven.shared.release.phase.GitTestUtils.isGitAvailable;
 import static org.codehaus.plexus.testing.PlexusExtension.getTestFile;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -78,6 +103,9 @@ class ScmTagPhaseTest extends AbstractReleaseTestCase {
     @Named("scm-tag")
     private ReleasePhase phase;
 
+    @Inject
+    private ScmRepositoryConfigurator scmRepositoryConfigurator;
+
     @Override
     public void customizeContainer(PlexusContainer container) {
         super.customizeContainer(container);
@@ -178,6 +206,56 @@ class ScmTagPhaseTest extends AbstractReleaseTestCase {
         verifyNoMoreInteractions(scmProviderMock);
     }
 
+    @Test
+    void testTagWithModifications() throws Exception {
+        // prepare
+        List<MavenProject> reactorProjects = createReactorProjects("scm-commit/multimodule-with-deep-subprojects", "");
+        String sourceUrl = "http://svn.example.com/repos/project/trunk";
+        String scmUrl = "scm:svn:" + sourceUrl;
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl(scmUrl);
+        MavenProject rootProject = ReleaseUtil.getRootProject(reactorProjects);
+        builder.setWorkingDirectory(getPath(rootProject.getFile().getParentFile()));
+        builder.setPomFileName(rootProject.getFile().getName());
+        builder.setScmReleaseLabel("release-label");
+        builder.setScmCommentPrefix("[my prefix] ");
+        builder.setScmTagBase("http://svn.example.com/repos/project/releases/");
+        builder.setRemoteTaggingWithModifications(true);
+
+        SvnScmProviderRepository scmProviderRepository = new SvnScmProviderRepository(sourceUrl);
+        scmProviderRepository.setTagBase("http://svn.example.com/repos/project/releases/");
+        ScmRepository repository = new ScmRepository("svn", scmProviderRepository);
+        ScmProvider scmProviderMock = mock(ScmProvider.class);
+        InfoItem infoItem = new InfoItem();
+        infoItem.setRevision("42");
+        when(scmProviderMock.info(eq(scmProviderRepository), any(ScmFileSet.class), any(CommandParameters.class)))
+                .thenReturn(new InfoScmResult("", Collections.singletonList(infoItem)));
+
+        scmManager.setScmProvider(scmProviderMock);
+        scmManager.addScmRepositoryForUrl(scmUrl, repository);
+
+        // echo the svnmucc arguments instead of committing
+        Commandline cl = new Commandline();
+        cl.setExecutable("echo");
+        CommandLineFactory commandLineFactory = mock(CommandLineFactory.class);
+        when(commandLineFactory.createCommandLine("svnmucc")).thenReturn(cl);
+
+        // execute
+        ReleasePhase tagPhase = new ScmTagPhase(scmRepositoryConfigurator, commandLineFactory);
+        ReleaseResult result = tagPhase.execute(
+                ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        String tagUrl = "http://svn.example.com/repos/project/releases/release-label";
+        assertThat(result.getOutput(), containsString("cp 42 " + sourceUrl + " " + tagUrl + " put "));
+        assertThat(
+                result.getOutput(),
+                containsString(" put " + rootProject.getFile().getAbsolutePath() + " " + tagUrl + "/pom.xml"));
+        assertThat(result.getOutput(), containsString(" " + tagUrl + "/subproject1/pom.xml"));
+        verify(scmProviderMock).info(eq(scmProviderRepository), any(ScmFileSet.class), any(CommandParameters.class));
+        verifyNoMoreInteractions(scmProviderMock);
+    }
+
     @Test
     void testCommitForFlatMultiModule() throws Exception {
         // prepare
@@ -360,6 +438,137 @@ class ScmTagPhaseTest extends AbstractReleaseTestCase {
         }
     }
 
+    @Test
+    void testTagOnceReleasedRevisionIsVisible() throws Exception {
+        // prepare
+        List<MavenProject> reactorProjects = createReactorProjects();
+        ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder();
+        builder.setScmReleasedPomRevision("42");
+        builder.setPollBeforeTagging(true);
+        builder.setWaitBeforeTagging(60);
+
+        ChangeLogSet notVisible = new ChangeLogSet(Collections.emptyList(), null, null);
+        ChangeLogSet visible = new ChangeLogSet(Collections.singletonList(new ChangeSet()), null, null);
+
+        ScmProvider scmProviderMock = mock(ScmProvider.class);
+        when(scmProviderMock.changeLog(isA(ChangeLogScmRequest.class)))
+                .thenReturn(new ChangeLogScmResult("...", notVisible))
+                .thenReturn(new ChangeLogScmResult("...", visible));
+        when(scmProviderMock.tag(
+                        isA(ScmRepository.class),
+                        isA(ScmFileSet.class),
+                        eq("release-label"),
+                        isA(ScmTagParameters.class)))
+                .thenReturn(new TagScmResult("...", Collections.emptyList()));
+        scmManager.setScmProvider(scmProviderMock);
+
+        // execute
+        ReleaseResult result = phase.execute(
+                ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        ArgumentCaptor<ChangeLogScmRequest> request = ArgumentCaptor.forClass(ChangeLogScmRequest.class);
+        verify(scmProviderMock, times(2)).changeLog(request.capture());
+        verify(scmProviderMock)
+                .tag(isA(ScmRepository.class), isA(ScmFileSet.class), eq("release-label"), isA(ScmTagParameters.class));
+        verifyNoMoreInteractions(scmProviderMock);
+        assertEquals("42", request.getValue().getRevision().getName());
+        assertEquals(Integer.valueOf(1), request.getValue().getLimit());
+        assertEquals(Long.valueOf(2), result.getMetrics().get("scm-tag.wait.polls"));
+        assertTrue(result.getMetrics().get("scm-tag.wait.millis") < 60000L);
+        assertThat(result.getOutput(), containsString("Revision 42 is visible after"));
+    }
+
+    @Test
+    void testTagOnceReleasedGitRevisionIsPushed() throws Exception {
+        assumeTrue(isGitAvailable(), "git executable required");
+
+        // prepare
+        File remote = getTestFile("target/test/poll-remote.git");
+        File workingDirectory = getTestFile("target/test/poll-working-copy");
+        FileUtils.deleteDirectory(remote);
+        FileUtils.deleteDirectory(workingDirectory);
+        assertTrue(remote.mkdirs());
+        assertTrue(workingDirectory.mkdirs());
+        String remoteUrl = remote.toPath().toUri().toString();
+        git(remote, "init", "-q", "--bare");
+        git(workingDirectory, "init", "-q");
+        FileUtils.fileWrite(new File(workingDirectory, "pom.xml"), "<project/>");
+        git(workingDirectory, "add", "-A");
+        git(
+                workingDirectory,
+                "-c",
+                "user.name=Release",
+                "-c",
+                "user.email=release@example.com",
+                "commit",
+                "-q",
+                "-m",
+                "1");
+        String revision = git(workingDirectory, "rev-parse", "HEAD");
+        // another commit is pushed after the release, so the released revision is no longer the tip of the branch
+        FileUtils.fileWrite(new File(workingDirectory, "README"), "next");
+        git(workingDirectory, "add", "-A");
+        git(
+                workingDirectory,
+                "-c",
+                "user.name=Release",
+                "-c",
+                "user.email=release@example.com",
+                "commit",
+                "-q",
+                "-m",
+                "2");
+
+        List<MavenProject> reactorProjects = createReactorProjects();
+        ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm:git:" + remoteUrl);
+        builder.setWorkingDirectory(workingDirectory.getAbsolutePath());
+        builder.setScmReleasedPomRevision(revision);
+        builder.setPollBeforeTagging(true);
+        builder.setWaitBeforeTagging(60);
+
+        ScmRepository repository = new ScmRepository("git", new GitScmProviderRepository(remoteUrl));
+        ScmProvider scmProviderMock = mock(ScmProvider.class);
+        when(scmProviderMock.tag(
+                        eq(repository), isA(ScmFileSet.class), eq("release-label"), isA(ScmTagParameters.class)))
+                .thenReturn(new TagScmResult("...", Collections.emptyList()));
+        ScmRepositoryConfigurator scmRepositoryConfigurator = mock(ScmRepositoryConfigurator.class);
+        when(scmRepositoryConfigurator.getConfiguredRepository(
+                        isA(String.class), isA(ReleaseDescriptor.class), nullable(Settings.class)))
+                .thenReturn(repository);
+        when(scmRepositoryConfigurator.getRepositoryProvider(repository)).thenReturn(scmProviderMock);
+
+        // the revision is pushed while polling
+        Thread push = new Thread(() -> {
+            try {
+                Thread.sleep(200L);
+                git(workingDirectory, "push", "-q", remoteUrl, "HEAD");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        push.start();
+
+        // execute
+        ReleaseResult result;
+        try {
+            result = new ScmTagPhase(scmRepositoryConfigurator, new DefaultCommandLineFactory())
+                    .execute(
+                            ReleaseUtils.buildReleaseDescriptor(builder),
+                            new DefaultReleaseEnvironment(),
+                            reactorProjects);
+        } finally {
+            push.join();
+        }
+
+        // verify
+        verify(scmProviderMock)
+                .tag(eq(repository), isA(ScmFileSet.class), eq("release-label"), isA(ScmTagParameters.class));
+        assertThat(result.getOutput(), containsString("Revision " + revision + " is visible after"));
+        assertTrue(result.getMetrics().get("scm-tag.wait.polls") > 1L);
+    }
+
     @Test
     void testScmExceptionThrown() throws Exception {
         // prepare
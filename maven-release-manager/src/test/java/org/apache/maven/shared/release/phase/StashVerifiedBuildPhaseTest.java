@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.phase;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import java.io.File;
+import java.util.List;
+
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
+import org.apache.maven.shared.release.config.ReleaseUtils;
+import org.apache.maven.shared.release.env.DefaultReleaseEnvironment;
+import org.apache.maven.shared.release.util.ReleaseUtil;
+import org.apache.maven.shared.release.util.VerificationManifest;
+import org.codehaus.plexus.testing.PlexusTest;
+import org.codehaus.plexus.util.FileUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.codehaus.plexus.testing.PlexusExtension.getTestFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test the stash verified build phase.
+ */
+@PlexusTest
+class StashVerifiedBuildPhaseTest extends AbstractReleaseTestCase {
+    @Inject
+    @Named("stash-verified-build")
+    private ReleasePhase phase;
+
+    @Test
+    void testExecute() throws Exception {
+        // prepare
+        List<MavenProject> reactorProjects = createReactorProjects();
+        File baseDirectory = ReleaseUtil.getRootProject(reactorProjects).getBasedir();
+        File source = new File(baseDirectory, "subproject1/src/main/java/Foo.java");
+        source.getParentFile().mkdirs();
+        FileUtils.fileWrite(source, "class Foo {}");
+        File config = new File(baseDirectory, ".mvn/maven.config");
+        config.getParentFile().mkdirs();
+        FileUtils.fileWrite(config, "-Dfoo=bar");
+        // neither the build output, nor the SCM metadata or the files of the release are part of the tag
+        File output = new File(baseDirectory, "subproject1/target/classes/Foo.class");
+        output.getParentFile().mkdirs();
+        FileUtils.fileWrite(output, "");
+        File scmMetadata = new File(baseDirectory, ".git/HEAD");
+        scmMetadata.getParentFile().mkdirs();
+        FileUtils.fileWrite(scmMetadata, "");
+        FileUtils.fileWrite(new File(baseDirectory, "release.properties"), "");
+        FileUtils.fileWrite(new File(baseDirectory, "pom.xml.releaseBackup"), "");
+
+        File verificationDirectory = getTestFile("target/test/verification");
+        FileUtils.deleteDirectory(verificationDirectory);
+
+        ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder(verificationDirectory);
+        builder.setVerifyOnce(true);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        File manifestFile = VerificationManifest.getManifestFile(verificationDirectory, "release-1.0");
+        VerificationManifest manifest = VerificationManifest.read(manifestFile);
+        assertEquals("release-1.0", manifest.getTag());
+        assertEquals("abc123", manifest.getRevision());
+        assertThat(manifest.getDigests(), hasKey("pom.xml"));
+        assertThat(manifest.getDigests(), hasKey("subproject1/pom.xml"));
+        assertThat(manifest.getDigests(), hasKey("subproject1/src/main/java/Foo.java"));
+        assertThat(manifest.getDigests(), hasKey("subproject2/pom.xml"));
+        assertThat(manifest.getDigests(), hasKey(".mvn/maven.config"));
+        assertThat(manifest.getDigests(), not(hasKey("subproject1/target/classes/Foo.class")));
+        assertThat(manifest.getDigests(), not(hasKey(".git/HEAD")));
+        assertThat(manifest.getDigests(), not(hasKey("release.properties")));
+        assertThat(manifest.getDigests(), not(hasKey("pom.xml.releaseBackup")));
+        assertTrue(manifest.matches(baseDirectory));
+
+        FileUtils.fileWrite(output, "changed");
+        assertTrue(manifest.matches(baseDirectory));
+
+        FileUtils.fileWrite(config, "-Dfoo=baz");
+        assertFalse(manifest.matches(baseDirectory));
+
+        FileUtils.fileWrite(config, "-Dfoo=bar");
+        FileUtils.fileWrite(source, "class Foo { int bar; }");
+        assertFalse(manifest.matches(baseDirectory));
+    }
+
+    @Test
+    void testExecuteWithoutVerifyOnce() throws Exception {
+        // prepare
+        List<MavenProject> reactorProjects = createReactorProjects();
+
+        File verificationDirectory = getTestFile("target/test/verification");
+        FileUtils.deleteDirectory(verificationDirectory);
+
+        ReleaseDescriptorBuilder builder = createReleaseDescriptorBuilder(verificationDirectory);
+
+        // execute
+        phase.execute(ReleaseUtils.buildReleaseDescriptor(builder), new DefaultReleaseEnvironment(), reactorProjects);
+
+        // verify
+        assertFalse(verificationDirectory.exists());
+    }
+
+    private List<MavenProject> createReactorProjects() throws Exception {
+        String dir = "remove-release-poms/pom-with-modules";
+        return createReactorProjects(dir, "stash-verified-build", null);
+    }
+
+    private static ReleaseDescriptorBuilder createReleaseDescriptorBuilder(File verificationDirectory) {
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setPreparationGoals("clean verify");
+        builder.setScmReleaseLabel("release-1.0");
+        builder.setScmReleasedPomRevision("abc123");
+        builder.setVerificationDirectory(verificationDirectory.getAbsolutePath());
+        return builder;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.scm;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.maven.model.Scm;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
+import org.apache.maven.shared.release.config.ReleaseUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ScmRootTest {
+    @Test
+    void testSingleScmRoot() {
+        MavenProject root = createProject("root", "pom.xml");
+        MavenProject module = createProject("module", "module/pom.xml");
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm:svn:file:///svn/trunk");
+        // a module declaring the location it has in the same repository
+        builder.addOriginalScmInfo("groupId:module", createScm("scm:svn:file:///svn/trunk/module"));
+
+        List<ScmRoot> roots =
+                ScmRoot.groupByScmRoot(ReleaseUtils.buildReleaseDescriptor(builder), Arrays.asList(root, module));
+
+        assertEquals(1, roots.size());
+        assertSame(root, roots.get(0).getProject());
+        assertEquals("scm:svn:file:///svn/trunk", roots.get(0).getScmSourceUrl());
+        assertEquals(Arrays.asList(root, module), roots.get(0).getProjects());
+    }
+
+    @Test
+    void testMultipleScmRoots() {
+        MavenProject root = createProject("root", "pom.xml");
+        MavenProject moduleA = createProject("module-a", "a/pom.xml");
+        MavenProject moduleB = createProject("module-b", "b/pom.xml");
+        MavenProject moduleB1 = createProject("module-b1", "b/b1/pom.xml");
+        MavenProject moduleC = createProject("module-c", "c/pom.xml");
+        ReleaseDescriptorBuilder builder = new ReleaseDescriptorBuilder();
+        builder.setScmSourceUrl("scm:git:file:///repo-a.git");
+        builder.addOriginalScmInfo("groupId:module-b", createScm("scm:git:file:///repo-b.git"));
+        builder.addOriginalScmInfo("groupId:module-c", createScm("scm:git:file:///repo-a.git"));
+
+        List<ScmRoot> roots = ScmRoot.groupByScmRoot(
+                ReleaseUtils.buildReleaseDescriptor(builder), Arrays.asList(root, moduleB1, moduleA, moduleB, moduleC));
+
+        assertEquals(2, roots.size());
+        assertSame(root, roots.get(0).getProject());
+        assertEquals(Arrays.asList(root, moduleA, moduleC), roots.get(0).getProjects());
+        assertSame(moduleB, roots.get(1).getProject());
+        assertEquals("scm:git:file:///repo-b.git", roots.get(1).getScmSourceUrl());
+        assertEquals(Arrays.asList(moduleB1, moduleB), roots.get(1).getProjects());
+    }
+
+    private static MavenProject createProject(String artifactId, String path) {
+        MavenProject project = new MavenProject();
+        project.setGroupId("groupId");
+        project.setArtifactId(artifactId);
+        project.setFile(new File("target/scm-roots", path));
+        project.setExecutionRoot("root".equals(artifactId));
+        return project;
+    }
+
+    private static Scm createScm(String developerConnection) {
+        Scm scm = new Scm();
+        scm.setDeveloperConnection(developerConnection);
+        return scm;
+    }
+}
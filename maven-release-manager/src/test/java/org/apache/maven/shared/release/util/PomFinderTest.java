@@ -20,6 +20,13 @@ package org.apache.maven.shared.release.util;
 
 import java.io.File;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+
+import org.codehaus.plexus.util.FileUtils;
 
 import org.junit.jupiter.api.Test;
 import org.slf4j.LoggerFactory;
@@ -27,6 +34,7 @@ import org.slf4j.LoggerFactory;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -58,4 +66,50 @@ class PomFinderTest {
 
         assertEquals(pomFile.getAbsolutePath(), foundPom2.getAbsolutePath());
     }
+
+    @Test
+    void testPomFinderSkipsExcludedDirectories() throws Exception {
+        Path checkout = createCheckout("excluded");
+        Path pom = copyPom(checkout.resolve("target/module"));
+
+        PomFinder pf = new PomFinder(LoggerFactory.getLogger("test"));
+        assertTrue(pf.parsePom(pom.toFile()));
+
+        assertNull(pf.findMatchingPom(checkout.toFile()));
+
+        pf.setExcludedDirectories(Collections.emptySet());
+        assertEquals(pom.toFile(), pf.findMatchingPom(checkout.toFile()));
+    }
+
+    @Test
+    void testPomFinderMaxDepth() throws Exception {
+        Path checkout = createCheckout("depth");
+        Path pom = copyPom(checkout.resolve("a/b/c"));
+
+        PomFinder pf = new PomFinder(LoggerFactory.getLogger("test"));
+        assertTrue(pf.parsePom(pom.toFile()));
+
+        pf.setMaxDepth(2);
+        assertNull(pf.findMatchingPom(checkout.toFile()));
+
+        pf.setMaxDepth(3);
+        assertEquals(pom.toFile(), pf.findMatchingPom(checkout.toFile()));
+    }
+
+    private static Path createCheckout(String name) throws Exception {
+        Path checkout = Paths.get("target/test/pomfinder", name).toAbsolutePath();
+        FileUtils.deleteDirectory(checkout.toFile());
+        Files.createDirectories(checkout);
+        return checkout;
+    }
+
+    private Path copyPom(Path directory) throws Exception {
+        Files.createDirectories(directory);
+        Path pom = directory.resolve("pom1.xml");
+        Files.copy(
+                Paths.get(getClass().getClassLoader().getResource("pomfinder/pom1.xml").toURI()),
+                pom,
+                StandardCopyOption.REPLACE_EXISTING);
+        return pom;
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PomIdentityTest {
+    @Test
+    void testReadWithParent() throws Exception {
+        PomIdentity identity = PomIdentity.read(new File("src/test/resources/pomfinder/pom1.xml"));
+
+        assertNull(identity.getGroupId());
+        assertEquals("maven-release-manager", identity.getArtifactId());
+        assertEquals("org.apache.maven.release", identity.getParentGroupId());
+        assertEquals("maven-release-testartifact", identity.getParentArtifactId());
+        assertEquals("org.apache.maven.release", identity.getEffectiveGroupId());
+    }
+
+    @Test
+    void testReadMissingFile() throws Exception {
+        assertNull(PomIdentity.read(new File("src/test/resources/pomfinder/pomNothere.xml")));
+    }
+
+    @Test
+    void testReadNotAPom() throws Exception {
+        Path file = Paths.get("target/test/pomidentity/settings.xml");
+        Files.createDirectories(file.getParent());
+        Files.write(file, "<settings><localRepository/></settings>".getBytes(StandardCharsets.UTF_8));
+
+        assertNull(PomIdentity.read(file.toFile()));
+    }
+
+    @Test
+    void testReadLargePomLikeFullModel() throws Exception {
+        Path pom = Paths.get("target/test/pomidentity/large-pom.xml");
+        Files.createDirectories(pom.getParent());
+        try (Writer writer = Files.newBufferedWriter(pom, StandardCharsets.UTF_8)) {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<project>\n  <modelVersion>4.0.0</modelVersion>\n"
+                    + "  <!-- the coordinates after a comment -->\n  <groupId>org.example</groupId>\n"
+                    + "  <artifactId>large</artifactId>\n  <version>1.0</version>\n  <name>Large</name>\n"
+                    + "  <parent>\n    <groupId>org.example.parent</groupId>\n"
+                    + "    <artifactId>parent</artifactId>\n    <version>1</version>\n  </parent>\n"
+                    + "  <dependencies>\n");
+            for (int i = 0; i < 5000; i++) {
+                writer.write("    <dependency><groupId>org.example</groupId><artifactId>dependency-" + i
+                        + "</artifactId><version>1.0</version></dependency>\n");
+            }
+            writer.write("  </dependencies>\n</project>\n");
+        }
+
+        Model model;
+        try (InputStream in = Files.newInputStream(pom)) {
+            model = new MavenXpp3Reader().read(in);
+        }
+
+        PomIdentity identity = PomIdentity.read(pom.toFile());
+
+        assertEquals(model.getGroupId(), identity.getGroupId());
+        assertEquals(model.getArtifactId(), identity.getArtifactId());
+        assertEquals(model.getParent().getGroupId(), identity.getParentGroupId());
+        assertEquals(model.getParent().getArtifactId(), identity.getParentArtifactId());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.shared.release.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.maven.shared.release.config.ReleaseDescriptor;
+import org.apache.maven.shared.release.config.ReleaseDescriptorBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ReleaseTemplateTest {
+
+    static Stream<Arguments> parameters() {
+        return Stream.of(
+                Arguments.of("", ""),
+                Arguments.of("no placeholders", "no placeholders"),
+                Arguments.of("artifact-1.0", "@{artifactId}-@{version}"),
+                Arguments.of("[prefix] artifact 1.0.", "[@{prefix}] @{artifactId} @{version}."),
+                Arguments.of("artifact-@{unknown}", "@{artifactId}-@{unknown}"),
+                Arguments.of("artifact-@{}", "@{artifactId}-@{}"),
+                Arguments.of("artifact-@{version", "@{artifactId}-@{version"),
+                Arguments.of("@artifact}", "@@{artifactId}}"));
+    }
+
+    @ParameterizedTest(name = "expected result {0} for template {1}")
+    @MethodSource("parameters")
+    void testRender(String expected, String template) {
+        Map<String, String> values = new HashMap<>();
+        values.put("artifactId", "artifact");
+        values.put("version", "1.0");
+        values.put("prefix", "prefix");
+        assertEquals(expected, ReleaseTemplate.compile(template).render(values));
+    }
+
+    @Test
+    void testCompiledTemplateIsReusedDuringRelease() {
+        ReleaseDescriptor releaseDescriptor = new ReleaseDescriptorBuilder().build();
+        ReleaseDescriptor otherReleaseDescriptor = new ReleaseDescriptorBuilder().build();
+
+        assertSame(
+                ReleaseTemplate.compile(releaseDescriptor, "@{artifactId}-@{version}"),
+                ReleaseTemplate.compile(releaseDescriptor, "@{artifactId}-@{version}"));
+        assertNotSame(
+                ReleaseTemplate.compile(releaseDescriptor, "@{artifactId}-@{version}"),
+                ReleaseTemplate.compile(otherReleaseDescriptor, "@{artifactId}-@{version}"));
+    }
+}
@@ -115,6 +115,24 @@ public abstract class AbstractReleaseMojo extends AbstractMojo {
     @Parameter(defaultValue = "default", property = "releaseStrategyId")
     private String releaseStrategyId;
 
+    /**
+     * The time in seconds after which an execution of Maven goals, like the preparation or the release goals, is
+     * aborted and the processes it forked are killed. <code>0</code> waits without limit.
+     *
+     * @since 3.4
+     */
+    @Parameter(defaultValue = "0", property = "goalsTimeout")
+    private int goalsTimeout;
+
+    /**
+     * The file the output of the executions of Maven goals is appended to, instead of the console, when the
+     * <code>process-builder</code> Maven executor is used.
+     *
+     * @since 3.4
+     */
+    @Parameter(property = "goalsLogFile")
+    private File goalsLogFile;
+
     protected ReleaseManager releaseManager;
 
     protected AbstractReleaseMojo(ReleaseManager releaseManager) {
@@ -132,7 +150,9 @@ public abstract class AbstractReleaseMojo extends AbstractMojo {
                 .setJavaHome(javaHome)
                 .setMavenHome(mavenHome)
                 .setLocalRepositoryDirectory(localRepoDirectory)
-                .setMavenExecutorId(mavenExecutorId);
+                .setMavenExecutorId(mavenExecutorId)
+                .setGoalsTimeout(goalsTimeout)
+                .setGoalsLogFile(goalsLogFile);
     }
 
     /**
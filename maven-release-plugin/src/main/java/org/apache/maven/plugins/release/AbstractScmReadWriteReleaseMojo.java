@@ -79,6 +79,37 @@ public abstract class AbstractScmReadWriteReleaseMojo extends AbstractScmReadRel
     @Parameter(defaultValue = "true", property = "pushChanges")
     private boolean pushChanges = true;
 
+    /**
+     * Whether to defer pushing to the end of the release. The commits and the tag, or the branch with
+     * <code>release:branch</code>, are then only created locally, and pushed together in a single atomic push at the
+     * end, so that a failure on the way leaves the upstream repository untouched. A rollback likewise resets the POMs
+     * to the revision before the release, and pushes the rollback commit and the removal of the tag in a single atomic
+     * push. Only applicable if <code>pushChanges</code> is <code>true</code>, and currently only implemented for Git
+     * (it requires a <code>git</code> executable on the path).
+     *
+     * @since 3.4
+     */
+    @Parameter(defaultValue = "false", property = "deferPush")
+    private boolean deferPush;
+
+    /**
+     * Whether the reactor spans several SCM roots, e.g. an aggregator of projects from different Git repositories.
+     * A project whose <code>scm</code> declares a URL that is not below the one of its enclosing root starts a new
+     * root, and the status check, commits, tags and branches are then done separately for each root.
+     *
+     * @since 3.4
+     */
+    @Parameter(defaultValue = "false", property = "multipleScmRoots")
+    private boolean multipleScmRoots;
+
+    /**
+     * The maximum number of SCM roots worked on concurrently, if <code>multipleScmRoots</code> is <code>true</code>.
+     *
+     * @since 3.4
+     */
+    @Parameter(defaultValue = "4", property = "scmRootThreads")
+    private int scmRootThreads;
+
     /**
      * A workItem for SCMs like RTC, TFS etc, that may require additional
      * information to perform a pushChange operation.
@@ -104,6 +135,9 @@ public abstract class AbstractScmReadWriteReleaseMojo extends AbstractScmReadRel
         descriptor.setScmCommentPrefix(scmCommentPrefix);
 
         descriptor.setPushChanges(pushChanges);
+        descriptor.setDeferPush(deferPush);
+        descriptor.setMultipleScmRoots(multipleScmRoots);
+        descriptor.setScmRootThreads(scmRootThreads);
         descriptor.setWorkItem(workItem);
 
         return descriptor;
@@ -20,6 +20,7 @@ package org.apache.maven.plugins.release;
 
 import javax.inject.Inject;
 
+import java.io.File;
 import java.util.Arrays;
 
 import org.apache.maven.plugin.MojoExecutionException;
@@ -127,6 +128,19 @@ public class BranchReleaseMojo extends AbstractScmReadWriteReleaseMojo {
     @Parameter(defaultValue = "false", property = "autoVersionSubmodules")
     private boolean autoVersionSubmodules;
 
+    /**
+     * Release train mode: a regular expression grouping the modules into version streams, each stream getting a
+     * single next version for all its modules. It is matched against <code>groupId:path</code>, the path being the
+     * module directory relative to the root project with <code>/</code> separators, and the first capturing group
+     * (or the whole match) names the stream. For example <code>^[^:]+:([^/]+)</code> groups modules by top-level
+     * directory, including the module in that directory, while the root project, whose path is empty, doesn't match.
+     * Modules not matching are versioned individually. Ignored when <code>autoVersionSubmodules</code> applies.
+     *
+     * @since 3.4
+     */
+    @Parameter(property = "versionStreamPattern")
+    private String versionStreamPattern;
+
     /**
      * Dry run: don't checkin or tag anything in the scm repository, or modify the checkout.
      * Running <code>mvn -DdryRun=true release:prepare</code> is useful in order to check that modifications to
@@ -248,6 +262,17 @@ public class BranchReleaseMojo extends AbstractScmReadWriteReleaseMojo {
     @Parameter(defaultValue = "false", property = "pinExternals")
     private boolean pinExternals;
 
+    /**
+     * A file with the versions to use for the projects of the reactor, as an alternative to many
+     * <code>-Dproject.rel.groupId:artifactId=version</code> and <code>-Dproject.dev.groupId:artifactId=version</code>
+     * properties. Each line has the form <code>groupId:artifactId,releaseVersion[,developmentVersion]</code>, where
+     * either version may be left empty. Empty lines and lines starting with <code>#</code> are ignored.
+     *
+     * @since 3.4
+     */
+    @Parameter(property = "versionMappingFile")
+    private File versionMappingFile;
+
     @Inject
     public BranchReleaseMojo(ReleaseManager releaseManager, ScmManager scmManager) {
         super(releaseManager, scmManager);
@@ -262,6 +287,7 @@ public class BranchReleaseMojo extends AbstractScmReadWriteReleaseMojo {
         config.setScmUseEditMode(useEditMode);
         config.setUpdateDependencies(updateDependencies);
         config.setAutoVersionSubmodules(autoVersionSubmodules);
+        config.setVersionStreamPattern(versionStreamPattern);
         config.setScmReleaseLabel(branchName);
         config.setScmBranchBase(branchBase);
         config.setBranchCreation(true);
@@ -297,6 +323,7 @@ public class BranchReleaseMojo extends AbstractScmReadWriteReleaseMojo {
             branchRequest.setReleaseManagerListener(new DefaultReleaseManagerListener(getLog(), dryRun));
             branchRequest.setDryRun(dryRun);
             branchRequest.setUserProperties(session.getUserProperties());
+            branchRequest.setVersionMappingFile(versionMappingFile);
 
             releaseManager.branch(branchRequest);
         } catch (ReleaseExecutionException e) {
@@ -52,6 +52,17 @@ public class PerformReleaseMojo extends AbstractScmReadReleaseMojo {
     @Parameter(property = "goals")
     String goals;
 
+    /**
+     * The number of threads to build the project with while running the perform goals, in the format of the Maven
+     * <code>-T</code> option, e.g. <code>4</code> or <code>1C</code> for one thread per CPU core. An empty value runs
+     * the perform goals serially.
+     * A <code>-T</code> option in the <code>arguments</code> takes precedence.
+     *
+     * @since 3.4
+     */
+    @Parameter(defaultValue = "1C", property = "performThreads")
+    private String performThreads;
+
     /**
      * Comma separated profiles to enable on release perform, in addition to active profiles for project execution.
      *
@@ -77,6 +88,8 @@ public class PerformReleaseMojo extends AbstractScmReadReleaseMojo {
      * Use a local checkout instead of doing a checkout from the upstream repository.
      * ATTENTION: This will only work with distributed SCMs which support the file:// protocol
      * like e.g. git, jgit or hg!
+     * With <code>scm:git:</code> the working copy is cloned locally at the release tag (sharing its objects through
+     * hard links), and an unmodified clone already at that tag in the checkout directory is reused.
      *
      * TODO: we should think about having the defaults for the various SCM providers provided via modello!
      *
@@ -106,6 +119,18 @@ public class PerformReleaseMojo extends AbstractScmReadReleaseMojo {
     @Parameter(defaultValue = "false", property = "dryRun")
     private boolean dryRun;
 
+    /**
+     * Resume a previous release perform attempt from the point where it was stopped. The completed phases are
+     * recorded in the <code>release.properties</code> of a prepared release, so a release performed from
+     * <code>connectionUrl</code> and <code>releaseLabel</code> alone can't be resumed. An existing checkout of the
+     * release label is reused provided it is still at the revision recorded when it was checked out, and has no
+     * local modifications.
+     *
+     * @since 3.4
+     */
+    @Parameter(defaultValue = "false", property = "resume")
+    private boolean resume;
+
     @Inject
     public PerformReleaseMojo(ReleaseManager releaseManager, ScmManager scmManager) {
         super(releaseManager, scmManager);
@@ -135,12 +160,14 @@ public class PerformReleaseMojo extends AbstractScmReadReleaseMojo {
             }
 
             releaseDescriptor.setLocalCheckout(localCheckout);
+            releaseDescriptor.setReuseCheckout(resume);
 
             releaseDescriptor.setCheckoutDirectory(workingDirectory.getAbsolutePath());
             releaseDescriptor.setUseReleaseProfile(useReleaseProfile);
 
             createGoals();
             releaseDescriptor.setPerformGoals(goals);
+            releaseDescriptor.setPerformThreads(performThreads);
 
             ReleasePerformRequest performRequest = new ReleasePerformRequest();
             performRequest.setReleaseDescriptorBuilder(releaseDescriptor);
@@ -148,6 +175,7 @@ public class PerformReleaseMojo extends AbstractScmReadReleaseMojo {
             performRequest.setReactorProjects(getReactorProjects());
             performRequest.setReleaseManagerListener(new DefaultReleaseManagerListener(getLog(), dryRun));
             performRequest.setDryRun(dryRun);
+            performRequest.setResume(resume);
 
             releaseManager.perform(performRequest);
         } catch (ReleaseExecutionException e) {
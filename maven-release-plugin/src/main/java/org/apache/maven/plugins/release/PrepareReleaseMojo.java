@@ -20,6 +20,7 @@ package org.apache.maven.plugins.release;
 
 import javax.inject.Inject;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -94,6 +95,19 @@ public class PrepareReleaseMojo extends AbstractScmReadWriteReleaseMojo {
     @Parameter(defaultValue = "false", property = "autoVersionSubmodules")
     private boolean autoVersionSubmodules;
 
+    /**
+     * Release train mode: a regular expression grouping the modules into version streams, each stream getting a
+     * single next version for all its modules. It is matched against <code>groupId:path</code>, the path being the
+     * module directory relative to the root project with <code>/</code> separators, and the first capturing group
+     * (or the whole match) names the stream. For example <code>^[^:]+:([^/]+)</code> groups modules by top-level
+     * directory, including the module in that directory, while the root project, whose path is empty, doesn't match.
+     * Modules not matching are versioned individually. Ignored when <code>autoVersionSubmodules</code> applies.
+     *
+     * @since 3.4
+     */
+    @Parameter(property = "versionStreamPattern")
+    private String versionStreamPattern;
+
     /**
      * Dry run: don't checkin or tag anything in the scm repository, or modify the checkout. Running
      * <code>mvn -DdryRun=true release:prepare</code> is useful in order to check that modifications to poms and scm
@@ -123,6 +137,47 @@ public class PrepareReleaseMojo extends AbstractScmReadWriteReleaseMojo {
     @Parameter(defaultValue = "clean verify", property = "preparationGoals")
     private String preparationGoals;
 
+    /**
+     * The number of threads to build the project with while running the preparation goals, in the format of the Maven
+     * <code>-T</code> option, e.g. <code>4</code> or <code>1C</code> for one thread per CPU core. An empty value runs
+     * the preparation goals serially.
+     * A <code>-T</code> option in the <code>arguments</code> takes precedence.
+     *
+     * @since 3.4
+     */
+    @Parameter(defaultValue = "1C", property = "preparationThreads")
+    private String preparationThreads;
+
+    /**
+     * Whether the preparation goals only build the projects whose POM has been rewritten for the release, and the
+     * projects depending on them, using the <code>-pl</code> and <code>-amd</code> options of Maven. This is useful
+     * if only some of the projects are released, e.g. with <code>autoVersionSubmodules</code> disabled.
+     *
+     * @since 3.4
+     */
+    @Parameter(defaultValue = "false", property = "incrementalPreparationGoals")
+    private boolean incrementalPreparationGoals;
+
+    /**
+     * Whether the tests are only run by the preparation goals. The content of the build they verified is stashed in
+     * the <code>verificationDirectory</code>, keyed by the release tag, and <code>release:perform</code> then skips
+     * the tests if the checked-out tag has the same content. Nothing is stashed with
+     * <code>incrementalPreparationGoals</code>, as the preparation goals may not verify the whole reactor.
+     *
+     * @since 3.4
+     */
+    @Parameter(defaultValue = "false", property = "verifyOnce")
+    private boolean verifyOnce;
+
+    /**
+     * The directory in which the content of the builds verified by the preparation goals is stashed, if
+     * <code>verifyOnce</code> is set.
+     *
+     * @since 3.4
+     */
+    @Parameter(defaultValue = "${project.build.directory}/release-verification", property = "verificationDirectory")
+    private File verificationDirectory;
+
     /**
      * Goals to run on completion of the preparation step, after transformation back to the next development version but
      * before committing. Space delimited.
@@ -204,6 +259,17 @@ public class PrepareReleaseMojo extends AbstractScmReadWriteReleaseMojo {
     @Parameter(defaultValue = "true", property = "remoteTagging")
     private boolean remoteTagging;
 
+    /**
+     * Currently only implemented with svn scm. Creates the tag on the server from the revision of the working copy
+     * together with the POMs rewritten for the release, in a single commit made with <code>svnmucc</code>. The
+     * release POMs are not committed to the working copy, so no revision of the trunk ever holds released versions,
+     * and the release needs one commit less.
+     *
+     * @since 3.4
+     */
+    @Parameter(defaultValue = "false", property = "remoteTaggingWithModifications")
+    private boolean remoteTaggingWithModifications;
+
     /**
      * Signs SCM tag when possible, for example when using the git-exe the '--sign' argument is used.
      *
@@ -243,6 +309,16 @@ public class PrepareReleaseMojo extends AbstractScmReadWriteReleaseMojo {
     @Parameter(defaultValue = "0", property = "waitBeforeTagging")
     private int waitBeforeTagging;
 
+    /**
+     * Poll the server for the revision of the committed release POMs before creating the tag, instead of waiting
+     * unconditionally. The tag is created as soon as the revision is visible, and <code>waitBeforeTagging</code> is
+     * then the maximum number of seconds to wait for it.
+     *
+     * @since 3.4
+     */
+    @Parameter(defaultValue = "false", property = "pollBeforeTagging")
+    private boolean pollBeforeTagging;
+
     /**
      * The role-hint for the {@link org.apache.maven.shared.release.policy.version.VersionPolicy}
      * implementation used to calculate the project versions.
@@ -337,6 +413,17 @@ public class PrepareReleaseMojo extends AbstractScmReadWriteReleaseMojo {
     @Parameter(defaultValue = "false", property = "pinExternals")
     private boolean pinExternals;
 
+    /**
+     * A file with the versions to use for the projects of the reactor, as an alternative to many
+     * <code>-Dproject.rel.groupId:artifactId=version</code> and <code>-Dproject.dev.groupId:artifactId=version</code>
+     * properties. Each line has the form <code>groupId:artifactId,releaseVersion[,developmentVersion]</code>, where
+     * either version may be left empty. Empty lines and lines starting with <code>#</code> are ignored.
+     *
+     * @since 3.4
+     */
+    @Parameter(property = "versionMappingFile")
+    private File versionMappingFile;
+
     @Inject
     public PrepareReleaseMojo(ReleaseManager releaseManager, ScmManager scmManager) {
         super(releaseManager, scmManager);
@@ -396,19 +483,28 @@ public class PrepareReleaseMojo extends AbstractScmReadWriteReleaseMojo {
         config.setGenerateReleasePoms(generateReleasePoms);
         config.setScmUseEditMode(useEditMode);
         config.setPreparationGoals(preparationGoals);
+        config.setPreparationThreads(preparationThreads);
+        config.setIncrementalPreparationGoals(incrementalPreparationGoals);
+        config.setVerifyOnce(verifyOnce);
+        if (verificationDirectory != null) {
+            config.setVerificationDirectory(verificationDirectory.getAbsolutePath());
+        }
         config.setCompletionGoals(completionGoals);
         config.setCommitByProject(commitByProject);
         config.setUpdateDependencies(updateDependencies);
         config.setAutoVersionSubmodules(autoVersionSubmodules);
+        config.setVersionStreamPattern(versionStreamPattern);
         config.setAllowTimestampedSnapshots(allowTimestampedSnapshots);
         config.setSnapshotReleasePluginAllowed(allowReleasePluginSnapshot);
         config.setDefaultReleaseVersion(releaseVersion);
         config.setDefaultDevelopmentVersion(developmentVersion);
         config.setRemoteTagging(remoteTagging);
+        config.setRemoteTaggingWithModifications(remoteTaggingWithModifications);
         config.setScmSignTags(signTag);
         config.setUpdateWorkingCopyVersions(updateWorkingCopyVersions);
         config.setSuppressCommitBeforeTagOrBranch(suppressCommitBeforeTag);
         config.setWaitBeforeTagging(waitBeforeTagging);
+        config.setPollBeforeTagging(pollBeforeTagging);
         config.setProjectVersionPolicyId(projectVersionPolicyId);
         if (projectVersionPolicyConfig != null) {
             config.setProjectVersionPolicyConfig(projectVersionPolicyConfig.toString());
@@ -437,6 +533,7 @@ public class PrepareReleaseMojo extends AbstractScmReadWriteReleaseMojo {
         prepareRequest.setResume(resume);
         prepareRequest.setDryRun(dryRun);
         prepareRequest.setUserProperties(session.getUserProperties());
+        prepareRequest.setVersionMappingFile(versionMappingFile);
 
         try {
             releaseManager.prepare(prepareRequest);
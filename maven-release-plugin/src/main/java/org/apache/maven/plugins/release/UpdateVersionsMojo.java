@@ -20,6 +20,8 @@ package org.apache.maven.plugins.release;
 
 import javax.inject.Inject;
 
+import java.io.File;
+
 import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -54,6 +56,19 @@ public class UpdateVersionsMojo extends AbstractReleaseMojo {
     @Parameter(defaultValue = "false", property = "autoVersionSubmodules")
     private boolean autoVersionSubmodules;
 
+    /**
+     * Release train mode: a regular expression grouping the modules into version streams, each stream getting a
+     * single next version for all its modules. It is matched against <code>groupId:path</code>, the path being the
+     * module directory relative to the root project with <code>/</code> separators, and the first capturing group
+     * (or the whole match) names the stream. For example <code>^[^:]+:([^/]+)</code> groups modules by top-level
+     * directory, including the module in that directory, while the root project, whose path is empty, doesn't match.
+     * Modules not matching are versioned individually. Ignored when <code>autoVersionSubmodules</code> applies.
+     *
+     * @since 3.4
+     */
+    @Parameter(property = "versionStreamPattern")
+    private String versionStreamPattern;
+
     /**
      * Whether to add a schema to the POM if it was previously missing on release.
      *
@@ -103,6 +118,17 @@ public class UpdateVersionsMojo extends AbstractReleaseMojo {
     @Parameter(property = "projectVersionPolicyConfig")
     private PlexusConfiguration projectVersionPolicyConfig;
 
+    /**
+     * A file with the versions to use for the projects of the reactor, as an alternative to many
+     * <code>-Dproject.rel.groupId:artifactId=version</code> and <code>-Dproject.dev.groupId:artifactId=version</code>
+     * properties. Each line has the form <code>groupId:artifactId,releaseVersion[,developmentVersion]</code>, where
+     * either version may be left empty. Empty lines and lines starting with <code>#</code> are ignored.
+     *
+     * @since 3.4
+     */
+    @Parameter(property = "versionMappingFile")
+    private File versionMappingFile;
+
     @Inject
     public UpdateVersionsMojo(ReleaseManager releaseManager) {
         super(releaseManager);
@@ -113,6 +139,7 @@ public class UpdateVersionsMojo extends AbstractReleaseMojo {
         final ReleaseDescriptorBuilder config = createReleaseDescriptor();
         config.setAddSchema(addSchema);
         config.setAutoVersionSubmodules(autoVersionSubmodules);
+        config.setVersionStreamPattern(versionStreamPattern);
         config.setDefaultDevelopmentVersion(developmentVersion);
         config.setScmUseEditMode(useEditMode);
         config.setUpdateDependencies(updateDependencies);
@@ -130,6 +157,7 @@ public class UpdateVersionsMojo extends AbstractReleaseMojo {
             updateVersionsRequest.setReactorProjects(getReactorProjects());
             updateVersionsRequest.setReleaseManagerListener(new DefaultReleaseManagerListener(getLog()));
             updateVersionsRequest.setUserProperties(session.getUserProperties());
+            updateVersionsRequest.setVersionMappingFile(versionMappingFile);
 
             releaseManager.updateVersions(updateVersionsRequest);
         } catch (ReleaseExecutionException e) {
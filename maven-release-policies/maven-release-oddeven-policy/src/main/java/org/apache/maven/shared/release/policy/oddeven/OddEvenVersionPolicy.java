@@ -21,7 +21,9 @@ package org.apache.maven.shared.release.policy.oddeven;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.math.BigInteger;
 import java.util.List;
+import java.util.Objects;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.shared.release.policy.PolicyException;
@@ -46,6 +48,13 @@ import org.eclipse.sisu.Description;
 @Description("A VersionPolicy implementation that selects even version numbers only for releases")
 public final class OddEvenVersionPolicy implements VersionPolicy {
 
+    private static final String DEFAULT_SEPARATOR = "-";
+
+    /**
+     * Decimal segments shorter than this always fit in a <code>long</code>, even after being incremented.
+     */
+    private static final int MAX_LONG_SEGMENT_LENGTH = 18;
+
     @Override
     public VersionPolicyResult getReleaseVersion(VersionPolicyRequest request) throws PolicyException {
         return calculateNextVersion(request, false);
@@ -65,41 +74,82 @@ public final class OddEvenVersionPolicy implements VersionPolicy {
             throw new IllegalArgumentException("Can't tell if version with no digits is even: " + e.getMessage(), e);
         }
 
-        Version newVersion = newVersion(defaultVersionInfo, development);
-
-        return new VersionPolicyResult().setVersion(newVersion.toString());
+        return new VersionPolicyResult().setVersion(newVersion(defaultVersionInfo, development));
     }
 
-    private Version newVersion(Version defaultVersionInfo, boolean development) {
-        Version newVersion;
-        int mostSignificantSegment;
-
-        if (StringUtils.isNumeric(defaultVersionInfo.getAnnotationRevision())) {
-            mostSignificantSegment = Integer.parseInt(defaultVersionInfo.getAnnotationRevision());
+    /**
+     * Computes the next version straight from the parsed version segments, bumping the most significant segment
+     * (the annotation revision if any, the last digit otherwise) as a decimal string so that segments wider than
+     * an <code>int</code>, like date based versions, are supported as well.
+     */
+    private String newVersion(Version defaultVersionInfo, boolean development) {
+        List<String> digits = defaultVersionInfo.getDigits();
+        String annotation = defaultVersionInfo.getAnnotation();
+        String annotationRevision = defaultVersionInfo.getAnnotationRevision();
+        String annotationRevSeparator = defaultVersionInfo.getAnnotationRevSeparator();
+        boolean bumpAnnotationRevision = StringUtils.isNumeric(annotationRevision);
+
+        if (!bumpAnnotationRevision && digits == null) {
+            throw new IllegalArgumentException("Can't tell if version with no digits is even.");
+        }
 
-            int skip = getVersionIncrements(development, mostSignificantSegment % 2 == 0);
+        StringBuilder sb = new StringBuilder(defaultVersionInfo.toString().length() + 10);
+
+        if (digits != null) {
+            int last = digits.size() - 1;
+            for (int i = 0; i <= last; i++) {
+                if (i > 0) {
+                    sb.append('.');
+                }
+                if (i == last && !bumpAnnotationRevision) {
+                    appendNextSegment(sb, digits.get(i), development);
+                } else {
+                    sb.append(digits.get(i));
+                }
+            }
+        }
 
-            newVersion = defaultVersionInfo.setAnnotationRevision(String.valueOf(mostSignificantSegment + skip));
-        } else {
-            List<String> digits = defaultVersionInfo.getDigits();
+        boolean hasAnnotation = annotation != null && !annotation.isEmpty();
+        if (hasAnnotation) {
+            sb.append(Objects.toString(defaultVersionInfo.getAnnotationSeparator(), ""));
+            sb.append(annotation);
+        }
 
-            if (digits == null) {
-                throw new IllegalArgumentException("Can't tell if version with no digits is even.");
+        if (annotationRevision != null && !annotationRevision.isEmpty()) {
+            if (!hasAnnotation) {
+                sb.append(Objects.toString(defaultVersionInfo.getAnnotationSeparator(), ""));
+            } else if (bumpAnnotationRevision) {
+                sb.append(Objects.toString(annotationRevSeparator, DEFAULT_SEPARATOR));
+            } else {
+                sb.append(Objects.toString(annotationRevSeparator, ""));
             }
+            if (bumpAnnotationRevision) {
+                appendNextSegment(sb, annotationRevision, development);
+            } else {
+                sb.append(annotationRevision);
+            }
+        }
 
-            mostSignificantSegment = Integer.parseInt(digits.get(digits.size() - 1));
-
-            int skip = getVersionIncrements(development, mostSignificantSegment % 2 == 0);
+        if (development) {
+            sb.append(Objects.toString(defaultVersionInfo.getBuildSeparator(), DEFAULT_SEPARATOR));
+            sb.append(Artifact.SNAPSHOT_VERSION);
+        }
 
-            digits.set(digits.size() - 1, String.valueOf(mostSignificantSegment + skip));
+        return sb.toString();
+    }
 
-            newVersion = defaultVersionInfo.setDigits(digits);
-        }
+    /**
+     * Appends the next value of the given decimal segment: <code>long</code> arithmetic is used whenever the result
+     * is guaranteed to fit, <code>BigInteger</code> otherwise.
+     */
+    private void appendNextSegment(StringBuilder sb, String segment, boolean development) {
+        boolean isEven = (segment.charAt(segment.length() - 1) - '0') % 2 == 0;
+        int skip = getVersionIncrements(development, isEven);
 
-        if (development) {
-            return newVersion.setBuildSpecifier(Artifact.SNAPSHOT_VERSION);
+        if (segment.length() < MAX_LONG_SEGMENT_LENGTH) {
+            sb.append(Long.parseLong(segment) + skip);
         } else {
-            return newVersion.setBuildSpecifier(null);
+            sb.append(new BigInteger(segment).add(BigInteger.valueOf(skip)));
         }
     }
 
@@ -20,6 +20,7 @@ package org.apache.maven.shared.release.policy.oddeven;
 
 import org.apache.maven.shared.release.policy.version.VersionPolicy;
 import org.apache.maven.shared.release.policy.version.VersionPolicyRequest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -35,7 +36,11 @@ final class OddEvenVersionPolicyTestCase {
         "1.0.1, 1.0.3-SNAPSHOT",
         "1.0.2, 1.0.3-SNAPSHOT",
         "1.1.0, 1.1.1-SNAPSHOT",
-        "1.1.1, 1.1.3-SNAPSHOT"
+        "1.1.1, 1.1.3-SNAPSHOT",
+        "1.0-beta-2, 1.0-beta-3-SNAPSHOT",
+        "1.0-beta-3, 1.0-beta-5-SNAPSHOT",
+        "2024.06.20240615, 2024.06.20240617-SNAPSHOT",
+        "1.99999999999999999998, 1.99999999999999999999-SNAPSHOT"
     })
     void testConvertToSnapshot(String requested, String expected) throws Exception {
         String suggestedVersion = versionPolicy
@@ -52,7 +57,11 @@ final class OddEvenVersionPolicyTestCase {
         "1.0.2-SNAPSHOT, 1.0.2",
         "1.0.3-SNAPSHOT, 1.0.4",
         "1.1.0-SNAPSHOT, 1.1.0",
-        "1.1.1-SNAPSHOT, 1.1.2"
+        "1.1.1-SNAPSHOT, 1.1.2",
+        "1.0-beta-1-SNAPSHOT, 1.0-beta-2",
+        "1.0_RC_2_SNAPSHOT, 1.0_RC_2",
+        "2024.06.20240615-SNAPSHOT, 2024.06.20240616",
+        "1.99999999999999999999-SNAPSHOT, 1.100000000000000000000"
     })
     void testConvertToRelease(String requested, String expected) throws Exception {
         String suggestedVersion = versionPolicy
@@ -62,6 +71,27 @@ final class OddEvenVersionPolicyTestCase {
         assertEquals(expected, suggestedVersion);
     }
 
+    @Test
+    void testBulkReleaseTrain() throws Exception {
+        // a release train of many modules, each with its own version stream
+        for (int module = 0; module < 400; module++) {
+            String development = "3." + module + "." + (2 * module + 1) + "-SNAPSHOT";
+            String release = "3." + module + "." + (2 * module + 2);
+            String nextDevelopment = "3." + module + "." + (2 * module + 3) + "-SNAPSHOT";
+
+            assertEquals(
+                    release,
+                    versionPolicy
+                            .getReleaseVersion(newVersionPolicyRequest(development))
+                            .getVersion());
+            assertEquals(
+                    nextDevelopment,
+                    versionPolicy
+                            .getDevelopmentVersion(newVersionPolicyRequest(release))
+                            .getVersion());
+        }
+    }
+
     private static VersionPolicyRequest newVersionPolicyRequest(String version) {
         return new VersionPolicyRequest().setVersion(version);
     }